@@ -0,0 +1,84 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import com.tiagoreiz.projeto.Infra.Persistence.Entities.TaskPersistence;
+import com.tiagoreiz.projeto.Infra.Persistence.Entities.UserPersistence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geração determinística de dados para os benchmarks.
+ * Metade das tarefas é pendente com data de vencimento, para exercitar os campos derivados.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+final class BenchmarkData {
+
+    static final long USER_ID = 42L;
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private BenchmarkData() {
+    }
+
+    static Task task(int index, LocalDateTime now) {
+        Task task = new Task();
+        task.setId((long) index + 1);
+        task.setTitle("Benchmark task " + index);
+        task.setDescription("Description of benchmark task number " + index + " used to measure mapping cost");
+        task.setPriority(PRIORITIES[index % PRIORITIES.length]);
+        task.setUserId(USER_ID);
+        task.setCreatedAt(now.minusDays(index % 30));
+        task.setUpdatedAt(now.minusHours(index % 24));
+        task.setVersion((long) index % 5);
+        if (index % 2 == 0) {
+            task.setStatus(TaskStatus.PENDING);
+            task.setDueDate(now.plusDays((index % 20) - 5));
+        } else {
+            task.setStatus(TaskStatus.COMPLETED);
+            task.setCompletedAt(now.minusHours(1));
+        }
+        return task;
+    }
+
+    static List<Task> tasks(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(task(i, now));
+        }
+        return tasks;
+    }
+
+    static List<TaskPersistence> persistentTasks(int size) {
+        UserPersistence user = new UserPersistence();
+        user.setId(USER_ID);
+        user.setName("Benchmark User");
+        user.setEmail("benchmark@example.com");
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskPersistence> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = task(i, now);
+            TaskPersistence persistence = new TaskPersistence();
+            persistence.setId(task.getId());
+            persistence.setTitle(task.getTitle());
+            persistence.setDescription(task.getDescription());
+            persistence.setStatus(task.getStatus());
+            persistence.setPriority(task.getPriority());
+            persistence.setCreatedAt(task.getCreatedAt());
+            persistence.setUpdatedAt(task.getUpdatedAt());
+            persistence.setDueDate(task.getDueDate());
+            persistence.setCompletedAt(task.getCompletedAt());
+            persistence.setVersion(task.getVersion());
+            persistence.setUser(user);
+            tasks.add(persistence);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,38 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do jar de benchmarks.
+ * Aceita as mesmas opções do JMH e sempre habilita o profiler de GC,
+ * para que a taxa de alocação seja reportada junto com o tempo por operação.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                 # todos os benchmarks
+ * java -jar target/benchmarks.jar Validation      # filtro por expressão regular
+ * java -jar target/benchmarks.jar -rf json        # resultado em JSON
+ * </pre>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tamanho do payload e custo de codificação/decodificação da listagem de tarefas
+ * em JSON, CBOR e Smile, com ObjectMappers configurados como os da aplicação.
+ * O tamanho em bytes aparece no resultado como o contador auxiliar payloadBytes.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String format;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<TaskResponse> responses;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "CBOR" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "SMILE" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        responses = TaskMapper.INSTANCE.toResponseList(BenchmarkData.tasks(size), LocalDateTime.now());
+        encoded = mapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(responses);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<TaskResponse> decode() throws IOException {
+        return mapper.readValue(encoded, RESPONSE_LIST);
+    }
+
+    /**
+     * Tamanho do último payload codificado, reportado junto com o tempo
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+}
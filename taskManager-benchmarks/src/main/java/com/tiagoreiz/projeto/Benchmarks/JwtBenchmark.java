@@ -0,0 +1,90 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.tiagoreiz.projeto.Infra.Security.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da emissão e da leitura de tokens JWT, executadas respectivamente
+ * no login e em toda requisição autenticada.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "taskmaster-secret-key-for-jwt-tokens-should-be-very-long-and-secure";
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // O JwtService recebe a configuração por @Value; aqui ela é atribuída diretamente
+        jwtService = new JwtService(Clock.systemDefaultZone());
+        setField(jwtService, "jwtSecret", SECRET);
+        setField(jwtService, "jwtExpiration", EXPIRATION_MS);
+
+        userDetails = User.withUsername("benchmark@example.com")
+                .password("unused")
+                .authorities(List.of())
+                .build();
+        token = jwtService.generateTokenWithUserId(userDetails, BenchmarkData.USER_ID);
+    }
+
+    @Benchmark
+    public String generateTokenWithUserId() {
+        return jwtService.generateTokenWithUserId(userDetails, BenchmarkData.USER_ID);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return jwtService.extractUserId(token);
+    }
+
+    /**
+     * Caminho completo do filtro de autenticação: usuário, validade e ID
+     */
+    @Benchmark
+    public Long authenticateRequest() {
+        String username = jwtService.extractUsername(token);
+        if (username != null && jwtService.isTokenValid(token, userDetails)) {
+            return jwtService.extractUserId(token);
+        }
+        return null;
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,152 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.Duration;
+import com.tiagoreiz.projeto.Adapters.Controllers.TaskController;
+import com.tiagoreiz.projeto.Infra.Logging.RequestIdFilter;
+import com.tiagoreiz.projeto.Infra.Logging.SamplingTurboFilter;
+import com.tiagoreiz.projeto.Infra.Security.JwtAuthenticationFilter;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de logging por requisição na thread da requisição: as duas linhas INFO
+ * de criação de tarefa do TaskController, a linha DEBUG (desligada) do JwtAuthenticationFilter
+ * e o requestId no MDC.
+ *
+ * <ul>
+ *   <li>SYNC_PATTERN: FileAppender síncrono com o padrão de texto usado antes no profile docker</li>
+ *   <li>ASYNC_JSON: ring buffer + JSON, como em logback-spring.xml</li>
+ *   <li>ASYNC_JSON_SAMPLED: idem, com as linhas do TaskController amostradas 1 a cada 10</li>
+ * </ul>
+ *
+ * O modo assíncrono descarta eventos com o buffer cheio; com várias threads (-t 8)
+ * o resultado mostra o custo em regime de saturação, e não o tempo de escrita em disco.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String LEGACY_PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n";
+    private static final int SAMPLE_EVERY = 10;
+
+    @Param({"SYNC_PATTERN", "ASYNC_JSON", "ASYNC_JSON_SAMPLED"})
+    public String mode;
+
+    private LoggerContext context;
+    private org.slf4j.Logger controllerLogger;
+    private org.slf4j.Logger filterLogger;
+    private Path file;
+    private long taskId;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("taskmaster-logging-", ".log");
+
+        // O fork do JMH tem uma JVM própria, então o contexto global pode ser reconfigurado
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        boolean async = !mode.equals("SYNC_PATTERN");
+        Appender<ILoggingEvent> appender = async ? asyncJsonAppender() : fileAppender(patternEncoder());
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        if (mode.equals("ASYNC_JSON_SAMPLED")) {
+            SamplingTurboFilter sampling = new SamplingTurboFilter();
+            sampling.setContext(context);
+            sampling.setLoggers(TaskController.class.getName());
+            sampling.setSampleEvery(SAMPLE_EVERY);
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+
+        controllerLogger = LoggerFactory.getLogger(TaskController.class);
+        filterLogger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void createTaskRequest() {
+        long id = ++taskId;
+        MDC.put(RequestIdFilter.MDC_KEY, Long.toHexString(id | Long.MIN_VALUE));
+        try {
+            filterLogger.debug("User '{}' authenticated successfully with JWT token", "benchmark@example.com");
+            controllerLogger.info("Creating task for user {}: {}", BenchmarkData.USER_ID, "Prepare release notes");
+            controllerLogger.info("Task created successfully with ID: {}", id);
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+    }
+
+    private Appender<ILoggingEvent> asyncJsonAppender() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.addIncludeMdcKeyName(RequestIdFilter.MDC_KEY);
+        encoder.start();
+
+        LoggingEventAsyncDisruptorAppender async = new LoggingEventAsyncDisruptorAppender();
+        async.setContext(context);
+        async.setRingBufferSize(8192);
+        async.setAppendTimeout(Duration.buildByMilliseconds(0));
+        async.addAppender(fileAppender(encoder));
+        async.start();
+        return async;
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(LEGACY_PATTERN);
+        encoder.start();
+        return encoder;
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,70 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Infra.Persistence.Entities.TaskPersistence;
+import com.tiagoreiz.projeto.Infra.Persistence.Mappers.TaskPersistenceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das conversões em lote usadas na listagem de tarefas:
+ * persistência para domínio e domínio para DTO de resposta.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int size;
+
+    private final TaskMapper taskMapper = TaskMapper.INSTANCE;
+    private final TaskPersistenceMapper taskPersistenceMapper = TaskPersistenceMapper.INSTANCE;
+
+    private List<Task> tasks;
+    private List<TaskPersistence> persistentTasks;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        tasks = BenchmarkData.tasks(size);
+        persistentTasks = BenchmarkData.persistentTasks(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponseList() {
+        return taskMapper.toResponseList(tasks, now);
+    }
+
+    @Benchmark
+    public List<Task> toDomainList() {
+        return taskPersistenceMapper.toDomainList(persistentTasks);
+    }
+
+    @Benchmark
+    public List<TaskResponse> toDomainAndResponseList() {
+        return taskMapper.toResponseList(taskPersistenceMapper.toDomainList(persistentTasks), now);
+    }
+}
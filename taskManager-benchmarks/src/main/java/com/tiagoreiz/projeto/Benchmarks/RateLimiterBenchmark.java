@@ -0,0 +1,54 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.tiagoreiz.projeto.Infra.Resilience.UserRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do limite de taxa por usuário com várias threads concorrentes.
+ * HOT_USER concentra todas as threads no mesmo bucket (pior caso de contenção no CAS);
+ * MANY_USERS distribui as chamadas entre 100 mil usuários.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int USERS = 100_000;
+
+    @Param({"HOT_USER", "MANY_USERS"})
+    public String distribution;
+
+    private UserRateLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        limiter = new UserRateLimiter(100, 50.0, 16, TimeUnit.MINUTES.toNanos(5));
+    }
+
+    @Benchmark
+    public UserRateLimiter.Decision tryAcquire() {
+        long userId = distribution.equals("HOT_USER") ? BenchmarkData.USER_ID : ThreadLocalRandom.current().nextInt(USERS);
+        return limiter.tryAcquire(userId);
+    }
+}
@@ -0,0 +1,64 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.tiagoreiz.projeto.Core.Common.Result;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do encadeamento de Result usado pelos casos de uso e controllers.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    private long value = 42L;
+    private final Exception error = new TaskNotFoundException(42L);
+
+    @Benchmark
+    public Long successChain() {
+        Result<Long, Exception> result = Result.success(value);
+        return result
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .onFailure(e -> { throw new IllegalStateException(e); })
+                .getValueOrThrow();
+    }
+
+    @Benchmark
+    public boolean failureChain() {
+        Result<Long, Exception> result = Result.failure(error);
+        return result
+                .map(v -> v + 1)
+                .mapError(e -> (Exception) new IllegalStateException(e.getMessage(), e))
+                .isFailure();
+    }
+
+    /**
+     * Padrão usado nos controllers: verificar sucesso e extrair o valor via Optional
+     */
+    @Benchmark
+    public Long optionalAccess() {
+        Result<Long, Exception> result = Result.success(value);
+        if (result.isFailure()) {
+            return null;
+        }
+        return result.getValue().get();
+    }
+}
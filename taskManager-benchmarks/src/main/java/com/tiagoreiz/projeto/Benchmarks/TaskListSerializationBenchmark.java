@@ -0,0 +1,77 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Adapters.Serialization.TaskJsonFragmentCache;
+import com.tiagoreiz.projeto.Core.Common.CoarseClock;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de serializar a listagem de tarefas: TaskMapper + Jackson a cada chamada
+ * contra a concatenação dos fragmentos do TaskJsonFragmentCache já aquecido.
+ * O setup falha se as duas formas não produzirem os mesmos bytes.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final TaskMapper taskMapper = TaskMapper.INSTANCE;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Clock clock = new CoarseClock(Clock.systemDefaultZone());
+
+    private List<Task> tasks;
+    private TaskJsonFragmentCache fragmentCache;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        tasks = BenchmarkData.tasks(size);
+        fragmentCache = new TaskJsonFragmentCache(taskMapper, objectMapper, new SimpleMeterRegistry(),
+                clock, true, 64L * 1024 * 1024);
+
+        byte[] expected = mapAndSerialize();
+        fragmentCache.writeList(tasks);
+        if (!Arrays.equals(expected, fragmentCache.writeList(tasks))) {
+            throw new IllegalStateException("Fragment cache output differs from TaskMapper + Jackson output");
+        }
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskMapper.toResponseList(tasks, TimeProvider.now(clock)));
+    }
+
+    @Benchmark
+    public byte[] cachedFragments() {
+        return fragmentCache.writeList(tasks);
+    }
+}
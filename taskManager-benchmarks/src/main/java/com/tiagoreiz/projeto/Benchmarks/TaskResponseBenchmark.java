@@ -0,0 +1,82 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Core.Common.CoarseClock;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do cálculo dos campos derivados (isOverdue e daysUntilDue) do TaskResponse,
+ * lendo o horário do relógio do sistema ou do CoarseClock a cada chamada.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskResponseBenchmark {
+
+    @Param({"system", "coarse"})
+    private String clock;
+
+    private Clock timeSource;
+    private Task pendingTask;
+    private Task completedTask;
+    private TaskResponse response;
+
+    @Setup
+    public void setUp() {
+        Clock system = Clock.systemDefaultZone();
+        timeSource = "coarse".equals(clock) ? new CoarseClock(system) : system;
+        LocalDateTime now = TimeProvider.now(timeSource);
+        pendingTask = BenchmarkData.task(0, now);
+        completedTask = BenchmarkData.task(1, now);
+        response = newResponse(pendingTask, now);
+    }
+
+    @Benchmark
+    public LocalDateTime now() {
+        return TimeProvider.now(timeSource);
+    }
+
+    @Benchmark
+    public TaskResponse constructPending() {
+        return newResponse(pendingTask, TimeProvider.now(timeSource));
+    }
+
+    @Benchmark
+    public TaskResponse constructCompleted() {
+        return newResponse(completedTask, TimeProvider.now(timeSource));
+    }
+
+    @Benchmark
+    public Long updateDerivedFields() {
+        response.updateDerivedFields(TimeProvider.now(timeSource));
+        return response.getDaysUntilDue();
+    }
+
+    private static TaskResponse newResponse(Task task, LocalDateTime now) {
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getCreatedAt(), task.getUpdatedAt(),
+                task.getDueDate(), task.getCompletedAt(), task.getUserId(), now);
+    }
+}
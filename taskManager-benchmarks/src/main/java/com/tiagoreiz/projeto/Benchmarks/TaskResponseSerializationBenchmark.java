@@ -0,0 +1,128 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.tiagoreiz.projeto.Adapters.DTOs.ErrorResponse;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Adapters.Serialization.ApiSerializersModule;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização da listagem de TaskResponse com o ObjectMapper padrão contra o ObjectMapper
+ * ajustado das APIs (Blackbird + serializadores escritos à mão).
+ *
+ * O setup funciona como teste de compatibilidade: os dois mappers precisam produzir os mesmos
+ * bytes para as tarefas do benchmark, para casos de borda de datas (segundos zerados, frações
+ * de nanos, anos fora de 1..9999, campos nulos) e para ErrorResponse com erros de validação.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper tunedMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new BlackbirdModule(), new ApiSerializersModule())
+            .build();
+
+    private List<TaskResponse> responses;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        responses = TaskMapper.INSTANCE.toResponseList(BenchmarkData.tasks(size), LocalDateTime.now());
+
+        assertSameOutput("benchmark tasks", responses);
+        assertSameOutput("edge cases", edgeCases());
+        assertSameOutput("error response", errorResponse());
+    }
+
+    @Benchmark
+    public byte[] defaultMapper() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] tunedMapper() throws JsonProcessingException {
+        return tunedMapper.writeValueAsBytes(responses);
+    }
+
+    private void assertSameOutput(String name, Object value) throws JsonProcessingException {
+        byte[] expected = defaultMapper.writeValueAsBytes(value);
+        byte[] actual = tunedMapper.writeValueAsBytes(value);
+        if (!Arrays.equals(expected, actual)) {
+            throw new IllegalStateException("Tuned mapper output differs for " + name + ":\n"
+                    + new String(expected) + "\n" + new String(actual));
+        }
+    }
+
+    private static List<TaskResponse> edgeCases() {
+        LocalDateTime base = LocalDateTime.of(2024, 2, 29, 0, 0);
+        LocalDateTime[] dates = {
+                base,
+                base.withSecond(5),
+                base.withNano(1),
+                base.withNano(5_000_000),
+                base.withNano(120_000_000),
+                base.withNano(123_456_789),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(10_000, 1, 1, 0, 0),
+                LocalDateTime.of(1, 1, 1, 0, 0),
+                LocalDateTime.of(0, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 6, 15, 12, 30, 0, 500_000)
+        };
+
+        List<TaskResponse> responses = new ArrayList<>();
+        for (int i = 0; i < dates.length; i++) {
+            TaskResponse response = new TaskResponse((long) i, "Título \"com\" acentos e \\ escapes\n", i % 2 == 0 ? null : "desc",
+                    TaskStatus.values()[i % TaskStatus.values().length], TaskPriority.values()[i % TaskPriority.values().length],
+                    dates[i], dates[i], i % 3 == 0 ? null : dates[i], null, 42L, base);
+            response.setVersion(i % 2 == 0 ? null : (long) i);
+            responses.add(response);
+        }
+        responses.add(new TaskResponse());
+        return responses;
+    }
+
+    private static List<ErrorResponse> errorResponse() {
+        LocalDateTime now = LocalDateTime.now();
+        ErrorResponse withErrors = new ErrorResponse("Validation failed", "VALIDATION_ERROR", 400, "/api/tasks", now);
+        withErrors.setValidationErrors(List.of(
+                new ErrorResponse.ValidationError("title", "must not be blank", ""),
+                new ErrorResponse.ValidationError("dueDate", "must be in the future", LocalDateTime.of(2020, 1, 1, 8, 0)),
+                new ErrorResponse.ValidationError("priority", "invalid", null)));
+        ErrorResponse withoutPath = new ErrorResponse("Service overloaded", "SERVICE_OVERLOADED", 503, now);
+        ErrorResponse farFuture = new ErrorResponse("x", "y", 500, "/z", now);
+        farFuture.setTimestamp(LocalDateTime.of(12_345, 1, 1, 0, 0));
+        return List.of(withErrors, withoutPath, farFuture, new ErrorResponse());
+    }
+}
@@ -0,0 +1,105 @@
+package com.tiagoreiz.projeto.Benchmarks;
+
+import com.tiagoreiz.projeto.Adapters.DTOs.LoginRequest;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import com.tiagoreiz.projeto.Adapters.DTOs.UserRegistrationRequest;
+import com.tiagoreiz.projeto.Application.Validation.ValidationRules;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
+import com.tiagoreiz.projeto.Core.Validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das regras de validação compartilhadas, nos casos aceito e rejeitado.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$";
+
+    private final Validator<TaskRequest> taskRequestValidator = ValidationRules.taskRequest(Clock.systemDefaultZone());
+
+    private TaskRequest validTask;
+    private TaskRequest invalidTask;
+    private LoginRequest validLogin;
+    private UserRegistrationRequest validRegistration;
+    private UserRegistrationRequest invalidRegistration;
+
+    @Setup
+    public void setUp() {
+        validTask = new TaskRequest("Write benchmark", "Measure validation cost", TaskPriority.HIGH,
+                LocalDateTime.now().plusDays(7));
+        invalidTask = new TaskRequest("ab", null, null, null);
+        validLogin = new LoginRequest("benchmark@example.com", "secret123");
+        validRegistration = new UserRegistrationRequest("Benchmark User", "benchmark@example.com", "secret123");
+        invalidRegistration = new UserRegistrationRequest("B", "not-an-email", "123");
+    }
+
+    @Benchmark
+    public ValidationResult validTaskRequest() {
+        return taskRequestValidator.validate(validTask);
+    }
+
+    @Benchmark
+    public ValidationResult invalidTaskRequest() {
+        return taskRequestValidator.validate(invalidTask);
+    }
+
+    /**
+     * Rejeição completa como feita pelos casos de uso: validação e exceção sem pilha
+     */
+    @Benchmark
+    public TaskValidationException rejectedTaskRequest() {
+        return new TaskValidationException(taskRequestValidator.validate(invalidTask));
+    }
+
+    @Benchmark
+    public ValidationResult validLoginRequest() {
+        return ValidationRules.LOGIN_REQUEST.validate(validLogin);
+    }
+
+    @Benchmark
+    public ValidationResult validRegistrationRequest() {
+        return ValidationRules.REGISTRATION_REQUEST.validate(validRegistration);
+    }
+
+    @Benchmark
+    public ValidationResult invalidRegistrationRequest() {
+        return ValidationRules.REGISTRATION_REQUEST.validate(invalidRegistration);
+    }
+
+    @Benchmark
+    public boolean emailPrecompiled() {
+        return ValidationRules.EMAIL_PATTERN.matcher(validLogin.getEmail()).matches();
+    }
+
+    /**
+     * Referência: String.matches recompila a expressão a cada chamada
+     */
+    @Benchmark
+    public boolean emailStringMatches() {
+        return validLogin.getEmail().matches(EMAIL_REGEX);
+    }
+}
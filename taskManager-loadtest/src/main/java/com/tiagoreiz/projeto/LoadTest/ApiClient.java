@@ -0,0 +1,121 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Cliente HTTP mínimo da API, baseado em java.net.http.
+ * Cada método devolve a resposta bruta; o chamador decide o que é erro.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public HttpResponse<String> health() throws IOException, InterruptedException {
+        return send(request("/actuator/health", null).GET().build());
+    }
+
+    public HttpResponse<String> register(String name, String email, String password)
+            throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("name", name)
+                .put("email", email)
+                .put("password", password);
+        return send(json(request("/api/auth/register", null), "POST", body));
+    }
+
+    public HttpResponse<String> login(String email, String password) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("email", email)
+                .put("password", password);
+        return send(json(request("/api/auth/login", null), "POST", body));
+    }
+
+    public HttpResponse<String> listTasks(String token, String status, String priority)
+            throws IOException, InterruptedException {
+        StringBuilder path = new StringBuilder("/api/tasks");
+        char separator = '?';
+        if (status != null) {
+            path.append(separator).append("status=").append(status);
+            separator = '&';
+        }
+        if (priority != null) {
+            path.append(separator).append("priority=").append(priority);
+        }
+        return send(request(path.toString(), token).GET().build());
+    }
+
+    public HttpResponse<String> createTask(String token, ObjectNode task) throws IOException, InterruptedException {
+        return send(json(request("/api/tasks", token), "POST", task));
+    }
+
+    public HttpResponse<String> importTasks(String token, String ndjson) throws IOException, InterruptedException {
+        return send(request("/api/tasks/import", token)
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson))
+                .build());
+    }
+
+    public HttpResponse<String> updateStatus(String token, long taskId, String status)
+            throws IOException, InterruptedException {
+        return send(request("/api/tasks/" + taskId + "/status?status=" + status, token)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    public HttpResponse<String> deleteTask(String token, long taskId) throws IOException, InterruptedException {
+        return send(request("/api/tasks/" + taskId, token).DELETE().build());
+    }
+
+    public JsonNode readTree(String body) throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, JsonNode body) throws IOException {
+        return builder
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processo da aplicação iniciado pelo driver com o perfil loadtest.
+ * A saída do processo vai para um arquivo de log, fora do relatório.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class ApplicationProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final Path logFile;
+
+    private ApplicationProcess(Process process, Path logFile) {
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    public static ApplicationProcess start(Path appJar, int port, String jdbcUrl, String dbUser, String dbPassword)
+            throws IOException {
+        Path logFile = Path.of("target", "loadtest-app.log");
+        logFile.getParent().toFile().mkdirs();
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String jvmOptions = System.getenv("LOADTEST_APP_JAVA_OPTS");
+        if (jvmOptions != null && !jvmOptions.isBlank()) {
+            command.addAll(List.of(jvmOptions.trim().split("\\s+")));
+        }
+        command.add("-jar");
+        command.add(appJar.toAbsolutePath().toString());
+        command.add("--spring.profiles.active=loadtest");
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=" + jdbcUrl);
+        command.add("--spring.datasource.username=" + dbUser);
+        command.add("--spring.datasource.password=" + dbPassword);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new ApplicationProcess(process, logFile);
+    }
+
+    /**
+     * Aguarda o health check da aplicação responder com sucesso
+     *
+     * @param client Cliente da API
+     */
+    public void awaitReady(ApiClient client) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue()
+                        + " during startup, see " + logFile.toAbsolutePath());
+            }
+            try {
+                HttpResponse<String> response = client.health();
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // ainda subindo
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application did not become healthy within " + STARTUP_TIMEOUT
+                + ", see " + logFile.toAbsolutePath());
+    }
+
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
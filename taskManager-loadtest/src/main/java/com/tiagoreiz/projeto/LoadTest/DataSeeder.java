@@ -0,0 +1,114 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Prepara os dados do teste pela própria API: registra os usuários,
+ * importa as tarefas de cada um em NDJSON e conclui parte delas.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class DataSeeder {
+
+    static final String PASSWORD = "loadtest123";
+
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private final ApiClient client;
+    private final int users;
+    private final int tasksPerUser;
+    private final int parallelism;
+
+    public DataSeeder(ApiClient client, int users, int tasksPerUser, int parallelism) {
+        this.client = client;
+        this.users = users;
+        this.tasksPerUser = tasksPerUser;
+        this.parallelism = parallelism;
+    }
+
+    public List<UserSession> seed() throws Exception {
+        // Sufixo por execução para permitir reutilizar um banco existente
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<UserSession>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> seedUser(runId, index)));
+            }
+            List<UserSession> sessions = new ArrayList<>(users);
+            for (Future<UserSession> future : futures) {
+                sessions.add(future.get());
+            }
+            return sessions;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UserSession seedUser(String runId, int index) throws IOException, InterruptedException {
+        String email = "loadtest-" + runId + "-" + index + "@example.com";
+        HttpResponse<String> registered = client.register("Load Test User " + index, email, PASSWORD);
+        expect(registered, 201, "register " + email);
+        String token = client.readTree(registered.body()).path("token").asText();
+        UserSession session = new UserSession(email, PASSWORD, token);
+
+        HttpResponse<String> imported = client.importTasks(token, buildTasks(index));
+        expect(imported, 200, "import tasks for " + email);
+
+        HttpResponse<String> listed = client.listTasks(token, null, null);
+        expect(listed, 200, "list tasks for " + email);
+        int position = 0;
+        for (JsonNode task : client.readTree(listed.body())) {
+            long taskId = task.path("id").asLong();
+            // Um terço das tarefas concluídas para que os filtros por status retornem dados
+            boolean complete = position++ % 3 == 0;
+            if (complete) {
+                expect(client.updateStatus(token, taskId, "COMPLETED"), 200, "complete task " + taskId);
+            }
+            session.addTask(taskId, complete);
+        }
+        return session;
+    }
+
+    private String buildTasks(int userIndex) throws IOException {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        StringBuilder ndjson = new StringBuilder(tasksPerUser * 160);
+        for (int i = 0; i < tasksPerUser; i++) {
+            ObjectNode task = client.getObjectMapper().createObjectNode()
+                    .put("title", "Seeded task " + userIndex + "-" + i)
+                    .put("description", "Task seeded for load testing, user " + userIndex)
+                    .put("priority", PRIORITIES[i % PRIORITIES.length]);
+            if (i % 2 == 0) {
+                task.put("dueDate", base.plusDays(i % 30).toString());
+            }
+            ndjson.append(client.getObjectMapper().writeValueAsString(task)).append('\n');
+        }
+        return ndjson.toString();
+    }
+
+    static ObjectNode newTask(ApiClient client, String title) {
+        return client.getObjectMapper().createObjectNode()
+                .put("title", title)
+                .put("description", "Task created during load test")
+                .put("priority", PRIORITIES[(int) (System.nanoTime() % PRIORITIES.length)]);
+    }
+
+    private static void expect(HttpResponse<String> response, int status, String action) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException("Seeding failed to " + action + ": HTTP "
+                    + response.statusCode() + " " + response.body());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+
+/**
+ * PostgreSQL embarcado usado quando nenhum banco externo é informado.
+ * Os binários vêm de um artefato Maven, sem instalação nem acesso à rede.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class EmbeddedDatabase implements AutoCloseable {
+
+    private static final String USER = "postgres";
+    private static final String PASSWORD = "postgres";
+
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    public static EmbeddedDatabase start() throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                // Configuração voltada a throughput: o banco é descartado ao fim do teste
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .setServerConfig("full_page_writes", "off")
+                .start();
+        return new EmbeddedDatabase(postgres);
+    }
+
+    public String getJdbcUrl() {
+        return postgres.getJdbcUrl(USER, "postgres");
+    }
+
+    public String getUser() {
+        return USER;
+    }
+
+    public String getPassword() {
+        return PASSWORD;
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
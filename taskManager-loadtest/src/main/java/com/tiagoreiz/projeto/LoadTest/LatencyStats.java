@@ -0,0 +1,65 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e erros por operação, registrados em microssegundos.
+ * Só grava enquanto a janela de medição está aberta, descartando o aquecimento.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private volatile boolean measuring;
+
+    public LatencyStats() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void startMeasuring() {
+        measuring = true;
+    }
+
+    public void stopMeasuring() {
+        measuring = false;
+    }
+
+    public void record(Operation operation, long elapsedNanos, boolean success) {
+        if (!measuring) {
+            return;
+        }
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public void recordFailure(Operation operation) {
+        if (measuring) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public Histogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+}
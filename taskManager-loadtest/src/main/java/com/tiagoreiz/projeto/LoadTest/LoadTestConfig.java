@@ -0,0 +1,178 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste de carga, lidos de argumentos no formato --chave=valor.
+ *
+ * <pre>
+ * --users=20                 usuários criados na preparação
+ * --tasks-per-user=50        tarefas importadas por usuário
+ * --threads=16               workers concorrentes (loop fechado)
+ * --warmup=10                segundos de aquecimento, não medidos
+ * --duration=60              segundos de medição
+ * --mix=login=5,list=35,...  pesos das operações
+ * --app-jar=PATH             jar da aplicação (padrão: ../taskManager/target/taskManager-*.jar)
+ * --port=18080               porta da aplicação iniciada pelo driver
+ * --base-url=URL             usa uma aplicação já em execução em vez de iniciar uma
+ * --jdbc-url=URL             usa um PostgreSQL existente em vez do embarcado
+ * --db-user, --db-password   credenciais do PostgreSQL existente
+ * --report=PATH              grava o resultado também em CSV
+ * </pre>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class LoadTestConfig {
+
+    static final String DEFAULT_MIX = "login=5,list=35,filter=25,create=15,status=15,delete=5";
+
+    private final int users;
+    private final int tasksPerUser;
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Operation, Integer> mix;
+    private final Path appJar;
+    private final int port;
+    private final String baseUrl;
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final Path report;
+
+    private LoadTestConfig(Map<String, String> args) {
+        this.users = positiveInt(args, "users", 20);
+        this.tasksPerUser = positiveInt(args, "tasks-per-user", 50);
+        this.threads = positiveInt(args, "threads", 16);
+        this.warmup = Duration.ofSeconds(Long.parseLong(args.getOrDefault("warmup", "10")));
+        this.duration = Duration.ofSeconds(positiveInt(args, "duration", 60));
+        this.mix = parseMix(args.getOrDefault("mix", DEFAULT_MIX));
+        this.port = positiveInt(args, "port", 18080);
+        this.baseUrl = args.get("base-url");
+        this.jdbcUrl = args.get("jdbc-url");
+        this.dbUser = args.getOrDefault("db-user", "postgres");
+        this.dbPassword = args.getOrDefault("db-password", "postgres");
+        this.report = args.containsKey("report") ? Path.of(args.get("report")) : null;
+        this.appJar = baseUrl == null ? resolveAppJar(args.get("app-jar")) : null;
+    }
+
+    public static LoadTestConfig parse(String[] argv) {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : argv) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument '" + arg + "', expected --key=value");
+            }
+            int separator = arg.indexOf('=');
+            args.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(args);
+    }
+
+    private static int positiveInt(Map<String, String> args, String key, int defaultValue) {
+        int value = Integer.parseInt(args.getOrDefault(key, String.valueOf(defaultValue)));
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + key + " must be a positive number");
+        }
+        return value;
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected name=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight must not be negative: " + entry);
+            }
+            weights.put(Operation.fromName(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must have at least one positive weight");
+        }
+        return weights;
+    }
+
+    private static Path resolveAppJar(String explicit) {
+        if (explicit != null) {
+            Path jar = Path.of(explicit);
+            if (!Files.isRegularFile(jar)) {
+                throw new IllegalArgumentException("Application jar not found: " + jar);
+            }
+            return jar;
+        }
+        Path target = Path.of("..", "taskManager", "target");
+        try (DirectoryStream<Path> jars = Files.newDirectoryStream(target, "taskManager-*.jar")) {
+            for (Path jar : jars) {
+                return jar;
+            }
+        } catch (IOException e) {
+            // cai na mensagem abaixo
+        }
+        throw new IllegalArgumentException(
+                "Application jar not found in " + target.toAbsolutePath().normalize()
+                + "; run 'mvn package -DskipTests' in taskManager or pass --app-jar");
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getTasksPerUser() {
+        return tasksPerUser;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public Path getAppJar() {
+        return appJar;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String getDbUser() {
+        return dbUser;
+    }
+
+    public String getDbPassword() {
+        return dbPassword;
+    }
+
+    public Path getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Relatório final: throughput e percentis de latência por endpoint.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String ROW_FORMAT = "%-32s %9s %7s %10s %9s %9s %9s %9s %9s%n";
+
+    private final LatencyStats stats;
+    private final Duration measured;
+
+    public LoadTestReport(LatencyStats stats, Duration measured) {
+        this.stats = stats;
+        this.measured = measured;
+    }
+
+    public void print(PrintStream out) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf(Locale.ROOT, "%nMeasured window: %.1f s (latencies in ms)%n%n", seconds);
+        out.printf(Locale.ROOT, ROW_FORMAT, "Endpoint", "Requests", "Errors", "Req/s", "p50", "p90", "p99", "p99.9", "Max");
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = stats.histogram(operation);
+            if (histogram.getTotalCount() == 0 && stats.errors(operation) == 0) {
+                continue;
+            }
+            printRow(out, operation.getEndpoint(), histogram, stats.errors(operation), seconds);
+            total.add(histogram);
+            totalErrors += stats.errors(operation);
+        }
+        printRow(out, "TOTAL", total, totalErrors, seconds);
+    }
+
+    public void writeCsv(Path file) throws IOException {
+        double seconds = measured.toNanos() / 1e9;
+        StringBuilder csv = new StringBuilder("endpoint,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = stats.histogram(operation);
+            csv.append('"').append(operation.getEndpoint()).append('"')
+                    .append(',').append(histogram.getTotalCount())
+                    .append(',').append(stats.errors(operation))
+                    .append(',').append(String.format(Locale.ROOT, "%.2f", histogram.getTotalCount() / seconds));
+            for (double percentile : PERCENTILES) {
+                csv.append(',').append(millis(histogram.getValueAtPercentile(percentile)));
+            }
+            csv.append(',').append(millis(histogram.getMaxValue())).append('\n');
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf(Locale.ROOT, ROW_FORMAT,
+                name,
+                histogram.getTotalCount(),
+                errors,
+                String.format(Locale.ROOT, "%.1f", histogram.getTotalCount() / seconds),
+                millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f", micros / 1000.0);
+    }
+}
@@ -0,0 +1,115 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ponto de entrada do teste de carga.
+ * Sobe o banco e a aplicação (salvo quando --base-url é informado), prepara os dados,
+ * executa a carga com aquecimento e imprime o relatório por endpoint.
+ *
+ * <pre>
+ * java -jar target/loadtest.jar --users=50 --tasks-per-user=100 --threads=32 --duration=120
+ * </pre>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        EmbeddedDatabase database = null;
+        ApplicationProcess application = null;
+        try {
+            String baseUrl = config.getBaseUrl();
+            if (baseUrl == null) {
+                String jdbcUrl = config.getJdbcUrl();
+                String dbUser = config.getDbUser();
+                String dbPassword = config.getDbPassword();
+                if (jdbcUrl == null) {
+                    log("Starting embedded PostgreSQL");
+                    database = EmbeddedDatabase.start();
+                    jdbcUrl = database.getJdbcUrl();
+                    dbUser = database.getUser();
+                    dbPassword = database.getPassword();
+                }
+
+                log("Starting application " + config.getAppJar() + " on port " + config.getPort());
+                application = ApplicationProcess.start(config.getAppJar(), config.getPort(), jdbcUrl, dbUser, dbPassword);
+                baseUrl = "http://localhost:" + config.getPort();
+            }
+
+            ApiClient client = new ApiClient(baseUrl);
+            if (application != null) {
+                application.awaitReady(client);
+                log("Application ready, log at " + application.getLogFile().toAbsolutePath());
+            }
+
+            log("Seeding " + config.getUsers() + " users with " + config.getTasksPerUser() + " tasks each");
+            List<UserSession> sessions = new DataSeeder(client, config.getUsers(), config.getTasksPerUser(),
+                    Math.min(config.getThreads(), config.getUsers())).seed();
+
+            LatencyStats stats = new LatencyStats();
+            Duration measured = runLoad(config, client, sessions, stats);
+
+            LoadTestReport report = new LoadTestReport(stats, measured);
+            report.print(System.out);
+            if (config.getReport() != null) {
+                report.writeCsv(config.getReport());
+                log("Report written to " + config.getReport().toAbsolutePath());
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+            if (database != null) {
+                database.close();
+            }
+        }
+    }
+
+    private static Duration runLoad(LoadTestConfig config, ApiClient client, List<UserSession> sessions,
+                                    LatencyStats stats) throws InterruptedException {
+        WorkloadMix mix = new WorkloadMix(config.getMix());
+        ExecutorService executor = Executors.newFixedThreadPool(config.getThreads());
+        List<LoadWorker> workers = new ArrayList<>(config.getThreads());
+        for (int i = 0; i < config.getThreads(); i++) {
+            LoadWorker worker = new LoadWorker(client, sessions, mix, stats);
+            workers.add(worker);
+            executor.submit(worker);
+        }
+
+        try {
+            if (!config.getWarmup().isZero()) {
+                log("Warming up for " + config.getWarmup().toSeconds() + " s with " + config.getThreads() + " threads");
+                Thread.sleep(config.getWarmup().toMillis());
+            }
+
+            log("Measuring for " + config.getDuration().toSeconds() + " s");
+            long start = System.nanoTime();
+            stats.startMeasuring();
+            Thread.sleep(config.getDuration().toMillis());
+            stats.stopMeasuring();
+            return Duration.ofNanos(System.nanoTime() - start);
+        } finally {
+            workers.forEach(LoadWorker::stop);
+            executor.shutdown();
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
@@ -0,0 +1,112 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker em loop fechado: sorteia uma operação e um usuário, executa e registra a latência.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class LoadWorker implements Runnable {
+
+    private static final String[] STATUSES = {"PENDING", "COMPLETED"};
+    private static final String[] PRIORITIES = {null, "LOW", "MEDIUM", "HIGH"};
+    private static final AtomicLong CREATED = new AtomicLong();
+
+    private final ApiClient client;
+    private final List<UserSession> sessions;
+    private final WorkloadMix mix;
+    private final LatencyStats stats;
+    private volatile boolean running = true;
+
+    public LoadWorker(ApiClient client, List<UserSession> sessions, WorkloadMix mix, LatencyStats stats) {
+        this.client = client;
+        this.sessions = sessions;
+        this.mix = mix;
+        this.stats = stats;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running && !Thread.currentThread().isInterrupted()) {
+            UserSession session = sessions.get(random.nextInt(sessions.size()));
+            Operation operation = mix.next();
+            try {
+                execute(operation, session, random);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                stats.recordFailure(operation);
+            }
+        }
+    }
+
+    private void execute(Operation operation, UserSession session, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        switch (operation) {
+            case LOGIN -> {
+                long start = System.nanoTime();
+                HttpResponse<String> response = client.login(session.getEmail(), session.getPassword());
+                record(operation, start, response);
+                if (response.statusCode() == 200) {
+                    session.setToken(client.readTree(response.body()).path("token").asText());
+                }
+            }
+            case LIST -> {
+                long start = System.nanoTime();
+                record(operation, start, client.listTasks(session.getToken(), null, null));
+            }
+            case FILTER -> {
+                String status = STATUSES[random.nextInt(STATUSES.length)];
+                String priority = PRIORITIES[random.nextInt(PRIORITIES.length)];
+                long start = System.nanoTime();
+                record(operation, start, client.listTasks(session.getToken(), status, priority));
+            }
+            case CREATE -> create(session);
+            case STATUS -> {
+                Long taskId = session.randomTask();
+                if (taskId == null) {
+                    create(session);
+                    return;
+                }
+                String status = session.toggle(taskId);
+                long start = System.nanoTime();
+                record(operation, start, client.updateStatus(session.getToken(), taskId, status));
+            }
+            case DELETE -> {
+                Long taskId = session.takeRandomTask();
+                if (taskId == null) {
+                    create(session);
+                    return;
+                }
+                long start = System.nanoTime();
+                record(operation, start, client.deleteTask(session.getToken(), taskId));
+            }
+        }
+    }
+
+    private void create(UserSession session) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.createTask(session.getToken(),
+                DataSeeder.newTask(client, "Load test task " + CREATED.incrementAndGet()));
+        record(Operation.CREATE, start, response);
+        if (response.statusCode() == 201) {
+            session.addTask(client.readTree(response.body()).path("id").asLong(), false);
+        }
+    }
+
+    private void record(Operation operation, long start, HttpResponse<String> response) {
+        int status = response.statusCode();
+        stats.record(operation, System.nanoTime() - start, status >= 200 && status < 300);
+    }
+}
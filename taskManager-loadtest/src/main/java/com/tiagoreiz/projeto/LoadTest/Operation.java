@@ -0,0 +1,37 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+/**
+ * Operações executadas pelos workers, com o endpoint usado no relatório.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public enum Operation {
+    LOGIN("login", "POST /api/auth/login"),
+    LIST("list", "GET /api/tasks"),
+    FILTER("filter", "GET /api/tasks?status&priority"),
+    CREATE("create", "POST /api/tasks"),
+    STATUS("status", "PATCH /api/tasks/{id}/status"),
+    DELETE("delete", "DELETE /api/tasks/{id}");
+
+    private final String name;
+    private final String endpoint;
+
+    Operation(String name, String endpoint) {
+        this.name = name;
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.name.equalsIgnoreCase(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + name + "'");
+    }
+}
@@ -0,0 +1,97 @@
+package com.tiagoreiz.projeto.LoadTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estado de um usuário virtual: credenciais, token e tarefas conhecidas.
+ * Pode ser compartilhado entre workers quando há mais threads que usuários.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class UserSession {
+
+    private final String email;
+    private final String password;
+    private volatile String token;
+
+    private final List<Long> taskIds = new ArrayList<>();
+    private final Map<Long, Boolean> completed = new HashMap<>();
+
+    public UserSession(String email, String password, String token) {
+        this.email = email;
+        this.password = password;
+        this.token = token;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public synchronized void addTask(long taskId, boolean isCompleted) {
+        if (completed.put(taskId, isCompleted) == null) {
+            taskIds.add(taskId);
+        }
+    }
+
+    /**
+     * Sorteia uma tarefa conhecida
+     *
+     * @return ID da tarefa ou null se o usuário não tem tarefas
+     */
+    public synchronized Long randomTask() {
+        if (taskIds.isEmpty()) {
+            return null;
+        }
+        return taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+    }
+
+    /**
+     * Remove e devolve uma tarefa sorteada, para exclusão
+     *
+     * @return ID da tarefa ou null se o usuário não tem tarefas
+     */
+    public synchronized Long takeRandomTask() {
+        if (taskIds.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(taskIds.size());
+        // Troca com o último para remover em O(1)
+        Long taskId = taskIds.get(index);
+        taskIds.set(index, taskIds.get(taskIds.size() - 1));
+        taskIds.remove(taskIds.size() - 1);
+        completed.remove(taskId);
+        return taskId;
+    }
+
+    /**
+     * Inverte o status conhecido de uma tarefa
+     *
+     * @return Novo status (COMPLETED ou PENDING)
+     */
+    public synchronized String toggle(long taskId) {
+        boolean next = !completed.getOrDefault(taskId, false);
+        completed.put(taskId, next);
+        return next ? "COMPLETED" : "PENDING";
+    }
+
+    public synchronized int taskCount() {
+        return taskIds.size();
+    }
+}
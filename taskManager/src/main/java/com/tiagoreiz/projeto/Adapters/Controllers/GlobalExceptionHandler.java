@@ -1,16 +1,24 @@
 package com.tiagoreiz.projeto.Adapters.Controllers;
 
 import com.tiagoreiz.projeto.Adapters.DTOs.ErrorResponse;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Exceptions.BusinessException;
 import com.tiagoreiz.projeto.Core.Exceptions.InvalidCredentialsException;
+import com.tiagoreiz.projeto.Core.Exceptions.DependencyUnavailableException;
+import com.tiagoreiz.projeto.Core.Exceptions.ServiceOverloadedException;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskNotFoundException;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
 import com.tiagoreiz.projeto.Core.Exceptions.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,6 +27,7 @@ import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,8 +41,11 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
     
+    private final Clock clock;
+    
     /**
      * Trata exceções de negócio customizadas
      */
@@ -47,7 +59,8 @@ public class GlobalExceptionHandler {
             ex.getMessage(),
             ex.getErrorCode(),
             ex.getHttpStatus().value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(ex.getHttpStatus()).body(errorResponse);
@@ -66,7 +79,8 @@ public class GlobalExceptionHandler {
             ex.getMessage(),
             ex.getErrorCode(),
             ex.getHttpStatus().value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
@@ -85,7 +99,8 @@ public class GlobalExceptionHandler {
             ex.getMessage(),
             ex.getErrorCode(),
             ex.getHttpStatus().value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
@@ -104,12 +119,44 @@ public class GlobalExceptionHandler {
             ex.getMessage(),
             ex.getErrorCode(),
             ex.getHttpStatus().value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
+        if (!ex.getViolations().isEmpty()) {
+            errorResponse.setValidationErrors(ex.getViolations()
+                .stream()
+                .map(violation -> new ErrorResponse.ValidationError(
+                    violation.field(),
+                    violation.message(),
+                    violation.rejectedValue()
+                ))
+                .collect(Collectors.toList()));
+        }
+        
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
     
+    /**
+     * Trata conflitos de versão detectados pelo banco (alteração concorrente da mesma tarefa)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        
+        log.warn("Optimistic locking conflict: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "The task was modified by another request",
+            "TASK_VERSION_CONFLICT",
+            HttpStatus.PRECONDITION_FAILED.value(),
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
+        );
+        
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+    
     /**
      * Trata exceções de credenciais inválidas
      */
@@ -123,7 +170,8 @@ public class GlobalExceptionHandler {
             ex.getMessage(),
             ex.getErrorCode(),
             ex.getHttpStatus().value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
@@ -152,7 +200,8 @@ public class GlobalExceptionHandler {
             "Validation failed",
             "VALIDATION_ERROR",
             HttpStatus.BAD_REQUEST.value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         errorResponse.setValidationErrors(validationErrors);
         
@@ -181,7 +230,8 @@ public class GlobalExceptionHandler {
             "Constraint validation failed",
             "CONSTRAINT_VIOLATION",
             HttpStatus.BAD_REQUEST.value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         errorResponse.setValidationErrors(validationErrors);
         
@@ -201,7 +251,8 @@ public class GlobalExceptionHandler {
             "Invalid email or password",
             "INVALID_CREDENTIALS",
             HttpStatus.UNAUTHORIZED.value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
@@ -220,7 +271,8 @@ public class GlobalExceptionHandler {
             "Access denied",
             "ACCESS_DENIED",
             HttpStatus.FORBIDDEN.value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
@@ -239,12 +291,84 @@ public class GlobalExceptionHandler {
             ex.getMessage(),
             "INVALID_ARGUMENT",
             HttpStatus.BAD_REQUEST.value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
     
+    /**
+     * Trata a recusa de um bulkhead saturado, indicando quando tentar novamente
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+        
+        log.warn("Service overloaded: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            ex.getErrorCode(),
+            ex.getHttpStatus().value(),
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+    
+    /**
+     * Trata recusas do circuit breaker de uma dependência aberta
+     */
+    @ExceptionHandler(DependencyUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleDependencyUnavailableException(
+            DependencyUnavailableException ex, WebRequest request) {
+        
+        log.warn("Dependency unavailable: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            ex.getErrorCode(),
+            ex.getHttpStatus().value(),
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+    
+    /**
+     * Trata falhas ao obter conexão com o banco, inclusive cotas de conexão esgotadas
+     * (o Spring envolve a ServiceOverloadedException lançada pelo DataSource)
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailableException(
+            Exception ex, WebRequest request) {
+        
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceOverloadedException overloaded) {
+                return handleServiceOverloadedException(overloaded, request);
+            }
+        }
+        
+        log.error("Database connection unavailable: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "Database is temporarily unavailable",
+            "DATABASE_UNAVAILABLE",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+    
     /**
      * Trata todas as outras exceções não mapeadas
      */
@@ -258,7 +382,8 @@ public class GlobalExceptionHandler {
             "An unexpected error occurred",
             "INTERNAL_SERVER_ERROR",
             HttpStatus.INTERNAL_SERVER_ERROR.value(),
-            request.getDescription(false).replace("uri=", "")
+            request.getDescription(false).replace("uri=", ""),
+            TimeProvider.now(clock)
         );
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
@@ -1,17 +1,34 @@
 package com.tiagoreiz.projeto.Adapters.Controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskImportResponse;
 import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
 import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Adapters.Events.TaskEventStreamHub;
+import com.tiagoreiz.projeto.Adapters.Import.TaskImportFormat;
+import com.tiagoreiz.projeto.Adapters.Import.TaskImportReader;
+import com.tiagoreiz.projeto.Adapters.Import.TaskImportReaderFactory;
 import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMergePatchMapper;
+import com.tiagoreiz.projeto.Adapters.Serialization.TaskListEncoder;
+import com.tiagoreiz.projeto.Adapters.Serialization.TaskResponseField;
 import com.tiagoreiz.projeto.Application.UseCases.Task.*;
 import com.tiagoreiz.projeto.Core.Common.Result;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Entities.Task;
 import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
 import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskNotFoundException;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskVersionConflictException;
+import com.tiagoreiz.projeto.Infra.Idempotency.IdempotencyService;
+import com.tiagoreiz.projeto.Infra.Idempotency.IdempotentResponse;
 import com.tiagoreiz.projeto.Infra.Security.JwtService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,11 +39,19 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Controller responsável pelos endpoints de gerenciamento de tarefas.
@@ -43,13 +68,26 @@ import java.util.List;
 @SecurityRequirement(name = "bearer-jwt")
 public class TaskController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String WARNING_HEADER = "Warning";
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     private final CreateTaskUseCase createTaskUseCase;
     private final GetUserTasksUseCase getUserTasksUseCase;
     private final UpdateTaskUseCase updateTaskUseCase;
     private final UpdateTaskStatusUseCase updateTaskStatusUseCase;
     private final DeleteTaskUseCase deleteTaskUseCase;
+    private final ImportTasksUseCase importTasksUseCase;
+    private final TaskImportReaderFactory taskImportReaderFactory;
     private final TaskMapper taskMapper;
+    private final TaskMergePatchMapper taskMergePatchMapper;
+    private final TaskListEncoder taskListEncoder;
+    private final TaskEventStreamHub taskEventStreamHub;
     private final JwtService jwtService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
 
     /**
      * Extrai o ID do usuário do token JWT
@@ -65,6 +103,37 @@ public class TaskController {
         return jwtService.extractUserId(jwt);
     }
 
+    /**
+     * Extrai a versão esperada do cabeçalho If-Match
+     * 
+     * @return Versão esperada ou null se o cabeçalho está ausente ou é "*"
+     * @throws TaskValidationException Se o cabeçalho contém mais de uma ETag
+     * @throws TaskVersionConflictException Se a ETag é fraca ou não corresponde a nenhuma versão de tarefa
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        
+        String etag = ifMatch.trim();
+        if (etag.indexOf(',') >= 0) {
+            throw new TaskValidationException("If-Match must contain a single entity tag");
+        }
+        // If-Match usa comparação forte (RFC 7232, seção 3.1): uma ETag fraca nunca corresponde
+        if (etag.startsWith("W/")) {
+            throw new TaskVersionConflictException("If-Match requires a strong entity tag");
+        }
+        if (etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            etag = etag.substring(1, etag.length() - 1);
+        }
+        
+        try {
+            return Long.parseLong(etag);
+        } catch (NumberFormatException e) {
+            throw new TaskVersionConflictException("If-Match does not match the current task version");
+        }
+    }
+
     /**
      * Cria uma nova tarefa
      */
@@ -74,22 +143,53 @@ public class TaskController {
         @ApiResponse(responseCode = "201", description = "Tarefa criada com sucesso",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
-        @ApiResponse(responseCode = "401", description = "Não autorizado")
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma Idempotency-Key ainda em processamento"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key já usada com outro conteúdo")
     })
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest taskRequest, 
+                                                   @Parameter(description = "Chave para repetir a requisição com segurança") @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
                                                    HttpServletRequest request) {
         Long userId = extractUserIdFromToken(request);
         
+        if (idempotencyKey == null) {
+            Task task = createTaskForUser(taskRequest, userId);
+            return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(task.getVersion())).body(taskMapper.toResponse(task, TimeProvider.now(clock)));
+        }
+        
+        // Repetições da mesma chave recebem a resposta original em vez de criar outra tarefa
+        AtomicReference<TaskResponse> created = new AtomicReference<>();
+        IdempotencyService.Outcome outcome = idempotencyService.execute(userId, idempotencyKey, writeJson(taskRequest), () -> {
+            Task task = createTaskForUser(taskRequest, userId);
+            TaskResponse response = taskMapper.toResponse(task, TimeProvider.now(clock));
+            created.set(response);
+            return new IdempotencyService.Response(HttpStatus.CREATED.value(), String.valueOf(task.getVersion()),
+                    new String(writeJson(response), StandardCharsets.UTF_8));
+        });
+        
+        IdempotentResponse stored = outcome.response();
+        TaskResponse body = created.get() != null ? created.get() : readJson(stored.body());
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status())
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(outcome.replayed()));
+        if (stored.etag() != null) {
+            builder.eTag(stored.etag());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Executa o caso de uso de criação e propaga o erro para o GlobalExceptionHandler
+     */
+    private Task createTaskForUser(TaskRequest taskRequest, Long userId) {
         log.info("Creating task for user {}: {}", userId, taskRequest.getTitle());
         
         Result<Task, Exception> result = createTaskUseCase.execute(taskRequest, userId);
         
         if (result.isSuccess()) {
             Task task = result.getValueOrThrow();
-            TaskResponse response = taskMapper.toResponse(task);
-            
             log.info("Task created successfully with ID: {}", task.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return task;
         } else {
             // O GlobalExceptionHandler irá tratar a exceção automaticamente
             Exception error = result.getError().get();
@@ -101,38 +201,120 @@ public class TaskController {
         }
     }
 
+    private byte[] writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private TaskResponse readJson(String json) {
+        try {
+            return objectMapper.readValue(json, TaskResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored idempotent response", e);
+        }
+    }
+
+    /**
+     * Importa tarefas em massa a partir de um arquivo CSV ou NDJSON
+     */
+    @PostMapping(value = "/import", consumes = {TaskImportFormat.CSV_VALUE, TaskImportFormat.NDJSON_VALUE})
+    @Operation(summary = "Importar tarefas", description = "Importa tarefas em massa a partir de CSV (com cabeçalho) ou NDJSON. O arquivo é processado em streaming")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Arquivo inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado")
+    })
+    public ResponseEntity<TaskImportResponse> importTasks(HttpServletRequest request) throws IOException {
+        Long userId = extractUserIdFromToken(request);
+        TaskImportFormat format = TaskImportFormat.fromContentType(request.getContentType());
+        
+        log.info("Importing tasks for user {} from {}", userId, format);
+        
+        Result<ImportTasksUseCase.ImportResult, Exception> result;
+        try (TaskImportReader reader = taskImportReaderFactory.open(format, request.getInputStream())) {
+            result = importTasksUseCase.execute(reader, userId);
+        }
+        
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(toImportResponse(result.getValueOrThrow()));
+        } else {
+            // O GlobalExceptionHandler irá tratar a exceção automaticamente
+            Exception error = result.getError().get();
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else {
+                throw new RuntimeException(error);
+            }
+        }
+    }
+
+    /**
+     * Converte o resumo da importação para o DTO de resposta
+     */
+    private TaskImportResponse toImportResponse(ImportTasksUseCase.ImportResult result) {
+        List<TaskImportResponse.RowError> errors = result.getErrors().stream()
+                .map(error -> new TaskImportResponse.RowError(error.getLine(), error.getMessage()))
+                .toList();
+        
+        return new TaskImportResponse(result.getRowsRead(), result.getRowsImported(), result.getRowsRejected(),
+                errors, result.isErrorsTruncated(), result.getElapsedMillis(), result.getRowsPerSecond());
+    }
+
     /**
      * Lista tarefas com filtros opcionais
      */
     @GetMapping
     @Operation(summary = "Listar tarefas", description = "Lista todas as tarefas do usuário autenticado com filtros opcionais")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso"),
-        @ApiResponse(responseCode = "401", description = "Não autorizado")
+        @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso (com Warning e Age se vier do cache desatualizado)",
+                content = {
+                    @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))),
+                    @Content(mediaType = "application/cbor", array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))),
+                    @Content(mediaType = "application/x-jackson-smile", array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class)))
+                }),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "503", description = "Banco de dados indisponível e sem cópia em cache")
     })
-    public ResponseEntity<List<TaskResponse>> getTasks(
+    public ResponseEntity<byte[]> getTasks(
             @Parameter(description = "Filtrar por status") @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "Filtrar por prioridade") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,priority,dueDate). "
+                    + "Apenas as colunas necessárias são lidas do banco") @RequestParam(required = false) String fields,
             HttpServletRequest request) {
         
         Long userId = extractUserIdFromToken(request);
         
-        List<Task> tasks;
-        
-        if (status != null && priority != null) {
-            tasks = getUserTasksUseCase.executeByStatusAndPriority(userId, status, priority);
-        } else if (status != null) {
-            tasks = getUserTasksUseCase.executeByStatus(userId, status);
-        } else if (priority != null) {
-            tasks = getUserTasksUseCase.executeByPriority(userId, priority);
+        Set<TaskResponseField> selection = null;
+        GetUserTasksUseCase.TaskListResult result;
+        if (fields != null) {
+            // Listagem resumida: o repositório lê apenas as colunas dos campos pedidos
+            selection = TaskResponseField.parse(fields);
+            result = getUserTasksUseCase.executeFiltered(userId, status, priority, TaskResponseField.columns(selection));
         } else {
-            tasks = getUserTasksUseCase.execute(userId);
+            result = getUserTasksUseCase.executeFiltered(userId, status, priority);
         }
+        List<Task> tasks = result.getTasks();
+        
+        MediaType mediaType = taskListEncoder.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        byte[] response = taskListEncoder.encode(tasks, selection, mediaType);
         
-        List<TaskResponse> response = taskMapper.toResponseList(tasks);
+        if (result.isStale()) {
+            // Banco indisponível ou lento: a lista vem do cache e pode não ter as últimas alterações
+            log.warn("Serving stale task list ({}s old) for user {}", result.getAgeSeconds(), userId);
+            return ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .header(WARNING_HEADER, STALE_WARNING)
+                    .header(HttpHeaders.AGE, String.valueOf(result.getAgeSeconds()))
+                    .body(response);
+        }
         
         log.info("Retrieved {} tasks for user {}", tasks.size(), userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().contentType(mediaType).varyBy(HttpHeaders.ACCEPT).body(response);
     }
 
     /**
@@ -156,8 +338,8 @@ public class TaskController {
                 .findFirst()
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
         
-        TaskResponse response = taskMapper.toResponse(task);
-        return ResponseEntity.ok(response);
+        TaskResponse response = taskMapper.toResponse(task, TimeProvider.now(clock));
+        return ResponseEntity.ok().eTag(String.valueOf(task.getVersion())).body(response);
     }
 
     /**
@@ -169,23 +351,67 @@ public class TaskController {
         @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
         @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
-        @ApiResponse(responseCode = "401", description = "Não autorizado")
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "412", description = "A tarefa foi alterada (If-Match não corresponde à versão atual)")
     })
     public ResponseEntity<TaskResponse> updateTask(@PathVariable Long taskId, 
                                                    @Valid @RequestBody TaskRequest taskRequest,
+                                                   @Parameter(description = "ETag da versão conhecida da tarefa") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                    HttpServletRequest request) {
         Long userId = extractUserIdFromToken(request);
+        Long expectedVersion = parseIfMatch(ifMatch);
         
         log.info("Updating task {} for user {}", taskId, userId);
         
-        Result<Task, Exception> result = updateTaskUseCase.execute(taskId, taskRequest, userId);
+        Result<Task, Exception> result = updateTaskUseCase.execute(taskId, taskRequest, userId, expectedVersion);
         
         if (result.isSuccess()) {
             Task task = result.getValueOrThrow();
-            TaskResponse response = taskMapper.toResponse(task);
+            TaskResponse response = taskMapper.toResponse(task, TimeProvider.now(clock));
             
             log.info("Task {} updated successfully", taskId);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(String.valueOf(task.getVersion())).body(response);
+        } else {
+            // O GlobalExceptionHandler irá tratar a exceção automaticamente
+            Exception error = result.getError().get();
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else {
+                throw new RuntimeException(error);
+            }
+        }
+    }
+
+    /**
+     * Atualiza parcialmente uma tarefa (JSON Merge Patch, RFC 7396)
+     */
+    @PatchMapping(value = "/{taskId}", consumes = "application/merge-patch+json")
+    @Operation(summary = "Atualizar tarefa parcialmente", description = "Aplica um JSON Merge Patch: campos ausentes não são alterados e campos com null são removidos")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "412", description = "A tarefa foi alterada (If-Match não corresponde à versão atual)")
+    })
+    public ResponseEntity<TaskResponse> patchTask(@PathVariable Long taskId,
+                                                  @RequestBody JsonNode mergePatch,
+                                                  @Parameter(description = "ETag da versão conhecida da tarefa") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  HttpServletRequest request) {
+        Long userId = extractUserIdFromToken(request);
+        Long expectedVersion = parseIfMatch(ifMatch);
+        
+        log.info("Patching task {} for user {}", taskId, userId);
+        
+        Result<Task, Exception> result = updateTaskUseCase.executeMergePatch(
+                taskId, taskMergePatchMapper.toPatch(mergePatch), userId, expectedVersion);
+        
+        if (result.isSuccess()) {
+            Task task = result.getValueOrThrow();
+            TaskResponse response = taskMapper.toResponse(task, TimeProvider.now(clock));
+            
+            log.info("Task {} patched successfully", taskId);
+            return ResponseEntity.ok().eTag(String.valueOf(task.getVersion())).body(response);
         } else {
             // O GlobalExceptionHandler irá tratar a exceção automaticamente
             Exception error = result.getError().get();
@@ -206,20 +432,23 @@ public class TaskController {
         @ApiResponse(responseCode = "200", description = "Status atualizado com sucesso"),
         @ApiResponse(responseCode = "400", description = "Status inválido"),
         @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
-        @ApiResponse(responseCode = "401", description = "Não autorizado")
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "412", description = "A tarefa foi alterada (If-Match não corresponde à versão atual)")
     })
     public ResponseEntity<TaskResponse> updateTaskStatus(@PathVariable Long taskId,
                                                          @Parameter(description = "Novo status") @RequestParam TaskStatus status,
+                                                         @Parameter(description = "ETag da versão conhecida da tarefa") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                          HttpServletRequest request) {
         Long userId = extractUserIdFromToken(request);
+        Long expectedVersion = parseIfMatch(ifMatch);
         
         log.info("Updating status of task {} to {} for user {}", taskId, status, userId);
         
-        Task task = updateTaskStatusUseCase.execute(taskId, status, userId);
-        TaskResponse response = taskMapper.toResponse(task);
+        Task task = updateTaskStatusUseCase.execute(taskId, status, userId, expectedVersion);
+        TaskResponse response = taskMapper.toResponse(task, TimeProvider.now(clock));
         
         log.info("Task {} status updated to {} successfully", taskId, status);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(String.valueOf(task.getVersion())).body(response);
     }
 
     /**
@@ -243,18 +472,35 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Abre um stream de eventos (SSE) com as alterações nas tarefas do usuário
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream de alterações", description = "Envia via Server-Sent Events as criações, atualizações, mudanças de status e exclusões das tarefas do usuário")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream aberto"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado")
+    })
+    public SseEmitter streamTaskEvents(HttpServletRequest request) {
+        Long userId = extractUserIdFromToken(request);
+        return taskEventStreamHub.subscribe(userId);
+    }
+
     /**
      * Lista tarefas atrasadas do usuário
      */
     @GetMapping("/overdue")
     @Operation(summary = "Listar tarefas atrasadas", description = "Lista todas as tarefas atrasadas do usuário")
-    public ResponseEntity<List<TaskResponse>> getOverdueTasks(HttpServletRequest request) {
+    @ApiResponse(responseCode = "200", description = "Lista de tarefas atrasadas",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))))
+    public ResponseEntity<byte[]> getOverdueTasks(HttpServletRequest request) {
         Long userId = extractUserIdFromToken(request);
         
         List<Task> overdueTasks = getUserTasksUseCase.executeOverdueTasks(userId);
-        List<TaskResponse> response = taskMapper.toResponseList(overdueTasks);
+        MediaType mediaType = taskListEncoder.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        byte[] response = taskListEncoder.encode(overdueTasks, null, mediaType);
         
         log.info("Retrieved {} overdue tasks for user {}", overdueTasks.size(), userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().contentType(mediaType).varyBy(HttpHeaders.ACCEPT).body(response);
     }
 }
\ No newline at end of file
@@ -29,19 +29,19 @@ public class ErrorResponse {
     private String path;
     private List<ValidationError> validationErrors;
     
-    public ErrorResponse(String message, String errorCode, int status, String path) {
+    public ErrorResponse(String message, String errorCode, int status, String path, LocalDateTime timestamp) {
         this.message = message;
         this.errorCode = errorCode;
         this.status = status;
         this.path = path;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = timestamp;
     }
     
-    public ErrorResponse(String message, String errorCode, int status) {
+    public ErrorResponse(String message, String errorCode, int status, LocalDateTime timestamp) {
         this.message = message;
         this.errorCode = errorCode;
         this.status = status;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = timestamp;
     }
     
     /**
@@ -0,0 +1,40 @@
+package com.tiagoreiz.projeto.Adapters.DTOs;
+
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO enviado no stream de eventos de tarefas (Server-Sent Events).
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventResponse {
+    
+    /**
+     * Tipo da alteração
+     */
+    private TaskChangeType type;
+    
+    /**
+     * ID da tarefa alterada (ausente em importações em massa)
+     */
+    private Long taskId;
+    
+    /**
+     * Estado da tarefa após a alteração (ausente para exclusões)
+     */
+    private TaskResponse task;
+    
+    /**
+     * Data e hora da alteração
+     */
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,66 @@
+package com.tiagoreiz.projeto.Adapters.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta da importação em massa de tarefas.
+ * Resume as linhas importadas e rejeitadas com os respectivos erros.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponse {
+    
+    /**
+     * Total de linhas lidas do arquivo (sem contar cabeçalho e linhas em branco)
+     */
+    private long rowsRead;
+    
+    /**
+     * Total de tarefas inseridas
+     */
+    private long rowsImported;
+    
+    /**
+     * Total de linhas rejeitadas
+     */
+    private long rowsRejected;
+    
+    /**
+     * Erros por linha (limitado pela configuração app.import.max-reported-errors)
+     */
+    private List<RowError> errors;
+    
+    /**
+     * Indica se a lista de erros foi truncada
+     */
+    private boolean errorsTruncated;
+    
+    /**
+     * Tempo total da importação em milissegundos
+     */
+    private long elapsedMillis;
+    
+    /**
+     * Vazão da importação em linhas por segundo
+     */
+    private long rowsPerSecond;
+    
+    /**
+     * Erro de uma linha rejeitada
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -70,6 +70,11 @@ public class TaskResponse {
      */
     private Long userId;
     
+    /**
+     * Versão da tarefa (também enviada no cabeçalho ETag)
+     */
+    private Long version;
+    
     /**
      * Indica se a tarefa está atrasada
      */
@@ -82,11 +87,11 @@ public class TaskResponse {
     
     /**
      * Construtor principal sem campos calculados
-     * Os campos isOverdue e daysUntilDue serão calculados separadamente
+     * Os campos isOverdue e daysUntilDue são calculados em relação ao instante informado
      */
     public TaskResponse(Long id, String title, String description, TaskStatus status, 
                        TaskPriority priority, LocalDateTime createdAt, LocalDateTime updatedAt,
-                       LocalDateTime dueDate, LocalDateTime completedAt, Long userId) {
+                       LocalDateTime dueDate, LocalDateTime completedAt, Long userId, LocalDateTime now) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -99,30 +104,50 @@ public class TaskResponse {
         this.userId = userId;
         
         // Calcula campos derivados
-        calculateDerivedFields();
+        calculateDerivedFields(now);
     }
     
     /**
      * Calcula campos derivados como isOverdue e daysUntilDue
      */
-    private void calculateDerivedFields() {
-        if (dueDate != null && status == TaskStatus.PENDING) {
-            LocalDateTime now = LocalDateTime.now();
-            this.isOverdue = now.isAfter(dueDate);
-            
-            // Calcula dias até o vencimento
-            long hoursDiff = java.time.Duration.between(now, dueDate).toHours();
-            this.daysUntilDue = hoursDiff / 24;
-        } else {
-            this.isOverdue = false;
-            this.daysUntilDue = null;
+    private void calculateDerivedFields(LocalDateTime now) {
+        this.isOverdue = isOverdue(status, dueDate, now);
+        this.daysUntilDue = daysUntilDue(status, dueDate, now);
+    }
+    
+    /**
+     * Indica se uma tarefa está atrasada (apenas tarefas pendentes com data limite)
+     * 
+     * @param status Status da tarefa
+     * @param dueDate Data limite (pode ser null)
+     * @param now Instante de referência
+     * @return true se a tarefa está atrasada
+     */
+    public static boolean isOverdue(TaskStatus status, LocalDateTime dueDate, LocalDateTime now) {
+        return dueDate != null && status == TaskStatus.PENDING && now.isAfter(dueDate);
+    }
+    
+    /**
+     * Número de dias completos até o vencimento (negativo se atrasada)
+     * 
+     * @param status Status da tarefa
+     * @param dueDate Data limite (pode ser null)
+     * @param now Instante de referência
+     * @return Dias até o vencimento, ou null se a tarefa não está pendente ou não tem data limite
+     */
+    public static Long daysUntilDue(TaskStatus status, LocalDateTime dueDate, LocalDateTime now) {
+        if (dueDate == null || status != TaskStatus.PENDING) {
+            return null;
         }
+        return java.time.Duration.between(now, dueDate).toHours() / 24;
     }
     
     /**
      * Atualiza os campos derivados (usado após mudanças no status ou dueDate)
+     * 
+     * @param now Instante de referência
      */
-    public void updateDerivedFields() {
-        calculateDerivedFields();
+    public void updateDerivedFields(LocalDateTime now) {
+        calculateDerivedFields(now);
     }
 }
\ No newline at end of file
@@ -0,0 +1,369 @@
+package com.tiagoreiz.projeto.Adapters.Events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskEventResponse;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Core.Events.ClusterResyncEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Distribui eventos de alteração de tarefas para as conexões SSE dos usuários.
+ * 
+ * Uma única thread de despacho consome os eventos, serializa o payload uma vez
+ * por evento e o coloca no buffer limitado de cada conexão do usuário dono da tarefa.
+ * A escrita no socket é feita por um pool de escritores, no máximo uma tarefa por conexão.
+ * O pool mantém poucas threads prontas e cresce sob demanda, então um cliente travado
+ * prende apenas a própria thread e não atrasa as demais conexões.
+ * Conexões cujo buffer enche (consumidores lentos) ou cujo envio passa de send-timeout-ms
+ * são encerradas; o cliente deve reconectar e recarregar a lista de tarefas.
+ * Conexões ociosas custam apenas o SseEmitter e um buffer vazio.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class TaskEventStreamHub {
+    
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+    private static final Frame RESYNC = new Frame(null, "resync", "{}");
+    
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final long heartbeatIntervalMillis;
+    private final int bufferSize;
+    private final int writerThreads;
+    private final long sendTimeoutNanos;
+    
+    private final Map<Long, Set<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final BlockingQueue<TaskChangeEvent> inbox;
+    private ThreadPoolExecutor writers;
+    private Thread dispatcher;
+    private volatile boolean running;
+    
+    public TaskEventStreamHub(TaskMapper taskMapper,
+                              ObjectMapper objectMapper,
+                              @Value("${app.sse.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${app.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                              @Value("${app.sse.buffer-size:32}") int bufferSize,
+                              @Value("${app.sse.inbox-capacity:10000}") int inboxCapacity,
+                              @Value("${app.sse.writer-threads:2}") int writerThreads,
+                              @Value("${app.sse.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.bufferSize = bufferSize;
+        this.writerThreads = writerThreads;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.inbox = new LinkedBlockingQueue<>(inboxCapacity);
+    }
+    
+    @PostConstruct
+    void start() {
+        AtomicInteger writerIndex = new AtomicInteger();
+        // Sem fila: cada drain ganha uma thread livre ou uma nova, nunca espera atrás de um envio travado
+        writers = new ThreadPoolExecutor(writerThreads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + writerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "sse-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+    
+    @PreDestroy
+    void stop() {
+        running = false;
+        dispatcher.interrupt();
+        connectionsByUser.values().forEach(connections -> connections.forEach(Connection::complete));
+        connectionsByUser.clear();
+        writers.shutdownNow();
+    }
+    
+    /**
+     * Abre um novo stream de eventos para o usuário
+     * 
+     * @param userId ID do usuário autenticado
+     * @return Emitter SSE associado à conexão
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter);
+        
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+        
+        connectionsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        connectionCount.incrementAndGet();
+        log.debug("SSE stream opened for user {} ({} open streams)", userId, connectionCount.get());
+        
+        // Envia um heartbeat imediato para confirmar a conexão ao cliente
+        connection.enqueue(HEARTBEAT);
+        return emitter;
+    }
+    
+    /**
+     * Número de streams abertos neste nó
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+    
+    /**
+     * Recebe eventos de alteração de tarefas após o commit da transação
+     * 
+     * @param event Evento de alteração
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangeEvent event) {
+        if (!connectionsByUser.containsKey(event.getUserId())) {
+            return;
+        }
+        if (!inbox.offer(event)) {
+            log.warn("SSE inbox full, dropping {} event for task {}", event.getType(), event.getTaskId());
+        }
+    }
+    
+    /**
+     * Avisa todos os clientes que eventos podem ter sido perdidos e a lista deve ser recarregada
+     * 
+     * @param event Evento de ressincronização do cluster
+     */
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        connectionsByUser.values().forEach(connections -> connections.forEach(c -> c.enqueue(RESYNC)));
+    }
+    
+    /**
+     * Laço da thread de despacho: distribui eventos, envia heartbeats periódicos
+     * e descarta conexões com envio travado
+     */
+    private void dispatchLoop() {
+        long stallCheckIntervalMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos) / 2);
+        long nextHeartbeat = System.currentTimeMillis() + heartbeatIntervalMillis;
+        long nextStallCheck = System.currentTimeMillis() + stallCheckIntervalMillis;
+        while (running) {
+            try {
+                long wait = Math.max(0, Math.min(nextHeartbeat, nextStallCheck) - System.currentTimeMillis());
+                TaskChangeEvent event = inbox.poll(wait, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    fanOut(event);
+                }
+                
+                if (System.currentTimeMillis() >= nextHeartbeat) {
+                    connectionsByUser.values().forEach(connections -> connections.forEach(c -> c.enqueue(HEARTBEAT)));
+                    nextHeartbeat = System.currentTimeMillis() + heartbeatIntervalMillis;
+                }
+                
+                if (System.currentTimeMillis() >= nextStallCheck) {
+                    long now = System.nanoTime();
+                    connectionsByUser.values().forEach(connections -> connections.forEach(c -> c.dropIfStalled(now)));
+                    nextStallCheck = System.currentTimeMillis() + stallCheckIntervalMillis;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("SSE dispatcher failed to deliver event", e);
+            }
+        }
+    }
+    
+    /**
+     * Serializa o evento uma única vez e o entrega a todas as conexões do usuário
+     */
+    private void fanOut(TaskChangeEvent event) {
+        Set<Connection> connections = connectionsByUser.get(event.getUserId());
+        if (connections == null || connections.isEmpty()) {
+            return;
+        }
+        
+        // Os campos derivados refletem o instante da alteração, o mesmo enviado em occurredAt
+        TaskEventResponse response = new TaskEventResponse(
+                event.getType(),
+                event.getTaskId(),
+                event.getTask() != null ? taskMapper.toResponse(event.getTask(), event.getOccurredAt()) : null,
+                event.getOccurredAt()
+        );
+        
+        Frame frame;
+        try {
+            frame = new Frame(
+                    Long.toString(eventSequence.incrementAndGet()),
+                    event.getType().name().toLowerCase(Locale.ROOT),
+                    objectMapper.writeValueAsString(response)
+            );
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} event for task {}", event.getType(), event.getTaskId(), e);
+            return;
+        }
+        
+        for (Connection connection : connections) {
+            connection.enqueue(frame);
+        }
+    }
+    
+    private void remove(Connection connection) {
+        if (connection.closed.compareAndSet(false, true)) {
+            connectionsByUser.computeIfPresent(connection.userId, (id, connections) -> {
+                connections.remove(connection);
+                return connections.isEmpty() ? null : connections;
+            });
+            connectionCount.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Evento já serializado, compartilhado entre todas as conexões
+     */
+    private record Frame(String id, String name, String data) {
+    }
+    
+    /**
+     * Conexão SSE com buffer limitado de eventos pendentes
+     */
+    private class Connection {
+        
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Frame> buffer = new ArrayDeque<>(2);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private boolean writing;
+        // Instante (nanoTime) em que o envio em andamento começou; 0 quando não há envio
+        private volatile long sendStartedAt;
+        
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+        
+        /**
+         * Coloca um evento no buffer; descarta a conexão se o consumidor não acompanha.
+         * Nunca bloqueia: a thread de despacho não toca no emitter
+         */
+        void enqueue(Frame frame) {
+            if (closed.get()) {
+                return;
+            }
+            
+            boolean overflow = false;
+            boolean schedule = false;
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize) {
+                    overflow = true;
+                } else {
+                    buffer.add(frame);
+                    schedule = !writing;
+                    writing = true;
+                }
+            }
+            
+            if (overflow) {
+                // O escritor ativo encerra o emitter ao perceber que a conexão foi removida
+                log.debug("Dropping slow SSE consumer for user {}", userId);
+                remove(this);
+                return;
+            }
+            
+            if (schedule) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    remove(this);
+                }
+            }
+        }
+        
+        /**
+         * Envia os eventos pendentes; executado por no máximo uma thread por vez
+         */
+        private void drain() {
+            while (true) {
+                Frame frame;
+                synchronized (buffer) {
+                    frame = closed.get() ? null : buffer.poll();
+                    if (frame == null) {
+                        buffer.clear();
+                        writing = false;
+                    }
+                }
+                
+                if (frame == null) {
+                    if (closed.get()) {
+                        complete();
+                    }
+                    return;
+                }
+                
+                sendStartedAt = System.nanoTime() | 1;
+                try {
+                    if (frame == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(frame.name()).data(frame.data());
+                        emitter.send(frame.id() != null ? builder.id(frame.id()) : builder);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    remove(this);
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        }
+        
+        /**
+         * Descarta a conexão se o envio em andamento passou do limite.
+         * Não toca no emitter (o envio travado segura o lock dele): a thread escritora
+         * encerra o emitter quando o container liberar a escrita
+         */
+        void dropIfStalled(long now) {
+            long startedAt = sendStartedAt;
+            if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+                log.debug("Dropping stalled SSE consumer for user {}", userId);
+                remove(this);
+            }
+        }
+        
+        void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Já encerrado pelo container
+            }
+        }
+    }
+}
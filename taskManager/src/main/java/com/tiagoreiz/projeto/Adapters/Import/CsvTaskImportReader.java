@@ -0,0 +1,211 @@
+package com.tiagoreiz.projeto.Adapters.Import;
+
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import com.tiagoreiz.projeto.Application.Commands.TaskImportRow;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Leitor de importação em CSV (RFC 4180).
+ * A primeira linha deve conter o cabeçalho com as colunas title, description,
+ * priority e dueDate (ou due_date), em qualquer ordem.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class CsvTaskImportReader implements TaskImportReader {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final BufferedReader reader;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private Map<String, Integer> columns;
+    private long currentLine = 1;
+    private long recordLine;
+    private TaskImportRow next;
+    private boolean finished;
+    
+    public CsvTaskImportReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNextRow();
+        }
+        return next != null;
+    }
+    
+    @Override
+    public TaskImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TaskImportRow row = next;
+        next = null;
+        return row;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    /**
+     * Lê o próximo registro não vazio e converte para TaskImportRow
+     */
+    private TaskImportRow readNextRow() {
+        try {
+            if (columns == null && !readHeader()) {
+                finished = true;
+                return null;
+            }
+            
+            while (readRecord()) {
+                // Ignora linhas em branco
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                return toRow();
+            }
+            
+            finished = true;
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV import", e);
+        }
+    }
+    
+    /**
+     * Lê o cabeçalho e monta o índice das colunas
+     * 
+     * @return false se o arquivo está vazio
+     */
+    private boolean readHeader() throws IOException {
+        if (!readRecord()) {
+            return false;
+        }
+        
+        columns = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "");
+            columns.put(name, i);
+        }
+        
+        if (!columns.containsKey("title") || !columns.containsKey("priority")) {
+            throw new TaskValidationException("CSV header must contain the 'title' and 'priority' columns");
+        }
+        return true;
+    }
+    
+    /**
+     * Lê um registro CSV, respeitando campos entre aspas que podem conter vírgulas e quebras de linha
+     * 
+     * @return false se chegou ao fim do arquivo
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        recordLine = currentLine;
+        
+        boolean quoted = false;
+        boolean sawAny = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            sawAny = true;
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (peek != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        currentLine++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                currentLine++;
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+        
+        if (!sawAny) {
+            return false;
+        }
+        fields.add(field.toString());
+        return true;
+    }
+    
+    /**
+     * Converte o registro atual em TaskImportRow
+     */
+    private TaskImportRow toRow() {
+        String priority = column("priority");
+        TaskPriority parsedPriority = null;
+        if (priority != null) {
+            try {
+                parsedPriority = TaskPriority.valueOf(priority.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return TaskImportRow.invalid(recordLine, "Invalid priority: " + priority);
+            }
+        }
+        
+        String dueDate = column("duedate");
+        LocalDateTime parsedDueDate = null;
+        if (dueDate != null) {
+            try {
+                parsedDueDate = LocalDateTime.parse(dueDate.trim());
+            } catch (DateTimeParseException e) {
+                return TaskImportRow.invalid(recordLine, "Invalid due date: " + dueDate);
+            }
+        }
+        
+        TaskRequest request = new TaskRequest(column("title"), column("description"), parsedPriority, parsedDueDate);
+        return TaskImportRow.valid(recordLine, request);
+    }
+    
+    /**
+     * Obtém o valor de uma coluna no registro atual (null se ausente ou vazia)
+     */
+    private String column(String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tiagoreiz.projeto.Adapters.Import;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import com.tiagoreiz.projeto.Application.Commands.TaskImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * Leitor de importação em NDJSON: um objeto TaskRequest por linha.
+ * Uma linha com JSON inválido é reportada como erro sem interromper a importação.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class NdjsonTaskImportReader implements TaskImportReader {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+    private TaskImportRow next;
+    private boolean finished;
+    
+    public NdjsonTaskImportReader(InputStream input, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.objectReader = objectMapper.readerFor(TaskRequest.class);
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNextRow();
+        }
+        return next != null;
+    }
+    
+    @Override
+    public TaskImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TaskImportRow row = next;
+        next = null;
+        return row;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    /**
+     * Lê a próxima linha não vazia e converte para TaskImportRow
+     */
+    private TaskImportRow readNextRow() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    TaskRequest request = objectReader.readValue(line);
+                    return TaskImportRow.valid(lineNumber, request);
+                } catch (JsonProcessingException e) {
+                    return TaskImportRow.invalid(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+            
+            finished = true;
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read NDJSON import", e);
+        }
+    }
+}
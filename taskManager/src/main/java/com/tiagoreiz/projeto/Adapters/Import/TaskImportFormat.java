@@ -0,0 +1,51 @@
+package com.tiagoreiz.projeto.Adapters.Import;
+
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceitos pela importação em massa de tarefas.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public enum TaskImportFormat {
+    
+    /**
+     * CSV com cabeçalho (title, description, priority, dueDate)
+     */
+    CSV(MediaType.parseMediaType("text/csv")),
+    
+    /**
+     * Um objeto JSON de TaskRequest por linha
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+    
+    public static final String CSV_VALUE = "text/csv";
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    
+    private final MediaType mediaType;
+    
+    TaskImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+    
+    /**
+     * Resolve o formato a partir do cabeçalho Content-Type
+     * 
+     * @param contentType Valor do cabeçalho Content-Type
+     * @return Formato correspondente
+     * @throws TaskValidationException Se o tipo não é suportado
+     */
+    public static TaskImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (TaskImportFormat format : values()) {
+                if (format.mediaType.equalsTypeAndSubtype(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new TaskValidationException("Unsupported import content type: " + contentType);
+    }
+}
@@ -0,0 +1,17 @@
+package com.tiagoreiz.projeto.Adapters.Import;
+
+import com.tiagoreiz.projeto.Application.Commands.TaskImportRow;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * Leitor incremental de arquivos de importação de tarefas.
+ * Cada chamada a next() lê apenas a próxima linha do arquivo, permitindo
+ * processar uploads maiores que a memória disponível.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public interface TaskImportReader extends Iterator<TaskImportRow>, Closeable {
+}
@@ -0,0 +1,34 @@
+package com.tiagoreiz.projeto.Adapters.Import;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+/**
+ * Cria o leitor adequado para cada formato de importação.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskImportReaderFactory {
+    
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Abre um leitor incremental sobre o corpo da requisição
+     * 
+     * @param format Formato do arquivo
+     * @param input Conteúdo do arquivo
+     * @return Leitor de linhas de importação
+     */
+    public TaskImportReader open(TaskImportFormat format, InputStream input) {
+        return switch (format) {
+            case CSV -> new CsvTaskImportReader(input);
+            case NDJSON -> new NdjsonTaskImportReader(input, objectMapper);
+        };
+    }
+}
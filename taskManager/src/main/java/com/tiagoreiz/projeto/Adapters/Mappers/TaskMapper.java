@@ -4,8 +4,11 @@ import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
 import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
 import com.tiagoreiz.projeto.Core.Entities.Task;
 import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.factory.Mappers;
 
 import java.time.LocalDateTime;
@@ -35,6 +38,7 @@ public interface TaskMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "completedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "userId", source = "userId")
     Task toEntity(TaskRequest request, Long userId);
     
@@ -42,19 +46,33 @@ public interface TaskMapper {
      * Converte uma entidade Task para TaskResponse
      * 
      * @param task Entidade Task do domínio
+     * @param now Instante de referência para isOverdue e daysUntilDue
      * @return DTO de resposta de tarefa
      */
     @Mapping(target = "isOverdue", ignore = true) // Será calculado no TaskResponse
     @Mapping(target = "daysUntilDue", ignore = true) // Será calculado no TaskResponse
-    TaskResponse toResponse(Task task);
+    TaskResponse toResponse(Task task, @Context LocalDateTime now);
     
     /**
      * Converte uma lista de entidades Task para lista de TaskResponse
      * 
      * @param tasks Lista de entidades Task do domínio
+     * @param now Instante de referência, o mesmo para todas as tarefas da lista
      * @return Lista de DTOs de resposta de tarefa
      */
-    List<TaskResponse> toResponseList(List<Task> tasks);
+    List<TaskResponse> toResponseList(List<Task> tasks, @Context LocalDateTime now);
+    
+    /**
+     * Calcula isOverdue e daysUntilDue após o mapeamento.
+     * O MapStruct usa o construtor sem argumentos do TaskResponse, que não calcula os campos derivados.
+     * 
+     * @param response DTO já preenchido
+     * @param now Instante de referência
+     */
+    @AfterMapping
+    default void calculateDerivedFields(@MappingTarget TaskResponse response, @Context LocalDateTime now) {
+        response.updateDerivedFields(now);
+    }
     
     /**
      * Cria uma entidade Task a partir de dados básicos
@@ -72,6 +90,7 @@ public interface TaskMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "completedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Task createTask(String title, String description, TaskPriority priority, 
                    LocalDateTime dueDate, Long userId);
     
@@ -87,6 +106,7 @@ public interface TaskMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "completedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "userId", ignore = true)
     void updateTaskFromRequest(TaskRequest request, @org.mapstruct.MappingTarget Task existingTask);
 }
\ No newline at end of file
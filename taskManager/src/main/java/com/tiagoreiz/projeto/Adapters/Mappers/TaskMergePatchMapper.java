@@ -0,0 +1,87 @@
+package com.tiagoreiz.projeto.Adapters.Mappers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converte um documento JSON Merge Patch (RFC 7396) em TaskPatch.
+ * Campos ausentes não são alterados; campos com null são removidos.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+public class TaskMergePatchMapper {
+    
+    /**
+     * Converte o documento de merge patch
+     * 
+     * @param document Corpo da requisição
+     * @return Alteração parcial da tarefa
+     * @throws TaskValidationException Se o documento não é um objeto ou contém campos inválidos
+     */
+    public TaskPatch toPatch(JsonNode document) {
+        if (document == null || !document.isObject()) {
+            throw new TaskValidationException("Merge patch document must be a JSON object");
+        }
+        
+        TaskPatch patch = new TaskPatch();
+        Iterator<Map.Entry<String, JsonNode>> fields = document.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            
+            switch (field.getKey()) {
+                case "title" -> patch.title(textOrNull("title", value));
+                case "description" -> patch.description(textOrNull("description", value));
+                case "priority" -> patch.priority(priorityOrNull(value));
+                case "dueDate" -> patch.dueDate(dateOrNull(value));
+                default -> throw new TaskValidationException("Field '" + field.getKey() + "' cannot be patched");
+            }
+        }
+        return patch;
+    }
+    
+    private String textOrNull(String name, JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new TaskValidationException("Field '" + name + "' must be a string");
+        }
+        return value.textValue();
+    }
+    
+    private TaskPriority priorityOrNull(JsonNode value) {
+        String priority = textOrNull("priority", value);
+        if (priority == null) {
+            return null;
+        }
+        try {
+            return TaskPriority.valueOf(priority.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new TaskValidationException("Invalid priority: " + priority);
+        }
+    }
+    
+    private LocalDateTime dateOrNull(JsonNode value) {
+        String dueDate = textOrNull("dueDate", value);
+        if (dueDate == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(dueDate);
+        } catch (DateTimeParseException e) {
+            throw new TaskValidationException("Invalid due date: " + dueDate);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.tiagoreiz.projeto.Adapters.DTOs.ErrorResponse;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+
+/**
+ * Módulo Jackson com os serializadores escritos à mão dos DTOs mais escritos pelas APIs
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class ApiSerializersModule extends SimpleModule {
+
+    public ApiSerializersModule() {
+        super("TaskmasterApiSerializers");
+        addSerializer(TaskResponse.class, new TaskResponseSerializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+    }
+}
@@ -0,0 +1,66 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.tiagoreiz.projeto.Adapters.DTOs.ErrorResponse;
+
+import java.io.IOException;
+
+/**
+ * Serializador escrito à mão do ErrorResponse, escrito em toda resposta de erro
+ * (inclusive nas recusas por sobrecarga, quando a CPU é mais escassa).
+ * O timestamp segue o @JsonFormat("yyyy-MM-dd HH:mm:ss") do DTO.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString ERROR_CODE = new SerializedString("errorCode");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString PATH = new SerializedString("path");
+    private static final SerializableString VALIDATION_ERRORS = new SerializedString("validationErrors");
+    private static final SerializableString FIELD = new SerializedString("field");
+    private static final SerializableString REJECTED_VALUE = new SerializedString("rejectedValue");
+
+    public ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ErrorResponse value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        TaskResponseSerializer.writeString(generator, MESSAGE, value.getMessage());
+        TaskResponseSerializer.writeString(generator, ERROR_CODE, value.getErrorCode());
+        generator.writeFieldName(STATUS);
+        generator.writeNumber(value.getStatus());
+        generator.writeFieldName(TIMESTAMP);
+        if (value.getTimestamp() == null) {
+            generator.writeNull();
+        } else {
+            IsoDateTimes.writeSpaced(generator, value.getTimestamp());
+        }
+        TaskResponseSerializer.writeString(generator, PATH, value.getPath());
+        generator.writeFieldName(VALIDATION_ERRORS);
+        if (value.getValidationErrors() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (ErrorResponse.ValidationError error : value.getValidationErrors()) {
+                generator.writeStartObject(error);
+                TaskResponseSerializer.writeString(generator, FIELD, error.getField());
+                TaskResponseSerializer.writeString(generator, MESSAGE, error.getMessage());
+                generator.writeFieldName(REJECTED_VALUE);
+                provider.defaultSerializeValue(error.getRejectedValue(), generator);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+}
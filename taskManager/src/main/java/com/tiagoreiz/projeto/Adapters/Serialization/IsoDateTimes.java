@@ -0,0 +1,102 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formatação de LocalDateTime sem DateTimeFormatter para os serializadores das APIs.
+ * Os caracteres são montados em um buffer reaproveitado por thread e escritos direto no gerador.
+ * Anos fora de 1..9999 usam os formatadores do JDK, que tratam sinal e largura.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+final class IsoDateTimes {
+
+    /** Mesmo padrão do @JsonFormat do ErrorResponse */
+    private static final DateTimeFormatter SPACED = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn" */
+    private static final int MAX_LENGTH = 29;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private IsoDateTimes() {
+    }
+
+    /**
+     * Escreve a data no formato ISO_LOCAL_DATE_TIME (segundos sempre presentes, fração sem zeros à direita),
+     * idêntico ao LocalDateTimeSerializer do JavaTimeModule
+     */
+    static void writeIso(JsonGenerator generator, LocalDateTime value) throws IOException {
+        if (!fastPath(value)) {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int length = writeDateTime(buffer, value, 'T');
+
+        int nanos = value.getNano();
+        if (nanos != 0) {
+            int digits = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                digits--;
+            }
+            buffer[length++] = '.';
+            for (int i = length + digits - 1; i >= length; i--) {
+                buffer[i] = (char) ('0' + nanos % 10);
+                nanos /= 10;
+            }
+            length += digits;
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    /**
+     * Escreve a data no formato "yyyy-MM-dd HH:mm:ss"
+     */
+    static void writeSpaced(JsonGenerator generator, LocalDateTime value) throws IOException {
+        if (!fastPath(value)) {
+            generator.writeString(SPACED.format(value));
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        generator.writeString(buffer, 0, writeDateTime(buffer, value, ' '));
+    }
+
+    private static boolean fastPath(LocalDateTime value) {
+        return value.getYear() >= 1 && value.getYear() <= 9999;
+    }
+
+    private static int writeDateTime(char[] buffer, LocalDateTime value, char separator) {
+        int year = value.getYear();
+        buffer[0] = digit(year / 1000);
+        buffer[1] = digit(year / 100 % 10);
+        buffer[2] = digit(year / 10 % 10);
+        buffer[3] = digit(year % 10);
+        buffer[4] = '-';
+        twoDigits(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        twoDigits(buffer, 8, value.getDayOfMonth());
+        buffer[10] = separator;
+        twoDigits(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        twoDigits(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        twoDigits(buffer, 17, value.getSecond());
+        return 19;
+    }
+
+    private static void twoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = digit(value / 10);
+        buffer[offset + 1] = digit(value % 10);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
@@ -0,0 +1,36 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ajustes do ObjectMapper das APIs. O Spring Boot registra os módulos declarados como beans
+ * no Jackson2ObjectMapperBuilder, de modo que valem para JSON, CBOR e Smile.
+ *
+ * <ul>
+ *   <li>Blackbird: troca a reflexão dos getters/setters por LambdaMetafactory nos demais DTOs</li>
+ *   <li>ApiSerializersModule: serializadores escritos à mão do TaskResponse e do ErrorResponse</li>
+ * </ul>
+ *
+ * Os buffers de serialização já são reaproveitados por thread pelo BufferRecycler do Jackson.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jackson.tuned", havingValue = "true", matchIfMissing = true)
+public class JacksonTuningConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module apiSerializersModule() {
+        return new ApiSerializersModule();
+    }
+}
@@ -0,0 +1,83 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Escreve listagens de tarefas com apenas os campos pedidos em ?fields=.
+ * As tarefas vêm do repositório parcialmente preenchidas; os valores são escritos pelo
+ * ObjectMapper do formato negociado (JSON, CBOR ou Smile), com o mesmo formato de datas
+ * e enums do TaskResponse completo.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+public class SparseTaskListWriter {
+
+    private static final int ESTIMATED_FIELD_BYTES = 24;
+
+    private final Clock clock;
+
+    public SparseTaskListWriter(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Serializa a lista como um array com os campos pedidos, na ordem do TaskResponse
+     *
+     * @param tasks Tarefas com ao menos as colunas dos campos pedidos
+     * @param fields Campos pedidos
+     * @param objectMapper ObjectMapper do formato de saída
+     * @return Bytes do array no formato do ObjectMapper
+     */
+    public byte[] writeList(List<Task> tasks, Set<TaskResponseField> fields, ObjectMapper objectMapper) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + tasks.size() * fields.size() * ESTIMATED_FIELD_BYTES);
+        LocalDateTime now = TimeProvider.now(clock);
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            for (Task task : tasks) {
+                generator.writeStartObject();
+                for (TaskResponseField field : fields) {
+                    generator.writeFieldName(field.getJsonName());
+                    generator.writeObject(value(task, field, now));
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize task list", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static Object value(Task task, TaskResponseField field, LocalDateTime now) {
+        return switch (field) {
+            case ID -> task.getId();
+            case TITLE -> task.getTitle();
+            case DESCRIPTION -> task.getDescription();
+            case STATUS -> task.getStatus();
+            case PRIORITY -> task.getPriority();
+            case CREATED_AT -> task.getCreatedAt();
+            case UPDATED_AT -> task.getUpdatedAt();
+            case DUE_DATE -> task.getDueDate();
+            case COMPLETED_AT -> task.getCompletedAt();
+            case USER_ID -> task.getUserId();
+            case VERSION -> task.getVersion();
+            case IS_OVERDUE -> TaskResponse.isOverdue(task.getStatus(), task.getDueDate(), now);
+            case DAYS_UNTIL_DUE -> TaskResponse.daysUntilDue(task.getStatus(), task.getDueDate(), now);
+        };
+    }
+}
@@ -0,0 +1,275 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache do JSON já serializado de cada tarefa, usado para montar as listagens sem passar
+ * pelo TaskMapper e pelo Jackson a cada requisição.
+ *
+ * Cada fragmento guarda os bytes do TaskResponse sem os campos que dependem do horário
+ * (isOverdue e daysUntilDue) e sem a chave de fechamento; ele vale enquanto a versão e o
+ * updatedAt da tarefa forem os mesmos. A listagem concatena os fragmentos e acrescenta os
+ * campos derivados, calculados com um único instante por requisição. O resultado é idêntico
+ * ao da serialização do List&lt;TaskResponse&gt; pelo ObjectMapper da aplicação.
+ *
+ * O tamanho total é limitado por app.task-json-cache.max-bytes, dividido entre segmentos
+ * escolhidos pelo ID da tarefa. Cada segmento tem o próprio lock e descarte LRU, então
+ * listagens concorrentes só disputam quando tocam o mesmo segmento e o LRU é aproximado.
+ * Métricas: taskmaster.taskjson.fragments (result = hit, miss) e taskmaster.taskjson.bytes.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+public class TaskJsonFragmentCache {
+
+    private static final String OVERDUE_PROPERTY = "isOverdue";
+    private static final String DAYS_UNTIL_DUE_PROPERTY = "daysUntilDue";
+    private static final byte[] OVERDUE_FIELD = (",\"" + OVERDUE_PROPERTY + "\":").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DAYS_UNTIL_DUE_FIELD = (",\"" + DAYS_UNTIL_DUE_PROPERTY + "\":").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    /** Espaço reservado por tarefa para separador e campos derivados */
+    private static final int DERIVED_FIELDS_BYTES = 48;
+    private static final long FRAGMENT_OVERHEAD_BYTES = 96;
+    /** Quantidade de segmentos (potência de 2) */
+    private static final int SEGMENTS = 16;
+
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final boolean enabled;
+    private final long maxSegmentBytes;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public TaskJsonFragmentCache(TaskMapper taskMapper,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 Clock clock,
+                                 @Value("${app.task-json-cache.enabled:true}") boolean enabled,
+                                 @Value("${app.task-json-cache.max-bytes:16777216}") long maxBytes) {
+        this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxSegmentBytes = maxBytes / SEGMENTS;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+        this.hits = fragmentCounter(meterRegistry, "hit");
+        this.misses = fragmentCounter(meterRegistry, "miss");
+        Gauge.builder("taskmaster.taskjson.bytes", totalBytes, AtomicLong::get)
+                .description("Size of the cached serialized tasks")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serializa a lista de tarefas como um array JSON de TaskResponse
+     *
+     * @param tasks Tarefas
+     * @return Bytes UTF-8 do array JSON
+     */
+    public byte[] writeList(List<Task> tasks) {
+        // Um único instante para toda a listagem, como no mapeamento em lote
+        LocalDateTime now = TimeProvider.now(clock);
+        if (!enabled) {
+            return writeJson(taskMapper.toResponseList(tasks, now));
+        }
+
+        int size = tasks.size();
+        byte[][] parts = new byte[size][];
+        lookupAll(tasks, parts);
+
+        boolean[] serialized = new boolean[size];
+        int missing = 0;
+        long length = 2;
+        for (int i = 0; i < size; i++) {
+            if (parts[i] == null) {
+                parts[i] = serializeFragment(tasks.get(i), now);
+                serialized[i] = true;
+                missing++;
+            }
+            length += parts[i].length + DERIVED_FIELDS_BYTES;
+        }
+        if (missing > 0) {
+            storeAll(tasks, parts, serialized);
+            misses.increment(missing);
+        }
+        hits.increment(size - missing);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(length, Integer.MAX_VALUE - 8));
+        out.write('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(parts[i]);
+            writeDerivedFields(out, tasks.get(i), now);
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    /**
+     * Descarta o fragmento da tarefa alterada ou excluída; a versão nova é serializada na próxima listagem
+     *
+     * @param event Evento de alteração
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangeEvent event) {
+        if (event.getTaskId() != null) {
+            remove(event.getTaskId());
+        }
+    }
+
+    /**
+     * Serializa o TaskResponse da tarefa sem os campos derivados e sem a chave de fechamento
+     */
+    private byte[] serializeFragment(Task task, LocalDateTime now) {
+        ObjectNode node = objectMapper.valueToTree(taskMapper.toResponse(task, now));
+        node.remove(OVERDUE_PROPERTY);
+        node.remove(DAYS_UNTIL_DUE_PROPERTY);
+        byte[] json = writeJson(node);
+        int end = json.length - 1;
+        while (end > 0 && json[end] != '}') {
+            end--;
+        }
+        return Arrays.copyOf(json, end);
+    }
+
+    private static void writeDerivedFields(ByteArrayOutputStream out, Task task, LocalDateTime now) {
+        out.writeBytes(OVERDUE_FIELD);
+        out.writeBytes(TaskResponse.isOverdue(task.getStatus(), task.getDueDate(), now) ? TRUE : FALSE);
+        out.writeBytes(DAYS_UNTIL_DUE_FIELD);
+        Long days = TaskResponse.daysUntilDue(task.getStatus(), task.getDueDate(), now);
+        out.writeBytes(days == null ? NULL : Long.toString(days).getBytes(StandardCharsets.US_ASCII));
+        out.write('}');
+    }
+
+    private byte[] writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private void lookupAll(List<Task> tasks, byte[][] parts) {
+        for (int i = 0; i < parts.length; i++) {
+            Task task = tasks.get(i);
+            if (task.getId() == null) {
+                continue;
+            }
+            Fragment fragment = segmentFor(task.getId()).get(task.getId());
+            if (fragment != null && fragment.matches(task)) {
+                parts[i] = fragment.json;
+            }
+        }
+    }
+
+    private void storeAll(List<Task> tasks, byte[][] parts, boolean[] serialized) {
+        for (int i = 0; i < parts.length; i++) {
+            Task task = tasks.get(i);
+            if (!serialized[i] || task.getId() == null || task.getVersion() == null) {
+                continue;
+            }
+            segmentFor(task.getId()).put(task.getId(), new Fragment(task.getVersion(), task.getUpdatedAt(), parts[i]));
+        }
+    }
+
+    private void remove(Long taskId) {
+        segmentFor(taskId).remove(taskId);
+    }
+
+    private Segment segmentFor(Long taskId) {
+        return segments[Long.hashCode(taskId) & (SEGMENTS - 1)];
+    }
+
+    private static Counter fragmentCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("taskmaster.taskjson.fragments")
+                .description("Serialized task fragments reused or built for list responses")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Parte do cache protegida por um lock próprio, com descarte LRU dentro do segmento
+     */
+    private final class Segment {
+
+        private final LinkedHashMap<Long, Fragment> fragments = new LinkedHashMap<>(32, 0.75f, true);
+        private long bytes;
+
+        synchronized Fragment get(Long taskId) {
+            return fragments.get(taskId);
+        }
+
+        synchronized void put(Long taskId, Fragment fragment) {
+            Fragment previous = fragments.put(taskId, fragment);
+            long delta = fragment.bytes() - (previous == null ? 0 : previous.bytes());
+
+            Iterator<Fragment> eldest = fragments.values().iterator();
+            while (bytes + delta > maxSegmentBytes && eldest.hasNext()) {
+                delta -= eldest.next().bytes();
+                eldest.remove();
+            }
+            bytes += delta;
+            totalBytes.addAndGet(delta);
+        }
+
+        synchronized void remove(Long taskId) {
+            Fragment previous = fragments.remove(taskId);
+            if (previous != null) {
+                bytes -= previous.bytes();
+                totalBytes.addAndGet(-previous.bytes());
+            }
+        }
+    }
+
+    /**
+     * JSON de uma versão da tarefa
+     */
+    private record Fragment(long version, LocalDateTime updatedAt, byte[] json) {
+
+        boolean matches(Task task) {
+            return task.getVersion() != null && task.getVersion() == version
+                    && Objects.equals(task.getUpdatedAt(), updatedAt);
+        }
+
+        long bytes() {
+            return FRAGMENT_OVERHEAD_BYTES + json.length;
+        }
+    }
+}
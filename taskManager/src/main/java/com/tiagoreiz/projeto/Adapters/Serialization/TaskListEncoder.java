@@ -0,0 +1,137 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Codifica as listagens de tarefas no formato negociado pelo Accept.
+ *
+ * <ul>
+ *   <li>JSON (padrão): fragmentos do TaskJsonFragmentCache ou, com ?fields=, o SparseTaskListWriter</li>
+ *   <li>CBOR e Smile: ObjectMapper do conversor binário correspondente</li>
+ * </ul>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+public class TaskListEncoder {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    /** Em caso de empate entre curingas, o primeiro formato (JSON) é escolhido */
+    private static final List<MediaType> SUPPORTED = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private final TaskMapper taskMapper;
+    private final TaskJsonFragmentCache taskJsonFragmentCache;
+    private final SparseTaskListWriter sparseTaskListWriter;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    private final Clock clock;
+
+    public TaskListEncoder(TaskMapper taskMapper,
+                           TaskJsonFragmentCache taskJsonFragmentCache,
+                           SparseTaskListWriter sparseTaskListWriter,
+                           ObjectMapper objectMapper,
+                           MappingJackson2CborHttpMessageConverter cborConverter,
+                           MappingJackson2SmileHttpMessageConverter smileConverter,
+                           Clock clock) {
+        this.taskMapper = taskMapper;
+        this.taskJsonFragmentCache = taskJsonFragmentCache;
+        this.sparseTaskListWriter = sparseTaskListWriter;
+        this.jsonMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.smileMapper = smileConverter.getObjectMapper();
+        this.clock = clock;
+    }
+
+    /**
+     * Escolhe o formato da listagem a partir do cabeçalho Accept.
+     * Vale o tipo aceito com maior qualidade; com qualidades iguais, um tipo explícito vence um curinga.
+     * Accept ausente, inválido ou sem formato suportado resulta em JSON.
+     *
+     * @param accept Valor do cabeçalho Accept (pode ser null)
+     * @return JSON, CBOR ou Smile
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        MediaType best = MediaType.APPLICATION_JSON;
+        double bestQuality = -1;
+        boolean bestSpecific = false;
+        for (MediaType accepted : acceptedTypes) {
+            double quality = accepted.getQualityValue();
+            if (quality <= 0) {
+                continue;
+            }
+            boolean specific = !accepted.isWildcardType() && !accepted.isWildcardSubtype();
+            for (MediaType supported : SUPPORTED) {
+                if (!accepted.includes(supported)) {
+                    continue;
+                }
+                if (quality > bestQuality || (quality == bestQuality && specific && !bestSpecific)) {
+                    best = supported;
+                    bestQuality = quality;
+                    bestSpecific = specific;
+                }
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Codifica a listagem
+     *
+     * @param tasks Tarefas
+     * @param fields Campos pedidos em ?fields= (null para o TaskResponse completo)
+     * @param mediaType Formato escolhido por {@link #negotiate(String)}
+     * @return Corpo da resposta
+     */
+    public byte[] encode(List<Task> tasks, Set<TaskResponseField> fields, MediaType mediaType) {
+        ObjectMapper mapper = mapper(mediaType);
+        if (fields != null) {
+            return sparseTaskListWriter.writeList(tasks, fields, mapper);
+        }
+        if (mapper == jsonMapper) {
+            // Monta o JSON a partir dos fragmentos já serializados de cada tarefa
+            return taskJsonFragmentCache.writeList(tasks);
+        }
+        try {
+            return mapper.writeValueAsBytes(taskMapper.toResponseList(tasks, TimeProvider.now(clock)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize task list as " + mediaType, e);
+        }
+    }
+
+    private ObjectMapper mapper(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+            return cborMapper;
+        }
+        if (APPLICATION_SMILE.equalsTypeAndSubtype(mediaType)) {
+            return smileMapper;
+        }
+        return jsonMapper;
+    }
+}
@@ -0,0 +1,91 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.tiagoreiz.projeto.Core.Entities.TaskField;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos do TaskResponse que podem ser pedidos em ?fields=, na ordem em que são escritos,
+ * com as colunas necessárias para preenchê-los.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public enum TaskResponseField {
+    ID("id", TaskField.ID),
+    TITLE("title", TaskField.TITLE),
+    DESCRIPTION("description", TaskField.DESCRIPTION),
+    STATUS("status", TaskField.STATUS),
+    PRIORITY("priority", TaskField.PRIORITY),
+    CREATED_AT("createdAt", TaskField.CREATED_AT),
+    UPDATED_AT("updatedAt", TaskField.UPDATED_AT),
+    DUE_DATE("dueDate", TaskField.DUE_DATE),
+    COMPLETED_AT("completedAt", TaskField.COMPLETED_AT),
+    USER_ID("userId", TaskField.USER_ID),
+    VERSION("version", TaskField.VERSION),
+    IS_OVERDUE("isOverdue", TaskField.STATUS, TaskField.DUE_DATE),
+    DAYS_UNTIL_DUE("daysUntilDue", TaskField.STATUS, TaskField.DUE_DATE);
+
+    private static final String PARAMETER = "fields";
+
+    private final String jsonName;
+    private final TaskField[] columns;
+
+    TaskResponseField(String jsonName, TaskField... columns) {
+        this.jsonName = jsonName;
+        this.columns = columns;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Interpreta o parâmetro fields (nomes JSON separados por vírgula)
+     *
+     * @param fields Valor do parâmetro
+     * @return Campos pedidos
+     * @throws TaskValidationException Se o parâmetro estiver vazio ou contiver um campo desconhecido
+     */
+    public static Set<TaskResponseField> parse(String fields) {
+        EnumSet<TaskResponseField> selected = EnumSet.noneOf(TaskResponseField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(byJsonName(trimmed));
+        }
+        if (selected.isEmpty()) {
+            throw new TaskValidationException(PARAMETER, "At least one field must be informed");
+        }
+        return selected;
+    }
+
+    /**
+     * Colunas que o repositório precisa ler para escrever os campos pedidos
+     *
+     * @param fields Campos pedidos
+     * @return Atributos da tarefa a carregar
+     */
+    public static Set<TaskField> columns(Set<TaskResponseField> fields) {
+        EnumSet<TaskField> columns = EnumSet.noneOf(TaskField.class);
+        for (TaskResponseField field : fields) {
+            for (TaskField column : field.columns) {
+                columns.add(column);
+            }
+        }
+        return columns;
+    }
+
+    private static TaskResponseField byJsonName(String name) {
+        for (TaskResponseField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new TaskValidationException(PARAMETER, "Unknown field '" + name + "'");
+    }
+}
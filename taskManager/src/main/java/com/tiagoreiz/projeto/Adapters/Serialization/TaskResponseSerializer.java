@@ -0,0 +1,100 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Serializador escrito à mão do TaskResponse, sem reflexão nem lookup de serializadores por campo.
+ * Os nomes dos campos são pré-codificados e as datas são formatadas pelo IsoDateTimes.
+ * A saída é a mesma do serializador gerado pelo Jackson com a configuração padrão do Spring Boot
+ * (ordem dos campos, nulls incluídos, enums pelo nome); o ApiSerializersCompatibilityTest
+ * compara as duas com o ObjectMapper configurado pelo Spring Boot.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class TaskResponseSerializer extends StdSerializer<TaskResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRIORITY = new SerializedString("priority");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString COMPLETED_AT = new SerializedString("completedAt");
+    private static final SerializableString USER_ID = new SerializedString("userId");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString IS_OVERDUE = new SerializedString("isOverdue");
+    private static final SerializableString DAYS_UNTIL_DUE = new SerializedString("daysUntilDue");
+
+    public TaskResponseSerializer() {
+        super(TaskResponse.class);
+    }
+
+    @Override
+    public void serialize(TaskResponse value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        writeNumber(generator, ID, value.getId());
+        writeString(generator, TITLE, value.getTitle());
+        writeString(generator, DESCRIPTION, value.getDescription());
+        writeString(generator, STATUS, value.getStatus() == null ? null : value.getStatus().name());
+        writeString(generator, PRIORITY, value.getPriority() == null ? null : value.getPriority().name());
+        writeDate(generator, provider, CREATED_AT, value.getCreatedAt());
+        writeDate(generator, provider, UPDATED_AT, value.getUpdatedAt());
+        writeDate(generator, provider, DUE_DATE, value.getDueDate());
+        writeDate(generator, provider, COMPLETED_AT, value.getCompletedAt());
+        writeNumber(generator, USER_ID, value.getUserId());
+        writeNumber(generator, VERSION, value.getVersion());
+        generator.writeFieldName(IS_OVERDUE);
+        if (value.getIsOverdue() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value.getIsOverdue());
+        }
+        writeNumber(generator, DAYS_UNTIL_DUE, value.getDaysUntilDue());
+        generator.writeEndObject();
+    }
+
+    static void writeString(JsonGenerator generator, SerializableString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    static void writeNumber(JsonGenerator generator, SerializableString name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    /**
+     * Com WRITE_DATES_AS_TIMESTAMPS habilitado, delega ao serializador do JavaTimeModule
+     */
+    private static void writeDate(JsonGenerator generator, SerializerProvider provider,
+                                  SerializableString name, LocalDateTime value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, generator);
+        } else {
+            IsoDateTimes.writeIso(generator, value);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.tiagoreiz.projeto.Application.Commands;
+
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Linha lida de um arquivo de importação de tarefas.
+ * Contém o DTO interpretado ou a mensagem de erro de leitura da linha.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskImportRow {
+    
+    /**
+     * Número da linha no arquivo de origem (começando em 1)
+     */
+    private final long lineNumber;
+    
+    /**
+     * Dados da tarefa (null quando a linha não pôde ser interpretada)
+     */
+    private final TaskRequest request;
+    
+    /**
+     * Erro de leitura da linha (null quando a linha foi interpretada)
+     */
+    private final String error;
+    
+    /**
+     * Cria uma linha interpretada com sucesso
+     */
+    public static TaskImportRow valid(long lineNumber, TaskRequest request) {
+        return new TaskImportRow(lineNumber, request, null);
+    }
+    
+    /**
+     * Cria uma linha que não pôde ser interpretada
+     */
+    public static TaskImportRow invalid(long lineNumber, String error) {
+        return new TaskImportRow(lineNumber, null, error);
+    }
+    
+    /**
+     * Verifica se a linha foi interpretada com sucesso
+     */
+    public boolean isParsed() {
+        return error == null;
+    }
+}
@@ -2,16 +2,25 @@ package com.tiagoreiz.projeto.Application.UseCases.Task;
 
 import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
 import com.tiagoreiz.projeto.Application.Commands.CreateTaskCommand;
+import com.tiagoreiz.projeto.Application.Validation.ValidationRules;
 import com.tiagoreiz.projeto.Core.Common.Result;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Entities.Task;
 import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import com.tiagoreiz.projeto.Core.Events.TaskEventPublisher;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
 import com.tiagoreiz.projeto.Core.Exceptions.UserNotFoundException;
 import com.tiagoreiz.projeto.Core.Repositories.TaskRepository;
 import com.tiagoreiz.projeto.Core.Repositories.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
+import com.tiagoreiz.projeto.Core.Validation.Validator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 
 /**
@@ -22,11 +31,26 @@ import java.time.LocalDateTime;
  * @version 1.0
  */
 @Service
-@RequiredArgsConstructor
 public class CreateTaskUseCase {
     
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskEventPublisher taskEventPublisher;
+    private final Clock clock;
+    private final Validator<TaskRequest> taskRequestValidator;
+    private final Validator<CreateTaskCommand> createTaskCommandValidator;
+    
+    public CreateTaskUseCase(TaskRepository taskRepository,
+                             UserRepository userRepository,
+                             TaskEventPublisher taskEventPublisher,
+                             Clock clock) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.taskEventPublisher = taskEventPublisher;
+        this.clock = clock;
+        this.taskRequestValidator = ValidationRules.taskRequest(clock);
+        this.createTaskCommandValidator = ValidationRules.createTaskCommand(clock);
+    }
     
     /**
      * Cria uma nova tarefa no sistema usando DTO
@@ -35,13 +59,14 @@ public class CreateTaskUseCase {
      * @param userId ID do usuário que está criando a tarefa
      * @return Result contendo a tarefa criada ou erro
      */
+    @Transactional
     public Result<Task, Exception> execute(TaskRequest taskRequest, Long userId) {
         
         try {
-            // Valida o DTO
-            Result<Void, TaskValidationException> validationResult = validateTaskRequest(taskRequest, userId);
-            if (validationResult.isFailure()) {
-                return Result.failure(validationResult.getError().get());
+            // Valida o DTO, incluindo a data de vencimento
+            ValidationResult validation = validate(taskRequest, userId);
+            if (!validation.isValid()) {
+                return Result.failure(new TaskValidationException(validation));
             }
             
             // Verifica se o usuário existe
@@ -49,19 +74,18 @@ public class CreateTaskUseCase {
                 return Result.failure(new UserNotFoundException(userId));
             }
             
-            // Valida a data de vencimento se fornecida
-            if (taskRequest.getDueDate() != null && taskRequest.getDueDate().isBefore(LocalDateTime.now())) {
-                return Result.failure(new TaskValidationException("Due date cannot be in the past"));
-            }
-            
             // Cria a entidade Task
-            Task task = mapToTask(taskRequest, userId);
+            LocalDateTime now = TimeProvider.now(clock);
+            Task task = mapToTask(taskRequest, userId, now);
             
             // Salva a tarefa
             Task savedTask = taskRepository.save(task);
+            taskEventPublisher.publish(TaskChangeEvent.of(TaskChangeType.CREATED, savedTask, now));
             return Result.success(savedTask);
             
         } catch (Exception e) {
+            // A tarefa e o evento do outbox são gravados juntos ou nenhum deles
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return Result.failure(e);
         }
     }
@@ -72,13 +96,14 @@ public class CreateTaskUseCase {
      * @param command Comando contendo todos os dados necessários para criação
      * @return Result contendo a tarefa criada ou erro
      */
+    @Transactional
     public Result<Task, Exception> execute(CreateTaskCommand command) {
         
         try {
-            // Validações de entrada
-            Result<Void, TaskValidationException> validationResult = validateCommand(command);
-            if (validationResult.isFailure()) {
-                return Result.failure(validationResult.getError().get());
+            // Validações de entrada, incluindo a data de vencimento
+            ValidationResult validation = createTaskCommandValidator.validate(command);
+            if (!validation.isValid()) {
+                return Result.failure(new TaskValidationException(validation));
             }
             
             // Verifica se o usuário existe
@@ -86,29 +111,42 @@ public class CreateTaskUseCase {
                 return Result.failure(new UserNotFoundException(command.getUserId()));
             }
             
-            // Valida a data de vencimento se fornecida
-            if (command.getDueDate() != null && command.getDueDate().isBefore(LocalDateTime.now())) {
-                return Result.failure(new TaskValidationException("Due date cannot be in the past"));
-            }
-            
             // Cria a entidade Task
+            LocalDateTime now = TimeProvider.now(clock);
             Task task = new Task(command.getTitle(), command.getDescription(), 
-                               command.getPriority(), command.getDueDate(), command.getUserId());
+                               command.getPriority(), command.getDueDate(), command.getUserId(), now);
             
             // Salva a tarefa
             Task savedTask = taskRepository.save(task);
+            taskEventPublisher.publish(TaskChangeEvent.of(TaskChangeType.CREATED, savedTask, now));
             return Result.success(savedTask);
             
         } catch (Exception e) {
+            // A tarefa e o evento do outbox são gravados juntos ou nenhum deles
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return Result.failure(e);
         }
     }
 
+    /**
+     * Aplica as regras de criação a um DTO sem acessar o repositório.
+     * Usado também pela importação em massa para validar cada linha.
+     *
+     * @param taskRequest DTO com dados da tarefa
+     * @param userId ID do usuário proprietário
+     * @return Violações encontradas; nenhuma exceção é criada
+     */
+    public ValidationResult validate(TaskRequest taskRequest, Long userId) {
+        ValidationResult validation = taskRequestValidator.validate(taskRequest);
+        return validation.and(ValidationRules.USER_ID.validate(userId));
+    }
+
     /**
      * Método de compatibilidade para manter a interface original
      * @deprecated Use execute(CreateTaskCommand) instead
      */
     @Deprecated
+    @Transactional
     public Task execute(String title, String description, TaskPriority priority, 
                        LocalDateTime dueDate, Long userId) {
         CreateTaskCommand command = new CreateTaskCommand(title, description, priority, dueDate, userId);
@@ -120,97 +158,22 @@ public class CreateTaskUseCase {
         }
     }
     
-    /**
-     * Valida os dados de entrada do comando
-     * 
-     * @param command Comando a ser validado
-     * @return Result indicando sucesso ou erro de validação
-     */
-    private Result<Void, TaskValidationException> validateCommand(CreateTaskCommand command) {
-        if (command == null) {
-            return Result.failure(new TaskValidationException("Command cannot be null"));
-        }
-        
-        if (command.getTitle() == null || command.getTitle().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Title cannot be null or empty"));
-        }
-        
-        if (command.getTitle().length() < 3 || command.getTitle().length() > 200) {
-            return Result.failure(new TaskValidationException("Title must be between 3 and 200 characters"));
-        }
-        
-        if (command.getDescription() != null && command.getDescription().length() > 2000) {
-            return Result.failure(new TaskValidationException("Description must not exceed 2000 characters"));
-        }
-        
-        if (command.getPriority() == null) {
-            return Result.failure(new TaskValidationException("Priority cannot be null"));
-        }
-        
-        if (command.getUserId() == null) {
-            return Result.failure(new TaskValidationException("User ID cannot be null"));
-        }
-        
-        if (command.getUserId() <= 0) {
-            return Result.failure(new TaskValidationException("User ID must be a positive number"));
-        }
-        
-        return Result.success(null);
-    }
-    
-    /**
-     * Valida os dados de entrada do DTO
-     * 
-     * @param taskRequest DTO a ser validado
-     * @param userId ID do usuário
-     * @return Result indicando sucesso ou erro de validação
-     */
-    private Result<Void, TaskValidationException> validateTaskRequest(TaskRequest taskRequest, Long userId) {
-        if (taskRequest == null) {
-            return Result.failure(new TaskValidationException("Task request cannot be null"));
-        }
-        
-        if (taskRequest.getTitle() == null || taskRequest.getTitle().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Title cannot be null or empty"));
-        }
-        
-        if (taskRequest.getTitle().length() < 3 || taskRequest.getTitle().length() > 200) {
-            return Result.failure(new TaskValidationException("Title must be between 3 and 200 characters"));
-        }
-        
-        if (taskRequest.getDescription() != null && taskRequest.getDescription().length() > 2000) {
-            return Result.failure(new TaskValidationException("Description must not exceed 2000 characters"));
-        }
-        
-        if (taskRequest.getPriority() == null) {
-            return Result.failure(new TaskValidationException("Priority cannot be null"));
-        }
-        
-        if (userId == null) {
-            return Result.failure(new TaskValidationException("User ID cannot be null"));
-        }
-        
-        if (userId <= 0) {
-            return Result.failure(new TaskValidationException("User ID must be a positive number"));
-        }
-        
-        return Result.success(null);
-    }
-    
     /**
      * Mapeia um TaskRequest DTO para uma entidade Task
      * 
      * @param taskRequest DTO com dados da tarefa
      * @param userId ID do usuário
+     * @param now Data e hora de criação
      * @return Entidade Task
      */
-    private Task mapToTask(TaskRequest taskRequest, Long userId) {
+    private Task mapToTask(TaskRequest taskRequest, Long userId, LocalDateTime now) {
         return new Task(
             taskRequest.getTitle(),
             taskRequest.getDescription(),
             taskRequest.getPriority(),
             taskRequest.getDueDate(),
-            userId
+            userId,
+            now
         );
     }
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.tiagoreiz.projeto.Application.UseCases.Task;
 
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskEventPublisher;
 import com.tiagoreiz.projeto.Core.Repositories.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
 
 /**
  * Caso de uso para exclusão de tarefas do sistema.
@@ -17,6 +23,8 @@ import org.springframework.stereotype.Service;
 public class DeleteTaskUseCase {
     
     private final TaskRepository taskRepository;
+    private final TaskEventPublisher taskEventPublisher;
+    private final Clock clock;
     
     /**
      * Remove uma tarefa do sistema
@@ -25,6 +33,7 @@ public class DeleteTaskUseCase {
      * @param userId ID do usuário (para verificação de propriedade)
      * @throws IllegalArgumentException Se a tarefa não é encontrada ou usuário não autorizado
      */
+    @Transactional
     public void execute(Long taskId, Long userId) {
         // Validações de entrada
         validateInput(taskId, userId);
@@ -40,6 +49,7 @@ public class DeleteTaskUseCase {
         
         // Remove a tarefa
         taskRepository.deleteById(taskId);
+        taskEventPublisher.publish(TaskChangeEvent.deleted(taskId, userId, TimeProvider.now(clock)));
     }
     
     /**
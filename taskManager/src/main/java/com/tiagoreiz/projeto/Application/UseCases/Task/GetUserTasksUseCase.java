@@ -1,14 +1,19 @@
 package com.tiagoreiz.projeto.Application.UseCases.Task;
 
 import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskField;
 import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
 import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
 import com.tiagoreiz.projeto.Core.Repositories.TaskRepository;
 import com.tiagoreiz.projeto.Core.Repositories.UserRepository;
+import com.tiagoreiz.projeto.Infra.Cache.TaskListCache;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Caso de uso para buscar tarefas de um usuário com filtros opcionais.
@@ -23,6 +28,56 @@ public class GetUserTasksUseCase {
     
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskListCache taskListCache;
+    
+    /**
+     * Busca tarefas de um usuário com filtros opcionais, passando pelo cache de listagens.
+     * Se o banco estiver indisponível ou lento, pode devolver uma cópia desatualizada.
+     * 
+     * @param userId ID do usuário
+     * @param status Status das tarefas (null para não filtrar)
+     * @param priority Prioridade das tarefas (null para não filtrar)
+     * @return Tarefas e indicação de desatualização
+     * @throws IllegalArgumentException Se o usuário não existe
+     */
+    public TaskListResult executeFiltered(Long userId, TaskStatus status, TaskPriority priority) {
+        return executeFiltered(userId, status, priority, null);
+    }
+    
+    /**
+     * Busca tarefas de um usuário com filtros opcionais, carregando apenas os atributos informados
+     * 
+     * @param userId ID do usuário
+     * @param status Status das tarefas (null para não filtrar)
+     * @param priority Prioridade das tarefas (null para não filtrar)
+     * @param fields Atributos a carregar (null para a tarefa completa)
+     * @return Tarefas (parcialmente preenchidas se fields foi informado) e indicação de desatualização
+     * @throws IllegalArgumentException Se o usuário não existe
+     */
+    public TaskListResult executeFiltered(Long userId, TaskStatus status, TaskPriority priority, Set<TaskField> fields) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        
+        TaskListCache.Key key = new TaskListCache.Key(userId, status, priority, fields);
+        TaskListCache.Lookup lookup = taskListCache.get(key, () -> {
+            validateUserId(userId);
+            if (fields != null) {
+                return taskRepository.findByUserIdWithFields(userId, status, priority, fields);
+            }
+            if (status != null && priority != null) {
+                return taskRepository.findByUserIdAndStatusAndPriority(userId, status, priority);
+            }
+            if (status != null) {
+                return taskRepository.findByUserIdAndStatus(userId, status);
+            }
+            if (priority != null) {
+                return taskRepository.findByUserIdAndPriority(userId, priority);
+            }
+            return taskRepository.findByUserId(userId);
+        });
+        return new TaskListResult(lookup.tasks(), lookup.stale(), lookup.ageSeconds());
+    }
     
     /**
      * Busca todas as tarefas de um usuário
@@ -144,4 +199,15 @@ public class GetUserTasksUseCase {
             throw new IllegalArgumentException("User not found with ID: " + userId);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Listagem de tarefas servida pelo cache
+     */
+    @Data
+    @AllArgsConstructor
+    public static class TaskListResult {
+        private List<Task> tasks;
+        private boolean stale;
+        private long ageSeconds;
+    }
+}
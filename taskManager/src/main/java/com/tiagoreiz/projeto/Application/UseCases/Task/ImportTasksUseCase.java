@@ -0,0 +1,193 @@
+package com.tiagoreiz.projeto.Application.UseCases.Task;
+
+import com.tiagoreiz.projeto.Application.Commands.TaskImportRow;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import com.tiagoreiz.projeto.Core.Common.Result;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskEventPublisher;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import com.tiagoreiz.projeto.Core.Exceptions.UserNotFoundException;
+import com.tiagoreiz.projeto.Core.Repositories.TaskBulkRepository;
+import com.tiagoreiz.projeto.Core.Repositories.UserRepository;
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Caso de uso para importação em massa de tarefas.
+ * Valida cada linha com as mesmas regras da criação individual e envia as
+ * linhas válidas ao repositório de carga em massa sem materializá-las em memória.
+ * Ao final publica um único evento IMPORTED para o usuário.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class ImportTasksUseCase {
+    
+    private final TaskBulkRepository taskBulkRepository;
+    private final UserRepository userRepository;
+    private final CreateTaskUseCase createTaskUseCase;
+    private final TaskEventPublisher taskEventPublisher;
+    private final Clock clock;
+    private final int maxReportedErrors;
+    
+    public ImportTasksUseCase(TaskBulkRepository taskBulkRepository,
+                              UserRepository userRepository,
+                              CreateTaskUseCase createTaskUseCase,
+                              TaskEventPublisher taskEventPublisher,
+                              Clock clock,
+                              @Value("${app.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.taskBulkRepository = taskBulkRepository;
+        this.userRepository = userRepository;
+        this.createTaskUseCase = createTaskUseCase;
+        this.taskEventPublisher = taskEventPublisher;
+        this.clock = clock;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+    
+    /**
+     * Importa as tarefas lidas do arquivo para o usuário informado
+     * 
+     * @param rows Linhas lidas do arquivo de importação
+     * @param userId ID do usuário proprietário das tarefas
+     * @return Result contendo o resumo da importação ou erro
+     */
+    public Result<ImportResult, Exception> execute(Iterator<TaskImportRow> rows, Long userId) {
+        
+        try {
+            if (userId == null || userId <= 0) {
+                return Result.failure(new TaskValidationException("User ID must be a positive number"));
+            }
+            
+            // Verifica se o usuário existe
+            if (!userRepository.findById(userId).isPresent()) {
+                return Result.failure(new UserNotFoundException(userId));
+            }
+            
+            long start = System.nanoTime();
+            ValidatingIterator tasks = new ValidatingIterator(rows, userId);
+            long imported = taskBulkRepository.bulkInsert(tasks);
+            // Os eventos por tarefa já foram gravados no outbox; assinantes locais e os outros
+            // nós recebem um único evento para o usuário
+            if (imported > 0) {
+                taskEventPublisher.publish(TaskChangeEvent.imported(userId, TimeProvider.now(clock)));
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            
+            ImportResult result = new ImportResult(
+                tasks.rowsRead,
+                imported,
+                tasks.rowsRejected,
+                tasks.errors,
+                tasks.rowsRejected > tasks.errors.size(),
+                elapsedMillis,
+                elapsedMillis > 0 ? tasks.rowsRead * 1000 / elapsedMillis : tasks.rowsRead
+            );
+            
+            log.info("Imported {} of {} tasks for user {} in {} ms ({} rejected)",
+                    imported, tasks.rowsRead, userId, elapsedMillis, tasks.rowsRejected);
+            return Result.success(result);
+            
+        } catch (Exception e) {
+            return Result.failure(e);
+        }
+    }
+    
+    /**
+     * Iterador que valida as linhas sob demanda e entrega apenas tarefas válidas,
+     * acumulando os erros encontrados até o limite configurado
+     */
+    private class ValidatingIterator implements Iterator<Task> {
+        
+        private final Iterator<TaskImportRow> rows;
+        private final Long userId;
+        private final List<RowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long rowsRejected;
+        private Task next;
+        
+        ValidatingIterator(Iterator<TaskImportRow> rows, Long userId) {
+            this.rows = rows;
+            this.userId = userId;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (next == null && rows.hasNext()) {
+                TaskImportRow row = rows.next();
+                rowsRead++;
+                
+                if (!row.isParsed()) {
+                    reject(row.getLineNumber(), row.getError());
+                    continue;
+                }
+                
+                TaskRequest request = row.getRequest();
+                ValidationResult validation = createTaskUseCase.validate(request, userId);
+                if (!validation.isValid()) {
+                    reject(row.getLineNumber(), validation.getFirstMessage());
+                    continue;
+                }
+                
+                next = new Task(request.getTitle(), request.getDescription(),
+                                request.getPriority(), request.getDueDate(), userId, TimeProvider.now(clock));
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Task next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Task task = next;
+            next = null;
+            return task;
+        }
+        
+        private void reject(long lineNumber, String message) {
+            rowsRejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(lineNumber, message));
+            }
+        }
+    }
+    
+    /**
+     * Resumo de uma importação em massa
+     */
+    @Data
+    @AllArgsConstructor
+    public static class ImportResult {
+        private long rowsRead;
+        private long rowsImported;
+        private long rowsRejected;
+        private List<RowError> errors;
+        private boolean errorsTruncated;
+        private long elapsedMillis;
+        private long rowsPerSecond;
+    }
+    
+    /**
+     * Erro de uma linha rejeitada na importação
+     */
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -1,10 +1,19 @@
 package com.tiagoreiz.projeto.Application.UseCases.Task;
 
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Entities.Task;
 import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import com.tiagoreiz.projeto.Core.Events.TaskEventPublisher;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskVersionConflictException;
 import com.tiagoreiz.projeto.Core.Repositories.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 /**
  * Caso de uso para atualização do status de tarefas.
@@ -18,6 +27,8 @@ import org.springframework.stereotype.Service;
 public class UpdateTaskStatusUseCase {
     
     private final TaskRepository taskRepository;
+    private final TaskEventPublisher taskEventPublisher;
+    private final Clock clock;
     
     /**
      * Atualiza o status de uma tarefa
@@ -28,7 +39,24 @@ public class UpdateTaskStatusUseCase {
      * @return Tarefa com status atualizado
      * @throws IllegalArgumentException Se os dados são inválidos ou tarefa não encontrada
      */
+    @Transactional
     public Task execute(Long taskId, TaskStatus newStatus, Long userId) {
+        return execute(taskId, newStatus, userId, null);
+    }
+    
+    /**
+     * Atualiza o status de uma tarefa, condicionado à versão atual da tarefa
+     * 
+     * @param taskId ID da tarefa a ser atualizada
+     * @param newStatus Novo status da tarefa
+     * @param userId ID do usuário (para verificação de propriedade)
+     * @param expectedVersion Versão esperada (If-Match); null para não verificar
+     * @return Tarefa com status atualizado
+     * @throws IllegalArgumentException Se os dados são inválidos ou tarefa não encontrada
+     * @throws TaskVersionConflictException Se a tarefa foi alterada desde a versão esperada
+     */
+    @Transactional
+    public Task execute(Long taskId, TaskStatus newStatus, Long userId, Long expectedVersion) {
         // Validações de entrada
         validateInput(taskId, newStatus, userId);
         
@@ -41,16 +69,24 @@ public class UpdateTaskStatusUseCase {
             throw new IllegalArgumentException("User is not authorized to update this task");
         }
         
+        // Verifica se a tarefa não foi alterada desde a leitura do cliente
+        if (expectedVersion != null && !expectedVersion.equals(existingTask.getVersion())) {
+            throw new TaskVersionConflictException(taskId, expectedVersion, existingTask.getVersion());
+        }
+        
         // Se o status já é o mesmo, não faz nada
         if (existingTask.getStatus().equals(newStatus)) {
             return existingTask;
         }
         
         // Atualiza o status da tarefa
-        updateTaskStatus(existingTask, newStatus);
+        LocalDateTime now = TimeProvider.now(clock);
+        updateTaskStatus(existingTask, newStatus, now);
         
         // Salva a tarefa atualizada
-        return taskRepository.update(existingTask);
+        Task updatedTask = taskRepository.update(existingTask);
+        taskEventPublisher.publish(TaskChangeEvent.of(TaskChangeType.STATUS_CHANGED, updatedTask, now));
+        return updatedTask;
     }
     
     /**
@@ -85,6 +121,7 @@ public class UpdateTaskStatusUseCase {
      * @return Tarefa com status alternado
      * @throws IllegalArgumentException Se a tarefa não é encontrada ou usuário não autorizado
      */
+    @Transactional
     public Task toggleTaskStatus(Long taskId, Long userId) {
         // Validações básicas
         if (taskId == null || taskId <= 0) {
@@ -110,10 +147,13 @@ public class UpdateTaskStatusUseCase {
                 : TaskStatus.PENDING;
         
         // Atualiza o status da tarefa
-        updateTaskStatus(existingTask, newStatus);
+        LocalDateTime now = TimeProvider.now(clock);
+        updateTaskStatus(existingTask, newStatus, now);
         
         // Salva a tarefa atualizada
-        return taskRepository.update(existingTask);
+        Task updatedTask = taskRepository.update(existingTask);
+        taskEventPublisher.publish(TaskChangeEvent.of(TaskChangeType.STATUS_CHANGED, updatedTask, now));
+        return updatedTask;
     }
     
     /**
@@ -121,12 +161,13 @@ public class UpdateTaskStatusUseCase {
      * 
      * @param task Tarefa a ser atualizada
      * @param newStatus Novo status
+     * @param now Data e hora da alteração
      */
-    private void updateTaskStatus(Task task, TaskStatus newStatus) {
+    private void updateTaskStatus(Task task, TaskStatus newStatus, LocalDateTime now) {
         if (newStatus == TaskStatus.COMPLETED) {
-            task.complete();
+            task.complete(now);
         } else if (newStatus == TaskStatus.PENDING) {
-            task.markAsPending();
+            task.markAsPending(now);
         }
     }
     
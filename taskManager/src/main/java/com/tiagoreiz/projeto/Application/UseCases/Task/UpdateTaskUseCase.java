@@ -1,15 +1,26 @@
 package com.tiagoreiz.projeto.Application.UseCases.Task;
 
 import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import com.tiagoreiz.projeto.Application.Validation.ValidationRules;
 import com.tiagoreiz.projeto.Core.Common.Result;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
 import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import com.tiagoreiz.projeto.Core.Events.TaskEventPublisher;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskNotFoundException;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskVersionConflictException;
 import com.tiagoreiz.projeto.Core.Repositories.TaskRepository;
-import lombok.RequiredArgsConstructor;
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
+import com.tiagoreiz.projeto.Core.Validation.Validator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 
 /**
@@ -20,10 +31,23 @@ import java.time.LocalDateTime;
  * @version 1.0
  */
 @Service
-@RequiredArgsConstructor
 public class UpdateTaskUseCase {
     
     private final TaskRepository taskRepository;
+    private final TaskEventPublisher taskEventPublisher;
+    private final Clock clock;
+    private final Validator<TaskRequest> taskRequestValidator;
+    private final Validator<TaskPatch> taskPatchValidator;
+    
+    public UpdateTaskUseCase(TaskRepository taskRepository,
+                             TaskEventPublisher taskEventPublisher,
+                             Clock clock) {
+        this.taskRepository = taskRepository;
+        this.taskEventPublisher = taskEventPublisher;
+        this.clock = clock;
+        this.taskRequestValidator = ValidationRules.taskRequest(clock);
+        this.taskPatchValidator = ValidationRules.taskPatch(clock);
+    }
     
     /**
      * Atualiza uma tarefa existente usando DTO
@@ -33,13 +57,28 @@ public class UpdateTaskUseCase {
      * @param userId ID do usuário (para verificação de propriedade)
      * @return Result contendo a tarefa atualizada ou erro
      */
+    @Transactional
     public Result<Task, Exception> execute(Long taskId, TaskRequest taskRequest, Long userId) {
+        return execute(taskId, taskRequest, userId, null);
+    }
+    
+    /**
+     * Atualiza uma tarefa existente usando DTO, condicionada à versão atual da tarefa
+     * 
+     * @param taskId ID da tarefa a ser atualizada
+     * @param taskRequest DTO com os novos dados da tarefa
+     * @param userId ID do usuário (para verificação de propriedade)
+     * @param expectedVersion Versão esperada (If-Match); null para não verificar
+     * @return Result contendo a tarefa atualizada ou erro
+     */
+    @Transactional
+    public Result<Task, Exception> execute(Long taskId, TaskRequest taskRequest, Long userId, Long expectedVersion) {
         
         try {
-            // Validações de entrada
-            Result<Void, TaskValidationException> validationResult = validateTaskRequest(taskId, taskRequest, userId);
-            if (validationResult.isFailure()) {
-                return Result.failure(validationResult.getError().get());
+            // Validações de entrada, incluindo a data de vencimento
+            ValidationResult validation = validateTaskRequest(taskId, taskRequest, userId);
+            if (!validation.isValid()) {
+                return Result.failure(new TaskValidationException(validation));
             }
             
             // Busca a tarefa existente
@@ -51,19 +90,23 @@ public class UpdateTaskUseCase {
                 return Result.failure(new TaskValidationException("User is not authorized to update this task"));
             }
             
-            // Valida a data de vencimento se fornecida
-            if (taskRequest.getDueDate() != null && taskRequest.getDueDate().isBefore(LocalDateTime.now())) {
-                return Result.failure(new TaskValidationException("Due date cannot be in the past"));
+            // Verifica se a tarefa não foi alterada desde a leitura do cliente
+            if (expectedVersion != null && !expectedVersion.equals(existingTask.getVersion())) {
+                return Result.failure(new TaskVersionConflictException(taskId, expectedVersion, existingTask.getVersion()));
             }
             
             // Atualiza a tarefa
-            updateTaskFromRequest(existingTask, taskRequest);
+            LocalDateTime now = TimeProvider.now(clock);
+            updateTaskFromRequest(existingTask, taskRequest, now);
             
             // Salva a tarefa atualizada
             Task updatedTask = taskRepository.save(existingTask);
+            taskEventPublisher.publish(TaskChangeEvent.of(TaskChangeType.UPDATED, updatedTask, now));
             return Result.success(updatedTask);
             
         } catch (Exception e) {
+            // A tarefa e o evento do outbox são gravados juntos ou nenhum deles
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return Result.failure(e);
         }
     }
@@ -80,11 +123,15 @@ public class UpdateTaskUseCase {
      * @return Tarefa atualizada
      * @throws IllegalArgumentException Se os dados são inválidos ou tarefa não encontrada
      */
+    @Transactional
     public Task execute(Long taskId, String title, String description, 
                        TaskPriority priority, LocalDateTime dueDate, Long userId) {
         
-        // Validações de entrada
-        validateInput(taskId, title, description, priority, userId);
+        // Validações de entrada, incluindo a data de vencimento
+        ValidationResult validation = validateTaskRequest(taskId, new TaskRequest(title, description, priority, dueDate), userId);
+        if (!validation.isValid()) {
+            throw new IllegalArgumentException(validation.getFirstMessage());
+        }
         
         // Busca a tarefa existente
         Task existingTask = taskRepository.findById(taskId)
@@ -95,20 +142,18 @@ public class UpdateTaskUseCase {
             throw new IllegalArgumentException("User is not authorized to update this task");
         }
         
-        // Valida a data de vencimento se fornecida
-        if (dueDate != null && dueDate.isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Due date cannot be in the past");
-        }
-        
         // Atualiza os campos da tarefa
         existingTask.setTitle(title);
         existingTask.setDescription(description);
         existingTask.setPriority(priority);
         existingTask.setDueDate(dueDate);
-        existingTask.updateTimestamp();
+        LocalDateTime now = TimeProvider.now(clock);
+        existingTask.updateTimestamp(now);
         
         // Salva a tarefa atualizada
-        return taskRepository.update(existingTask);
+        Task updatedTask = taskRepository.update(existingTask);
+        taskEventPublisher.publish(TaskChangeEvent.of(TaskChangeType.UPDATED, updatedTask, now));
+        return updatedTask;
     }
     
     /**
@@ -123,15 +168,14 @@ public class UpdateTaskUseCase {
      * @return Tarefa atualizada
      * @throws IllegalArgumentException Se a tarefa não é encontrada ou usuário não autorizado
      */
+    @Transactional
     public Task executePartialUpdate(Long taskId, Long userId, String title, 
                                    String description, TaskPriority priority, LocalDateTime dueDate) {
         
-        if (taskId == null || taskId <= 0) {
-            throw new IllegalArgumentException("Task ID must be a positive number");
-        }
-        
-        if (userId == null || userId <= 0) {
-            throw new IllegalArgumentException("User ID must be a positive number");
+        ValidationResult idValidation = ValidationRules.TASK_ID.validate(taskId)
+                .and(ValidationRules.USER_ID.validate(userId));
+        if (!idValidation.isValid()) {
+            throw new IllegalArgumentException(idValidation.getFirstMessage());
         }
         
         // Busca a tarefa existente
@@ -144,121 +188,112 @@ public class UpdateTaskUseCase {
         }
         
         // Atualiza apenas os campos fornecidos
-        boolean hasChanges = false;
+        TaskPatch patch = new TaskPatch();
         
         if (title != null && !title.trim().isEmpty()) {
-            if (title.length() < 3 || title.length() > 200) {
-                throw new IllegalArgumentException("Title must be between 3 and 200 characters");
-            }
-            existingTask.setTitle(title);
-            hasChanges = true;
+            patch.title(title);
         }
         
         if (description != null) {
-            if (description.length() > 2000) {
-                throw new IllegalArgumentException("Description must not exceed 2000 characters");
-            }
-            existingTask.setDescription(description);
-            hasChanges = true;
+            patch.description(description);
         }
         
         if (priority != null) {
-            existingTask.setPriority(priority);
-            hasChanges = true;
+            patch.priority(priority);
         }
         
         if (dueDate != null) {
-            if (dueDate.isBefore(LocalDateTime.now())) {
-                throw new IllegalArgumentException("Due date cannot be in the past");
-            }
-            existingTask.setDueDate(dueDate);
-            hasChanges = true;
+            patch.dueDate(dueDate);
         }
         
-        if (hasChanges) {
-            existingTask.updateTimestamp();
-            return taskRepository.update(existingTask);
+        ValidationResult patchValidation = taskPatchValidator.validate(patch);
+        if (!patchValidation.isValid()) {
+            throw new IllegalArgumentException(patchValidation.getFirstMessage());
+        }
+        
+        if (!patch.isEmpty()) {
+            return applyPatch(existingTask, patch);
         }
         
         return existingTask;
     }
     
     /**
-     * Valida os dados de entrada para atualização de tarefa
+     * Aplica um JSON Merge Patch a uma tarefa, gravando apenas as colunas informadas
      * 
-     * @param taskId ID da tarefa
-     * @param title Título da tarefa
-     * @param description Descrição da tarefa
-     * @param priority Prioridade da tarefa
-     * @param userId ID do usuário
-     * @throws IllegalArgumentException Se algum dado é inválido
+     * @param taskId ID da tarefa a ser atualizada
+     * @param patch Campos a serem alterados (null remove campos opcionais)
+     * @param userId ID do usuário (para verificação de propriedade)
+     * @param expectedVersion Versão esperada (If-Match); null para não verificar
+     * @return Result contendo a tarefa atualizada ou erro
      */
-    private void validateInput(Long taskId, String title, String description, 
-                              TaskPriority priority, Long userId) {
+    @Transactional
+    public Result<Task, Exception> executeMergePatch(Long taskId, TaskPatch patch, Long userId, Long expectedVersion) {
         
-        if (taskId == null || taskId <= 0) {
-            throw new IllegalArgumentException("Task ID must be a positive number");
-        }
-        
-        if (title == null || title.trim().isEmpty()) {
-            throw new IllegalArgumentException("Title cannot be null or empty");
-        }
-        
-        if (title.length() < 3 || title.length() > 200) {
-            throw new IllegalArgumentException("Title must be between 3 and 200 characters");
-        }
-        
-        if (description != null && description.length() > 2000) {
-            throw new IllegalArgumentException("Description must not exceed 2000 characters");
-        }
-        
-        if (priority == null) {
-            throw new IllegalArgumentException("Priority cannot be null");
-        }
-        
-        if (userId == null || userId <= 0) {
-            throw new IllegalArgumentException("User ID must be a positive number");
+        try {
+            // Validações de entrada
+            ValidationResult validation = ValidationRules.TASK_ID.validate(taskId)
+                    .and(taskPatchValidator.validate(patch))
+                    .and(ValidationRules.USER_ID.validate(userId));
+            if (!validation.isValid()) {
+                return Result.failure(new TaskValidationException(validation));
+            }
+            
+            // Busca a tarefa existente
+            Task existingTask = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new TaskNotFoundException(taskId));
+            
+            // Verifica se o usuário é o proprietário da tarefa
+            if (!existingTask.getUserId().equals(userId)) {
+                return Result.failure(new TaskValidationException("User is not authorized to update this task"));
+            }
+            
+            // Verifica se a tarefa não foi alterada desde a leitura do cliente
+            if (expectedVersion != null && !expectedVersion.equals(existingTask.getVersion())) {
+                return Result.failure(new TaskVersionConflictException(taskId, expectedVersion, existingTask.getVersion()));
+            }
+            
+            if (patch.isEmpty()) {
+                return Result.success(existingTask);
+            }
+            
+            return Result.success(applyPatch(existingTask, patch));
+            
+        } catch (Exception e) {
+            // A tarefa e o evento do outbox são gravados juntos ou nenhum deles
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Result.failure(e);
         }
     }
     
+    /**
+     * Aplica o patch à tarefa e grava somente as colunas alteradas
+     * 
+     * @param existingTask Tarefa atual
+     * @param patch Campos alterados
+     * @return Tarefa atualizada
+     */
+    private Task applyPatch(Task existingTask, TaskPatch patch) {
+        LocalDateTime now = TimeProvider.now(clock);
+        patch.applyTo(existingTask);
+        existingTask.updateTimestamp(now);
+        Task updatedTask = taskRepository.patch(existingTask, patch);
+        taskEventPublisher.publish(TaskChangeEvent.of(TaskChangeType.UPDATED, updatedTask, now));
+        return updatedTask;
+    }
+    
     /**
      * Valida os dados de entrada do DTO para atualização
      * 
      * @param taskId ID da tarefa
      * @param taskRequest DTO a ser validado
      * @param userId ID do usuário
-     * @return Result indicando sucesso ou erro de validação
+     * @return Violações encontradas; nenhuma exceção é criada
      */
-    private Result<Void, TaskValidationException> validateTaskRequest(Long taskId, TaskRequest taskRequest, Long userId) {
-        if (taskId == null || taskId <= 0) {
-            return Result.failure(new TaskValidationException("Task ID must be a positive number"));
-        }
-        
-        if (taskRequest == null) {
-            return Result.failure(new TaskValidationException("Task request cannot be null"));
-        }
-        
-        if (taskRequest.getTitle() == null || taskRequest.getTitle().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Title cannot be null or empty"));
-        }
-        
-        if (taskRequest.getTitle().length() < 3 || taskRequest.getTitle().length() > 200) {
-            return Result.failure(new TaskValidationException("Title must be between 3 and 200 characters"));
-        }
-        
-        if (taskRequest.getDescription() != null && taskRequest.getDescription().length() > 2000) {
-            return Result.failure(new TaskValidationException("Description must not exceed 2000 characters"));
-        }
-        
-        if (taskRequest.getPriority() == null) {
-            return Result.failure(new TaskValidationException("Priority cannot be null"));
-        }
-        
-        if (userId == null || userId <= 0) {
-            return Result.failure(new TaskValidationException("User ID must be a positive number"));
-        }
-        
-        return Result.success(null);
+    private ValidationResult validateTaskRequest(Long taskId, TaskRequest taskRequest, Long userId) {
+        return ValidationRules.TASK_ID.validate(taskId)
+                .and(taskRequestValidator.validate(taskRequest))
+                .and(ValidationRules.USER_ID.validate(userId));
     }
     
     /**
@@ -266,12 +301,13 @@ public class UpdateTaskUseCase {
      * 
      * @param task Tarefa a ser atualizada
      * @param taskRequest DTO com os novos dados
+     * @param now Data e hora da alteração
      */
-    private void updateTaskFromRequest(Task task, TaskRequest taskRequest) {
+    private void updateTaskFromRequest(Task task, TaskRequest taskRequest, LocalDateTime now) {
         task.setTitle(taskRequest.getTitle());
         task.setDescription(taskRequest.getDescription());
         task.setPriority(taskRequest.getPriority());
         task.setDueDate(taskRequest.getDueDate());
-        task.updateTimestamp();
+        task.updateTimestamp(now);
     }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.tiagoreiz.projeto.Application.UseCases.User;
 
 import com.tiagoreiz.projeto.Adapters.DTOs.LoginRequest;
+import com.tiagoreiz.projeto.Application.Validation.ValidationRules;
 import com.tiagoreiz.projeto.Core.Common.Result;
 import com.tiagoreiz.projeto.Core.Entities.User;
 import com.tiagoreiz.projeto.Core.Exceptions.InvalidCredentialsException;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
 import com.tiagoreiz.projeto.Core.Repositories.UserRepository;
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
 import com.tiagoreiz.projeto.Infra.Security.JwtService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -63,9 +65,9 @@ public class LoginUserUseCase {
         
         try {
             // Validações de entrada
-            Result<Void, TaskValidationException> validationResult = validateLoginRequest(loginRequest);
-            if (validationResult.isFailure()) {
-                return Result.failure(validationResult.getError().get());
+            ValidationResult validation = ValidationRules.LOGIN_REQUEST.validate(loginRequest);
+            if (!validation.isValid()) {
+                return Result.failure(new TaskValidationException(validation));
             }
             
             // Autentica o usuário
@@ -103,7 +105,10 @@ public class LoginUserUseCase {
      */
     public LoginResult execute(String email, String password) {
         // Validações de entrada
-        validateInput(email, password);
+        ValidationResult validation = ValidationRules.LOGIN_REQUEST.validate(new LoginRequest(email, password));
+        if (!validation.isValid()) {
+            throw new IllegalArgumentException(validation.getFirstMessage());
+        }
         
         try {
             // Autentica o usuário
@@ -127,62 +132,4 @@ public class LoginUserUseCase {
             throw new AuthenticationException("Invalid email or password") {};
         }
     }
-    
-    /**
-     * Valida os dados de entrada para login
-     * 
-     * @param email Email do usuário
-     * @param password Senha do usuário
-     * @throws IllegalArgumentException Se algum dado é inválido
-     */
-    private void validateInput(String email, String password) {
-        if (email == null || email.trim().isEmpty()) {
-            throw new IllegalArgumentException("Email cannot be null or empty");
-        }
-        
-        if (password == null || password.trim().isEmpty()) {
-            throw new IllegalArgumentException("Password cannot be null or empty");
-        }
-        
-        if (!isValidEmail(email)) {
-            throw new IllegalArgumentException("Invalid email format");
-        }
-    }
-    
-    /**
-     * Valida o formato do email usando regex simples
-     * 
-     * @param email Email a ser validado
-     * @return true se o email tem formato válido
-     */
-    private boolean isValidEmail(String email) {
-        String emailRegex = "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$";
-        return email.matches(emailRegex);
-    }
-    
-    /**
-     * Valida os dados de entrada do DTO de login
-     * 
-     * @param loginRequest DTO a ser validado
-     * @return Result indicando sucesso ou erro de validação
-     */
-    private Result<Void, TaskValidationException> validateLoginRequest(LoginRequest loginRequest) {
-        if (loginRequest == null) {
-            return Result.failure(new TaskValidationException("Login request cannot be null"));
-        }
-        
-        if (loginRequest.getEmail() == null || loginRequest.getEmail().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Email cannot be null or empty"));
-        }
-        
-        if (!isValidEmail(loginRequest.getEmail())) {
-            return Result.failure(new TaskValidationException("Email format is invalid"));
-        }
-        
-        if (loginRequest.getPassword() == null || loginRequest.getPassword().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Password cannot be null or empty"));
-        }
-        
-        return Result.success(null);
-    }
-}
\ No newline at end of file
+}
@@ -1,14 +1,22 @@
 package com.tiagoreiz.projeto.Application.UseCases.User;
 
 import com.tiagoreiz.projeto.Adapters.DTOs.UserRegistrationRequest;
+import com.tiagoreiz.projeto.Application.Validation.ValidationRules;
 import com.tiagoreiz.projeto.Core.Common.Result;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Entities.User;
+import com.tiagoreiz.projeto.Core.Events.UserChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.UserEventPublisher;
 import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
 import com.tiagoreiz.projeto.Core.Repositories.UserRepository;
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+
 /**
  * Caso de uso para registro de novos usuários no sistema.
  * Responsável pela lógica de negócio do cadastro de usuários.
@@ -22,6 +30,8 @@ public class RegisterUserUseCase {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserEventPublisher userEventPublisher;
+    private final Clock clock;
     
     /**
      * Registra um novo usuário no sistema usando DTO
@@ -33,9 +43,9 @@ public class RegisterUserUseCase {
         
         try {
             // Validações de entrada
-            Result<Void, TaskValidationException> validationResult = validateRegistrationRequest(registrationRequest);
-            if (validationResult.isFailure()) {
-                return Result.failure(validationResult.getError().get());
+            ValidationResult validation = ValidationRules.REGISTRATION_REQUEST.validate(registrationRequest);
+            if (!validation.isValid()) {
+                return Result.failure(new TaskValidationException(validation));
             }
             
             // Verifica se o email já existe
@@ -47,10 +57,12 @@ public class RegisterUserUseCase {
             String encodedPassword = passwordEncoder.encode(registrationRequest.getPassword());
             
             // Cria a entidade User
-            User user = mapToUser(registrationRequest, encodedPassword);
+            LocalDateTime now = TimeProvider.now(clock);
+            User user = mapToUser(registrationRequest, encodedPassword, now);
             
             // Salva o usuário
             User savedUser = userRepository.save(user);
+            userEventPublisher.publish(UserChangeEvent.of(UserChangeEvent.Type.REGISTERED, savedUser.getId(), now));
             return Result.success(savedUser);
             
         } catch (Exception e) {
@@ -69,7 +81,11 @@ public class RegisterUserUseCase {
      */
     public User execute(String name, String email, String password) {
         // Validações de entrada
-        validateInput(name, email, password);
+        ValidationResult validation = ValidationRules.REGISTRATION_REQUEST.validate(
+                new UserRegistrationRequest(name, email, password));
+        if (!validation.isValid()) {
+            throw new IllegalArgumentException(validation.getFirstMessage());
+        }
         
         // Verifica se o email já existe
         if (userRepository.existsByEmail(email)) {
@@ -80,105 +96,13 @@ public class RegisterUserUseCase {
         String encodedPassword = passwordEncoder.encode(password);
         
         // Cria a entidade User
-        User user = new User(name, email, encodedPassword);
+        LocalDateTime now = TimeProvider.now(clock);
+        User user = new User(name, email, encodedPassword, now);
         
         // Salva o usuário
-        return userRepository.save(user);
-    }
-    
-    /**
-     * Valida os dados de entrada para registro
-     * 
-     * @param name Nome do usuário
-     * @param email Email do usuário
-     * @param password Senha do usuário
-     * @throws IllegalArgumentException Se algum dado é inválido
-     */
-    private void validateInput(String name, String email, String password) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Name cannot be null or empty");
-        }
-        
-        if (name.length() < 2 || name.length() > 100) {
-            throw new IllegalArgumentException("Name must be between 2 and 100 characters");
-        }
-        
-        if (email == null || email.trim().isEmpty()) {
-            throw new IllegalArgumentException("Email cannot be null or empty");
-        }
-        
-        if (!isValidEmail(email)) {
-            throw new IllegalArgumentException("Invalid email format");
-        }
-        
-        if (email.length() > 150) {
-            throw new IllegalArgumentException("Email must not exceed 150 characters");
-        }
-        
-        if (password == null || password.trim().isEmpty()) {
-            throw new IllegalArgumentException("Password cannot be null or empty");
-        }
-        
-        if (password.length() < 6) {
-            throw new IllegalArgumentException("Password must be at least 6 characters long");
-        }
-        
-        if (password.length() > 100) {
-            throw new IllegalArgumentException("Password must not exceed 100 characters");
-        }
-    }
-    
-    /**
-     * Valida o formato do email usando regex simples
-     * 
-     * @param email Email a ser validado
-     * @return true se o email tem formato válido
-     */
-    private boolean isValidEmail(String email) {
-        String emailRegex = "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$";
-        return email.matches(emailRegex);
-    }
-    
-    /**
-     * Valida os dados de entrada do DTO de registro
-     * 
-     * @param registrationRequest DTO a ser validado
-     * @return Result indicando sucesso ou erro de validação
-     */
-    private Result<Void, TaskValidationException> validateRegistrationRequest(UserRegistrationRequest registrationRequest) {
-        if (registrationRequest == null) {
-            return Result.failure(new TaskValidationException("Registration request cannot be null"));
-        }
-        
-        if (registrationRequest.getName() == null || registrationRequest.getName().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Name cannot be null or empty"));
-        }
-        
-        if (registrationRequest.getName().length() < 2 || registrationRequest.getName().length() > 100) {
-            return Result.failure(new TaskValidationException("Name must be between 2 and 100 characters"));
-        }
-        
-        if (registrationRequest.getEmail() == null || registrationRequest.getEmail().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Email cannot be null or empty"));
-        }
-        
-        if (registrationRequest.getEmail().length() > 150) {
-            return Result.failure(new TaskValidationException("Email must not exceed 150 characters"));
-        }
-        
-        if (!isValidEmail(registrationRequest.getEmail())) {
-            return Result.failure(new TaskValidationException("Email format is invalid"));
-        }
-        
-        if (registrationRequest.getPassword() == null || registrationRequest.getPassword().trim().isEmpty()) {
-            return Result.failure(new TaskValidationException("Password cannot be null or empty"));
-        }
-        
-        if (registrationRequest.getPassword().length() < 6 || registrationRequest.getPassword().length() > 100) {
-            return Result.failure(new TaskValidationException("Password must be between 6 and 100 characters"));
-        }
-        
-        return Result.success(null);
+        User savedUser = userRepository.save(user);
+        userEventPublisher.publish(UserChangeEvent.of(UserChangeEvent.Type.REGISTERED, savedUser.getId(), now));
+        return savedUser;
     }
     
     /**
@@ -186,13 +110,15 @@ public class RegisterUserUseCase {
      * 
      * @param registrationRequest DTO com dados de registro
      * @param encodedPassword Senha já criptografada
+     * @param now Data e hora de criação
      * @return Entidade User
      */
-    private User mapToUser(UserRegistrationRequest registrationRequest, String encodedPassword) {
+    private User mapToUser(UserRegistrationRequest registrationRequest, String encodedPassword, LocalDateTime now) {
         return new User(
             registrationRequest.getName(),
             registrationRequest.getEmail(),
-            encodedPassword
+            encodedPassword,
+            now
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.tiagoreiz.projeto.Application.Validation;
+
+import com.tiagoreiz.projeto.Adapters.DTOs.LoginRequest;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import com.tiagoreiz.projeto.Adapters.DTOs.UserRegistrationRequest;
+import com.tiagoreiz.projeto.Application.Commands.CreateTaskCommand;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
+import com.tiagoreiz.projeto.Core.Validation.Validator;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Conjuntos de regras de validação compartilhados pelos casos de uso.
+ * Os validadores e expressões regulares são montados uma única vez na carga da classe;
+ * os que dependem do horário corrente são montados a partir do Clock, uma vez por caso de uso.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class ValidationRules {
+
+    public static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+
+
+    /**
+     * Identificador de tarefa informado na rota
+     */
+    public static final Validator<Long> TASK_ID = Validator.<Long>builder()
+            .nullMessage("Task ID must be a positive number")
+            .field("taskId", id -> id, f -> f
+                    .positive("Task ID must be a positive number"))
+            .build();
+
+    /**
+     * Identificador do usuário autenticado
+     */
+    public static final Validator<Long> USER_ID = Validator.<Long>builder()
+            .nullMessage("User ID cannot be null")
+            .field("userId", id -> id, f -> f
+                    .positive("User ID must be a positive number"))
+            .build();
+
+    /**
+     * Dados de criação ou substituição completa de uma tarefa
+     *
+     * @param clock Relógio usado para recusar datas de vencimento no passado
+     */
+    public static Validator<TaskRequest> taskRequest(Clock clock) {
+        return Validator.<TaskRequest>builder()
+                .nullMessage("Task request cannot be null")
+                .field("title", TaskRequest::getTitle, f -> f
+                        .notBlank("Title cannot be null or empty")
+                        .length(3, 200, "Title must be between 3 and 200 characters"))
+                .field("description", TaskRequest::getDescription, f -> f
+                        .maxLength(2000, "Description must not exceed 2000 characters"))
+                .field("priority", TaskRequest::getPriority, f -> f
+                        .notNull("Priority cannot be null"))
+                .field("dueDate", TaskRequest::getDueDate, f -> f
+                        .satisfies(notInPast(clock), "Due date cannot be in the past"))
+                .build();
+    }
+
+    /**
+     * Comando legado de criação de tarefa
+     *
+     * @param clock Relógio usado para recusar datas de vencimento no passado
+     */
+    public static Validator<CreateTaskCommand> createTaskCommand(Clock clock) {
+        return Validator.<CreateTaskCommand>builder()
+                .nullMessage("Command cannot be null")
+                .field("title", CreateTaskCommand::getTitle, f -> f
+                        .notBlank("Title cannot be null or empty")
+                        .length(3, 200, "Title must be between 3 and 200 characters"))
+                .field("description", CreateTaskCommand::getDescription, f -> f
+                        .maxLength(2000, "Description must not exceed 2000 characters"))
+                .field("priority", CreateTaskCommand::getPriority, f -> f
+                        .notNull("Priority cannot be null"))
+                .field("userId", CreateTaskCommand::getUserId, f -> f
+                        .notNull("User ID cannot be null")
+                        .positive("User ID must be a positive number"))
+                .field("dueDate", CreateTaskCommand::getDueDate, f -> f
+                        .satisfies(notInPast(clock), "Due date cannot be in the past"))
+                .build();
+    }
+
+    /**
+     * Campos presentes em um patch; campos ausentes não são validados
+     *
+     * @param clock Relógio usado para recusar datas de vencimento no passado
+     */
+    public static Validator<TaskPatch> taskPatch(Clock clock) {
+        return Validator.<TaskPatch>builder()
+                .nullMessage("Patch cannot be null")
+                .fieldIf("title", TaskPatch::isTitleSet, TaskPatch::getTitle, f -> f
+                        .notBlank("Title cannot be null or empty")
+                        .length(3, 200, "Title must be between 3 and 200 characters"))
+                .fieldIf("description", TaskPatch::isDescriptionSet, TaskPatch::getDescription, f -> f
+                        .maxLength(2000, "Description must not exceed 2000 characters"))
+                .fieldIf("priority", TaskPatch::isPrioritySet, TaskPatch::getPriority, f -> f
+                        .notNull("Priority cannot be null"))
+                .fieldIf("dueDate", TaskPatch::isDueDateSet, TaskPatch::getDueDate, f -> f
+                        .satisfies(notInPast(clock), "Due date cannot be in the past"))
+                .build();
+    }
+
+    /**
+     * Credenciais de login
+     */
+    public static final Validator<LoginRequest> LOGIN_REQUEST = Validator.<LoginRequest>builder()
+            .nullMessage("Login request cannot be null")
+            .field("email", LoginRequest::getEmail, f -> f
+                    .notBlank("Email cannot be null or empty")
+                    .matches(EMAIL_PATTERN, "Email format is invalid"))
+            .field("password", LoginRequest::getPassword, f -> f
+                    .notBlank("Password cannot be null or empty"))
+            .build();
+
+    /**
+     * Dados de registro de usuário
+     */
+    public static final Validator<UserRegistrationRequest> REGISTRATION_REQUEST = Validator.<UserRegistrationRequest>builder()
+            .nullMessage("Registration request cannot be null")
+            .field("name", UserRegistrationRequest::getName, f -> f
+                    .notBlank("Name cannot be null or empty")
+                    .length(2, 100, "Name must be between 2 and 100 characters"))
+            .field("email", UserRegistrationRequest::getEmail, f -> f
+                    .notBlank("Email cannot be null or empty")
+                    .maxLength(150, "Email must not exceed 150 characters")
+                    .matches(EMAIL_PATTERN, "Email format is invalid"))
+            .field("password", UserRegistrationRequest::getPassword, f -> f
+                    .notBlank("Password cannot be null or empty")
+                    .length(6, 100, "Password must be between 6 and 100 characters"))
+            .build();
+
+    private static Predicate<LocalDateTime> notInPast(Clock clock) {
+        return dueDate -> dueDate == null || !dueDate.isBefore(TimeProvider.now(clock));
+    }
+
+    private ValidationRules() {
+    }
+}
@@ -0,0 +1,77 @@
+package com.tiagoreiz.projeto.Core.Common;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Relógio com resolução de milissegundo que reaproveita o Instant e o LocalDateTime
+ * já calculados enquanto o milissegundo do relógio de origem não muda.
+ *
+ * A leitura do milissegundo é barata; o custo do LocalDateTime.now() está na consulta
+ * das regras do fuso e na criação dos objetos, que aqui acontecem no máximo uma vez por
+ * milissegundo. Numa listagem com milhares de tarefas, todas passam a usar o mesmo horário.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class CoarseClock extends Clock {
+
+    private final Clock source;
+    private volatile Tick tick;
+
+    public CoarseClock(Clock source) {
+        this.source = source;
+        this.tick = tick(source.millis());
+    }
+
+    /**
+     * Horário local do milissegundo corrente no fuso do relógio de origem
+     */
+    public LocalDateTime localDateTime() {
+        return current().localDateTime();
+    }
+
+    @Override
+    public Instant instant() {
+        return current().instant();
+    }
+
+    @Override
+    public long millis() {
+        return source.millis();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return source.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(source.getZone()) ? this : new CoarseClock(source.withZone(zone));
+    }
+
+    private Tick current() {
+        long millis = source.millis();
+        Tick current = tick;
+        if (current.millis() != millis) {
+            // Corrida benigna: threads concorrentes calculam o mesmo valor
+            current = tick(millis);
+            tick = current;
+        }
+        return current;
+    }
+
+    private Tick tick(long millis) {
+        Instant instant = Instant.ofEpochMilli(millis);
+        return new Tick(millis, instant, LocalDateTime.ofInstant(instant, source.getZone()));
+    }
+
+    /**
+     * Valores calculados para um milissegundo
+     */
+    private record Tick(long millis, Instant instant, LocalDateTime localDateTime) {
+    }
+}
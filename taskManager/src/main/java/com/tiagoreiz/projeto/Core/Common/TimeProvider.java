@@ -0,0 +1,28 @@
+package com.tiagoreiz.projeto.Core.Common;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Leitura do horário local a partir de um Clock. Não guarda relógio: os componentes recebem
+ * o Clock no construtor e repassam o horário às entidades, eventos e DTOs, de modo que um
+ * relógio fixo (Clock.fixed) torna determinísticas as regras que dependem do horário.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class TimeProvider {
+
+    private TimeProvider() {
+    }
+
+    /**
+     * Horário local corrente do relógio informado, sem recalcular o fuso se for um CoarseClock
+     *
+     * @param clock Relógio
+     * @return Horário local no fuso do relógio
+     */
+    public static LocalDateTime now(Clock clock) {
+        return clock instanceof CoarseClock coarse ? coarse.localDateTime() : LocalDateTime.now(clock);
+    }
+}
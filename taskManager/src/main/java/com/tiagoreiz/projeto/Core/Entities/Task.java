@@ -68,6 +68,11 @@ public class Task {
      */
     private Long userId;
     
+    /**
+     * Versão da tarefa, incrementada a cada alteração (controle de concorrência otimista)
+     */
+    private Long version;
+    
     /**
      * Construtor para criação de uma nova tarefa
      * 
@@ -76,51 +81,60 @@ public class Task {
      * @param priority Prioridade da tarefa
      * @param dueDate Data limite para conclusão
      * @param userId ID do usuário proprietário
+     * @param now Data e hora de criação
      */
-    public Task(String title, String description, TaskPriority priority, LocalDateTime dueDate, Long userId) {
+    public Task(String title, String description, TaskPriority priority, LocalDateTime dueDate, Long userId,
+                LocalDateTime now) {
         this.title = title;
         this.description = description;
         this.priority = priority;
         this.dueDate = dueDate;
         this.userId = userId;
         this.status = TaskStatus.PENDING;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
     }
     
     /**
      * Marca a tarefa como concluída
+     * 
+     * @param now Data e hora da conclusão
      */
-    public void complete() {
+    public void complete(LocalDateTime now) {
         this.status = TaskStatus.COMPLETED;
-        this.completedAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.completedAt = now;
+        this.updatedAt = now;
     }
     
     /**
      * Marca a tarefa como pendente
+     * 
+     * @param now Data e hora da alteração
      */
-    public void markAsPending() {
+    public void markAsPending(LocalDateTime now) {
         this.status = TaskStatus.PENDING;
         this.completedAt = null;
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now;
     }
     
     /**
      * Atualiza o timestamp de última modificação
+     * 
+     * @param now Data e hora da alteração
      */
-    public void updateTimestamp() {
-        this.updatedAt = LocalDateTime.now();
+    public void updateTimestamp(LocalDateTime now) {
+        this.updatedAt = now;
     }
     
     /**
      * Verifica se a tarefa está atrasada
      * 
+     * @param now Instante de referência
      * @return true se a tarefa está pendente e passou da data limite
      */
-    public boolean isOverdue() {
+    public boolean isOverdue(LocalDateTime now) {
         return status == TaskStatus.PENDING && 
                dueDate != null && 
-               LocalDateTime.now().isAfter(dueDate);
+               now.isAfter(dueDate);
     }
 }
\ No newline at end of file
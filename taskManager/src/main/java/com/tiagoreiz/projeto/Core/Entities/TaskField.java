@@ -0,0 +1,35 @@
+package com.tiagoreiz.projeto.Core.Entities;
+
+/**
+ * Enum que representa os atributos persistidos de uma tarefa.
+ * Usado para carregar apenas parte das colunas (por exemplo, listagens sem a descrição).
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public enum TaskField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    DUE_DATE("dueDate"),
+    COMPLETED_AT("completedAt"),
+    USER_ID("userId"),
+    VERSION("version");
+
+    private final String propertyName;
+
+    TaskField(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Nome do atributo na entidade Task
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tiagoreiz.projeto.Core.Entities;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Alteração parcial de uma tarefa.
+ * Registra quais campos foram informados, permitindo distinguir um campo ausente
+ * (não alterar) de um campo explicitamente removido (definir como null).
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Getter
+public class TaskPatch {
+    
+    private String title;
+    private boolean titleSet;
+    
+    private String description;
+    private boolean descriptionSet;
+    
+    private TaskPriority priority;
+    private boolean prioritySet;
+    
+    private LocalDateTime dueDate;
+    private boolean dueDateSet;
+    
+    public TaskPatch title(String title) {
+        this.title = title;
+        this.titleSet = true;
+        return this;
+    }
+    
+    public TaskPatch description(String description) {
+        this.description = description;
+        this.descriptionSet = true;
+        return this;
+    }
+    
+    public TaskPatch priority(TaskPriority priority) {
+        this.priority = priority;
+        this.prioritySet = true;
+        return this;
+    }
+    
+    public TaskPatch dueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+        this.dueDateSet = true;
+        return this;
+    }
+    
+    /**
+     * Verifica se nenhum campo foi informado
+     */
+    public boolean isEmpty() {
+        return !titleSet && !descriptionSet && !prioritySet && !dueDateSet;
+    }
+    
+    /**
+     * Aplica os campos informados à tarefa
+     * 
+     * @param task Tarefa a ser alterada
+     */
+    public void applyTo(Task task) {
+        if (titleSet) {
+            task.setTitle(title);
+        }
+        if (descriptionSet) {
+            task.setDescription(description);
+        }
+        if (prioritySet) {
+            task.setPriority(priority);
+        }
+        if (dueDateSet) {
+            task.setDueDate(dueDate);
+        }
+    }
+}
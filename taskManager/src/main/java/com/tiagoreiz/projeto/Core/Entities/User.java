@@ -60,19 +60,22 @@ public class User {
      * @param name Nome do usuário
      * @param email Email do usuário
      * @param password Senha criptografada
+     * @param now Data e hora de criação
      */
-    public User(String name, String email, String password) {
+    public User(String name, String email, String password, LocalDateTime now) {
         this.name = name;
         this.email = email;
         this.password = password;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
     }
     
     /**
      * Atualiza o timestamp de última modificação
+     * 
+     * @param now Data e hora da alteração
      */
-    public void updateTimestamp() {
-        this.updatedAt = LocalDateTime.now();
+    public void updateTimestamp(LocalDateTime now) {
+        this.updatedAt = now;
     }
 }
\ No newline at end of file
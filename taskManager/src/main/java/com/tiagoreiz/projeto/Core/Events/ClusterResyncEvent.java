@@ -0,0 +1,24 @@
+package com.tiagoreiz.projeto.Core.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento emitido quando o nó pode ter perdido notificações de outros nós
+ * (por exemplo, após reconectar ao barramento de eventos do cluster).
+ * Assinantes locais devem descartar estados derivados, como caches.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+public class ClusterResyncEvent {
+    
+    /**
+     * Data e hora em que a conexão com o barramento foi restabelecida
+     */
+    private final LocalDateTime occurredAt;
+}
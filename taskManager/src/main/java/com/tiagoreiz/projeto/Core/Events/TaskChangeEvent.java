@@ -0,0 +1,83 @@
+package com.tiagoreiz.projeto.Core.Events;
+
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de domínio que representa uma alteração em uma tarefa.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+public class TaskChangeEvent {
+    
+    /**
+     * Tipo da alteração
+     */
+    private final TaskChangeType type;
+    
+    /**
+     * ID da tarefa alterada (null em importações em massa)
+     */
+    private final Long taskId;
+    
+    /**
+     * ID do usuário proprietário da tarefa
+     */
+    private final Long userId;
+    
+    /**
+     * Estado da tarefa após a alteração (null para exclusões)
+     */
+    private final Task task;
+    
+    /**
+     * Data e hora da alteração
+     */
+    private final LocalDateTime occurredAt;
+    
+    /**
+     * Indica se o evento foi originado em outro nó do cluster
+     */
+    private final boolean remote;
+    
+    /**
+     * Cria um evento a partir do estado atual da tarefa
+     * 
+     * @param type Tipo da alteração
+     * @param task Tarefa após a alteração
+     * @param occurredAt Data e hora da alteração
+     * @return Evento de alteração
+     */
+    public static TaskChangeEvent of(TaskChangeType type, Task task, LocalDateTime occurredAt) {
+        return new TaskChangeEvent(type, task.getId(), task.getUserId(), task, occurredAt, false);
+    }
+    
+    /**
+     * Cria um evento de exclusão
+     * 
+     * @param taskId ID da tarefa excluída
+     * @param userId ID do usuário proprietário
+     * @param occurredAt Data e hora da exclusão
+     * @return Evento de exclusão
+     */
+    public static TaskChangeEvent deleted(Long taskId, Long userId, LocalDateTime occurredAt) {
+        return new TaskChangeEvent(TaskChangeType.DELETED, taskId, userId, null, occurredAt, false);
+    }
+    
+    /**
+     * Cria o evento de importação em massa, publicado uma única vez por importação
+     * 
+     * @param userId ID do usuário que recebeu as tarefas
+     * @param occurredAt Data e hora da importação
+     * @return Evento de importação
+     */
+    public static TaskChangeEvent imported(Long userId, LocalDateTime occurredAt) {
+        return new TaskChangeEvent(TaskChangeType.IMPORTED, null, userId, null, occurredAt, false);
+    }
+}
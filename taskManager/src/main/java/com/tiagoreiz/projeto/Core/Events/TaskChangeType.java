@@ -0,0 +1,19 @@
+package com.tiagoreiz.projeto.Core.Events;
+
+/**
+ * Tipos de alteração de tarefas publicados pelos casos de uso.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED,
+    
+    /**
+     * Importação em massa concluída para um usuário (sem taskId; as listagens devem ser recarregadas)
+     */
+    IMPORTED
+}
@@ -0,0 +1,18 @@
+package com.tiagoreiz.projeto.Core.Events;
+
+/**
+ * Interface para publicação de eventos de alteração de tarefas.
+ * Permite que os casos de uso notifiquem alterações sem depender da infraestrutura.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public interface TaskEventPublisher {
+    
+    /**
+     * Publica um evento de alteração de tarefa
+     * 
+     * @param event Evento a ser publicado
+     */
+    void publish(TaskChangeEvent event);
+}
@@ -0,0 +1,58 @@
+package com.tiagoreiz.projeto.Core.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de domínio que representa uma alteração em um usuário.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+public class UserChangeEvent {
+    
+    /**
+     * Tipos de alteração de usuários
+     */
+    public enum Type {
+        REGISTERED,
+        UPDATED,
+        DELETED
+    }
+    
+    /**
+     * Tipo da alteração
+     */
+    private final Type type;
+    
+    /**
+     * ID do usuário alterado
+     */
+    private final Long userId;
+    
+    /**
+     * Data e hora da alteração
+     */
+    private final LocalDateTime occurredAt;
+    
+    /**
+     * Indica se o evento foi originado em outro nó do cluster
+     */
+    private final boolean remote;
+    
+    /**
+     * Cria um evento local
+     * 
+     * @param type Tipo da alteração
+     * @param userId ID do usuário
+     * @param occurredAt Data e hora da alteração
+     * @return Evento de alteração
+     */
+    public static UserChangeEvent of(Type type, Long userId, LocalDateTime occurredAt) {
+        return new UserChangeEvent(type, userId, occurredAt, false);
+    }
+}
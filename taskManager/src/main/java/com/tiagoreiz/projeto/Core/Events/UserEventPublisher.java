@@ -0,0 +1,17 @@
+package com.tiagoreiz.projeto.Core.Events;
+
+/**
+ * Interface para publicação de eventos de alteração de usuários.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public interface UserEventPublisher {
+    
+    /**
+     * Publica um evento de alteração de usuário
+     * 
+     * @param event Evento a ser publicado
+     */
+    void publish(UserChangeEvent event);
+}
@@ -25,6 +25,16 @@ public abstract class BusinessException extends RuntimeException {
         this.httpStatus = httpStatus;
     }
     
+    /**
+     * Construtor para exceções de fluxo esperado (ex.: validação), que não
+     * precisam capturar a pilha de chamadas
+     */
+    protected BusinessException(String message, String errorCode, HttpStatus httpStatus, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+        this.httpStatus = httpStatus;
+    }
+    
     public String getErrorCode() {
         return errorCode;
     }
@@ -0,0 +1,28 @@
+package com.tiagoreiz.projeto.Core.Exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exceção lançada quando um circuit breaker está aberto e a chamada à dependência
+ * (ex.: banco de dados) não é sequer tentada
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class DependencyUnavailableException extends BusinessException {
+    
+    private static final String ERROR_CODE = "DEPENDENCY_UNAVAILABLE";
+    
+    private final long retryAfterSeconds;
+    
+    public DependencyUnavailableException(String dependency, long retryAfterSeconds) {
+        // Sem pilha: lançada em toda chamada enquanto o circuito está aberto
+        super(String.format("%s is temporarily unavailable, retry later", dependency),
+                ERROR_CODE, HttpStatus.SERVICE_UNAVAILABLE, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.tiagoreiz.projeto.Core.Exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exceção lançada quando uma Idempotency-Key é reutilizada com outro conteúdo
+ * ou enquanto a requisição original ainda está em processamento
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class IdempotencyKeyConflictException extends BusinessException {
+    
+    private static final String ERROR_CODE = "IDEMPOTENCY_KEY_CONFLICT";
+    
+    public IdempotencyKeyConflictException(String message, HttpStatus httpStatus) {
+        super(message, ERROR_CODE, httpStatus);
+    }
+}
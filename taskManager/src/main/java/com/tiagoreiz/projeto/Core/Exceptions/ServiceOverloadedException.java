@@ -0,0 +1,28 @@
+package com.tiagoreiz.projeto.Core.Exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exceção lançada quando um bulkhead está saturado e a operação é recusada
+ * para proteger as demais classes de tráfego
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class ServiceOverloadedException extends BusinessException {
+    
+    private static final String ERROR_CODE = "SERVICE_OVERLOADED";
+    
+    private final long retryAfterSeconds;
+    
+    public ServiceOverloadedException(String bulkhead, long retryAfterSeconds) {
+        // Sem pilha: é lançada justamente quando o sistema está sobrecarregado
+        super(String.format("Server is overloaded (%s), retry later", bulkhead),
+                ERROR_CODE, HttpStatus.SERVICE_UNAVAILABLE, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,9 +1,16 @@
 package com.tiagoreiz.projeto.Core.Exceptions;
 
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
+import com.tiagoreiz.projeto.Core.Validation.Violation;
 import org.springframework.http.HttpStatus;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
- * Exceção lançada quando há erros de validação em tarefas
+ * Exceção lançada quando há erros de validação em tarefas.
+ * Não captura a pilha de chamadas: é um erro de entrada esperado, e a
+ * mensagem e as violações já identificam o problema.
  * 
  * @author Tiago Reiz
  * @version 1.0
@@ -12,15 +19,35 @@ public class TaskValidationException extends BusinessException {
     
     private static final String ERROR_CODE = "TASK_VALIDATION_ERROR";
     
+    private final List<Violation> violations;
+    
     public TaskValidationException(String message) {
-        super(message, ERROR_CODE, HttpStatus.BAD_REQUEST);
+        super(message, ERROR_CODE, HttpStatus.BAD_REQUEST, false);
+        this.violations = Collections.emptyList();
     }
     
     public TaskValidationException(String field, String violation) {
         super(
             String.format("Validation error on field '%s': %s", field, violation),
             ERROR_CODE,
-            HttpStatus.BAD_REQUEST
+            HttpStatus.BAD_REQUEST,
+            false
         );
+        this.violations = List.of(new Violation(field, violation, null));
+    }
+    
+    /**
+     * Cria a exceção a partir de um resultado de validação com falhas.
+     * A mensagem é a da primeira violação.
+     * 
+     * @param result Resultado da validação
+     */
+    public TaskValidationException(ValidationResult result) {
+        super(result.getFirstMessage(), ERROR_CODE, HttpStatus.BAD_REQUEST, false);
+        this.violations = result.getViolations();
+    }
+    
+    public List<Violation> getViolations() {
+        return violations;
     }
-}
\ No newline at end of file
+}
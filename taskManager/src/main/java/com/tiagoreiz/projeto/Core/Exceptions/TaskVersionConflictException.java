@@ -0,0 +1,27 @@
+package com.tiagoreiz.projeto.Core.Exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exceção lançada quando a versão esperada de uma tarefa (If-Match) não corresponde à versão atual
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class TaskVersionConflictException extends BusinessException {
+    
+    private static final String ERROR_CODE = "TASK_VERSION_CONFLICT";
+    
+    public TaskVersionConflictException(Long taskId, Long expectedVersion, Long currentVersion) {
+        super(
+            String.format("Task with ID %d was modified (expected version %d, current version %d)",
+                    taskId, expectedVersion, currentVersion),
+            ERROR_CODE,
+            HttpStatus.PRECONDITION_FAILED
+        );
+    }
+    
+    public TaskVersionConflictException(String message) {
+        super(message, ERROR_CODE, HttpStatus.PRECONDITION_FAILED);
+    }
+}
@@ -0,0 +1,25 @@
+package com.tiagoreiz.projeto.Core.Repositories;
+
+import com.tiagoreiz.projeto.Core.Entities.Task;
+
+import java.util.Iterator;
+
+/**
+ * Interface do repositório de carga em massa de tarefas.
+ * Separada do TaskRepository porque trabalha com fluxos de tarefas
+ * em vez de entidades individuais.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public interface TaskBulkRepository {
+
+    /**
+     * Insere em uma única transação todas as tarefas produzidas pelo iterador.
+     * O iterador é consumido sob demanda, sem materializar a lista em memória.
+     *
+     * @param tasks Fluxo de tarefas já validadas
+     * @return Número de tarefas inseridas
+     */
+    long bulkInsert(Iterator<Task> tasks);
+}
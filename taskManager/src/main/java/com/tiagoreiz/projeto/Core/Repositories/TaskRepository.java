@@ -1,12 +1,15 @@
 package com.tiagoreiz.projeto.Core.Repositories;
 
 import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskField;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
 import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
 import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Interface do repositório de tarefas seguindo os princípios da Clean Architecture.
@@ -69,6 +72,18 @@ public interface TaskRepository {
      */
     List<Task> findByUserIdAndStatusAndPriority(Long userId, TaskStatus status, TaskPriority priority);
     
+    /**
+     * Lista as tarefas de um usuário carregando apenas os atributos informados.
+     * Os demais atributos das tarefas devolvidas ficam null e as colunas correspondentes não são lidas.
+     * 
+     * @param userId O ID do usuário
+     * @param status O status das tarefas (null para não filtrar)
+     * @param priority A prioridade das tarefas (null para não filtrar)
+     * @param fields Os atributos a carregar
+     * @return Lista de tarefas parcialmente preenchidas
+     */
+    List<Task> findByUserIdWithFields(Long userId, TaskStatus status, TaskPriority priority, Set<TaskField> fields);
+    
     /**
      * Lista todas as tarefas de um usuário que vencem antes de uma data específica
      * 
@@ -117,6 +132,16 @@ public interface TaskRepository {
      */
     Task update(Task task);
     
+    /**
+     * Grava uma alteração parcial, atualizando apenas as colunas informadas no patch.
+     * A gravação é condicionada à versão da tarefa e incrementa a versão.
+     * 
+     * @param task A tarefa com o patch já aplicado (id, versão e updatedAt são usados na gravação)
+     * @param patch Os campos alterados
+     * @return A tarefa atualizada com a nova versão
+     */
+    Task patch(Task task, TaskPatch patch);
+    
     /**
      * Lista todas as tarefas
      * 
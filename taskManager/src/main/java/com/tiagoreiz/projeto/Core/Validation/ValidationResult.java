@@ -0,0 +1,72 @@
+package com.tiagoreiz.projeto.Core.Validation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de uma validação, com as violações encontradas.
+ * Validações bem-sucedidas compartilham uma única instância sem alocação.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+    private final List<Violation> violations;
+
+    private ValidationResult(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    public static ValidationResult of(List<Violation> violations) {
+        return violations == null || violations.isEmpty()
+                ? VALID
+                : new ValidationResult(Collections.unmodifiableList(violations));
+    }
+
+    public static ValidationResult of(Violation violation) {
+        return new ValidationResult(List.of(violation));
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Mensagem da primeira violação, na ordem em que as regras foram declaradas
+     *
+     * @return Mensagem ou null se a validação passou
+     */
+    public String getFirstMessage() {
+        return violations.isEmpty() ? null : violations.get(0).message();
+    }
+
+    /**
+     * Combina dois resultados preservando a ordem das violações
+     *
+     * @param other Outro resultado
+     * @return Resultado combinado
+     */
+    public ValidationResult and(ValidationResult other) {
+        if (other.isValid()) {
+            return this;
+        }
+        if (isValid()) {
+            return other;
+        }
+        List<Violation> combined = new java.util.ArrayList<>(violations.size() + other.violations.size());
+        combined.addAll(violations);
+        combined.addAll(other.violations);
+        return new ValidationResult(Collections.unmodifiableList(combined));
+    }
+}
@@ -0,0 +1,211 @@
+package com.tiagoreiz.projeto.Core.Validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Validador declarativo e imutável, montado uma única vez e reutilizado entre requisições.
+ * As regras são avaliadas na ordem de declaração; em cada campo a avaliação para na
+ * primeira regra violada. Nenhuma exceção é criada: as violações são devolvidas
+ * em um {@link ValidationResult}.
+ *
+ * @param <T> Tipo do objeto validado
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class Validator<T> {
+
+    private final String nullMessage;
+    private final FieldRules<T, ?>[] fields;
+
+    private Validator(String nullMessage, List<FieldRules<T, ?>> fields) {
+        this.nullMessage = nullMessage;
+        @SuppressWarnings("unchecked")
+        FieldRules<T, ?>[] array = fields.toArray(new FieldRules[0]);
+        this.fields = array;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Valida o objeto informado
+     *
+     * @param target Objeto a ser validado
+     * @return Resultado com as violações encontradas
+     */
+    public ValidationResult validate(T target) {
+        if (target == null) {
+            return ValidationResult.of(new Violation(null, nullMessage, null));
+        }
+
+        List<Violation> violations = null;
+        for (FieldRules<T, ?> field : fields) {
+            Violation violation = field.check(target);
+            if (violation != null) {
+                if (violations == null) {
+                    violations = new ArrayList<>(4);
+                }
+                violations.add(violation);
+            }
+        }
+        return ValidationResult.of(violations);
+    }
+
+    /**
+     * Regras de um campo, avaliadas em ordem até a primeira falha
+     */
+    private static final class FieldRules<T, V> {
+        private final String name;
+        private final Predicate<T> condition;
+        private final Function<T, V> accessor;
+        private final Rule<V>[] rules;
+
+        @SuppressWarnings("unchecked")
+        FieldRules(String name, Predicate<T> condition, Function<T, V> accessor, List<Rule<V>> rules) {
+            this.name = name;
+            this.condition = condition;
+            this.accessor = accessor;
+            this.rules = rules.toArray(new Rule[0]);
+        }
+
+        Violation check(T target) {
+            if (condition != null && !condition.test(target)) {
+                return null;
+            }
+            V value = accessor.apply(target);
+            for (Rule<V> rule : rules) {
+                if (!rule.predicate().test(value)) {
+                    return new Violation(name, rule.message(), value);
+                }
+            }
+            return null;
+        }
+    }
+
+    private record Rule<V>(Predicate<? super V> predicate, String message) {
+    }
+
+    /**
+     * Construtor do validador
+     */
+    public static final class Builder<T> {
+        private String nullMessage = "Request cannot be null";
+        private final List<FieldRules<T, ?>> fields = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Define a mensagem usada quando o próprio objeto é null
+         */
+        public Builder<T> nullMessage(String message) {
+            this.nullMessage = message;
+            return this;
+        }
+
+        /**
+         * Declara as regras de um campo
+         *
+         * @param name Nome do campo reportado nas violações
+         * @param accessor Função que extrai o valor do campo
+         * @param rules Declaração das regras do campo
+         */
+        public <V> Builder<T> field(String name, Function<T, V> accessor, Consumer<FieldBuilder<V>> rules) {
+            return fieldIf(name, null, accessor, rules);
+        }
+
+        /**
+         * Declara as regras de um campo avaliadas apenas quando a condição é satisfeita
+         * (por exemplo, campos presentes em um patch)
+         *
+         * @param name Nome do campo reportado nas violações
+         * @param condition Condição sobre o objeto para que o campo seja validado
+         * @param accessor Função que extrai o valor do campo
+         * @param rules Declaração das regras do campo
+         */
+        public <V> Builder<T> fieldIf(String name, Predicate<T> condition, Function<T, V> accessor,
+                                      Consumer<FieldBuilder<V>> rules) {
+            FieldBuilder<V> builder = new FieldBuilder<>();
+            rules.accept(builder);
+            fields.add(new FieldRules<>(name, condition, accessor, builder.rules));
+            return this;
+        }
+
+        public Validator<T> build() {
+            return new Validator<>(nullMessage, fields);
+        }
+    }
+
+    /**
+     * Regras disponíveis para um campo. Com exceção de notNull e notBlank,
+     * as regras aceitam valores null, permitindo campos opcionais.
+     */
+    public static final class FieldBuilder<V> {
+        private final List<Rule<V>> rules = new ArrayList<>(4);
+
+        private FieldBuilder() {
+        }
+
+        public FieldBuilder<V> notNull(String message) {
+            return satisfies(value -> value != null, message);
+        }
+
+        public FieldBuilder<V> notBlank(String message) {
+            return satisfies(value -> value instanceof CharSequence text && !isBlank(text), message);
+        }
+
+        public FieldBuilder<V> length(int min, int max, String message) {
+            return satisfies(value -> {
+                if (!(value instanceof CharSequence text)) {
+                    return true;
+                }
+                int length = text.length();
+                return length >= min && length <= max;
+            }, message);
+        }
+
+        public FieldBuilder<V> maxLength(int max, String message) {
+            return length(0, max, message);
+        }
+
+        public FieldBuilder<V> matches(Pattern pattern, String message) {
+            return satisfies(value -> !(value instanceof CharSequence text) || pattern.matcher(text).matches(), message);
+        }
+
+        public FieldBuilder<V> range(long min, long max, String message) {
+            return satisfies(value -> {
+                if (!(value instanceof Number number)) {
+                    return true;
+                }
+                long longValue = number.longValue();
+                return longValue >= min && longValue <= max;
+            }, message);
+        }
+
+        public FieldBuilder<V> positive(String message) {
+            return range(1, Long.MAX_VALUE, message);
+        }
+
+        public FieldBuilder<V> satisfies(Predicate<? super V> predicate, String message) {
+            rules.add(new Rule<>(predicate, message));
+            return this;
+        }
+
+        private static boolean isBlank(CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                // Mesmo critério de String.trim(): caracteres até o espaço são considerados em branco
+                if (text.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.tiagoreiz.projeto.Core.Validation;
+
+/**
+ * Violação de uma regra de validação em um campo específico
+ *
+ * @param field Nome do campo (null para violações do objeto como um todo)
+ * @param message Mensagem de erro
+ * @param rejectedValue Valor rejeitado
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public record Violation(String field, String message, Object rejectedValue) {
+}
@@ -0,0 +1,412 @@
+package com.tiagoreiz.projeto.Infra.Cache;
+
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskField;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import com.tiagoreiz.projeto.Core.Events.ClusterResyncEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Exceptions.DependencyUnavailableException;
+import com.tiagoreiz.projeto.Core.Exceptions.ServiceOverloadedException;
+import com.tiagoreiz.projeto.Infra.Resilience.CircuitBreaker;
+import com.tiagoreiz.projeto.Infra.Resilience.TaskRepositoryCircuitBreakerAspect;
+import com.tiagoreiz.projeto.Infra.Resilience.TrafficClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache stale-while-revalidate das listagens de tarefas, por usuário e combinação de filtros.
+ *
+ * <ul>
+ *   <li>Cópia fresca (sem alterações do usuário desde a carga e mais nova que fresh-ttl): servida direto</li>
+ *   <li>Sem cópia utilizável: a requisição consulta o banco normalmente</li>
+ *   <li>Cópia desatualizada: a recarga roda no pool do cache; se o banco não responder dentro de
+ *       {@code deadline}, falhar ou o circuit breaker do TaskRepository estiver aberto, a cópia antiga
+ *       é servida (até max-stale) e a recarga termina em segundo plano ou é agendada para quando o
+ *       circuito voltar a aceitar chamadas</li>
+ * </ul>
+ *
+ * Alterações de tarefas não removem as cópias do usuário: apenas incrementam a geração dele, de modo
+ * que continuam disponíveis como fallback. O tamanho total é limitado por uma estimativa em bytes,
+ * com descarte LRU.
+ *
+ * Métricas: taskmaster.taskcache.requests (result = hit, miss, stale), taskmaster.taskcache.bytes,
+ * taskmaster.taskcache.entries e taskmaster.taskcache.refresh.failures.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TaskListCache implements DisposableBean {
+
+    private static final long LIST_OVERHEAD_BYTES = 96;
+    private static final long TASK_OVERHEAD_BYTES = 200;
+
+    private final CircuitBreaker circuitBreaker;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long freshNanos;
+    private final long maxStaleNanos;
+    private final long deadlineNanos;
+    private final int refreshBatchSize;
+    private final ThreadPoolExecutor refresher;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final Map<Long, Long> userGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final Map<Key, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Key, Supplier<List<Task>>> pendingRefresh = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleServed;
+    private final Counter refreshFailures;
+
+    public TaskListCache(TaskRepositoryCircuitBreakerAspect circuitBreakerAspect,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.task-cache.enabled:true}") boolean enabled,
+                         @Value("${app.task-cache.max-bytes:33554432}") long maxBytes,
+                         @Value("${app.task-cache.fresh-ttl:30s}") Duration freshTtl,
+                         @Value("${app.task-cache.max-stale:10m}") Duration maxStale,
+                         @Value("${app.task-cache.deadline:300ms}") Duration deadline,
+                         @Value("${app.task-cache.refresh-threads:2}") int refreshThreads,
+                         @Value("${app.task-cache.refresh-queue-capacity:200}") int refreshQueueCapacity,
+                         @Value("${app.task-cache.refresh-batch-size:20}") int refreshBatchSize) {
+        this.circuitBreaker = circuitBreakerAspect.getCircuitBreaker();
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.freshNanos = freshTtl.toNanos();
+        this.maxStaleNanos = maxStale.toNanos();
+        this.deadlineNanos = deadline.toNanos();
+        this.refreshBatchSize = refreshBatchSize;
+        AtomicInteger sequence = new AtomicInteger();
+        this.refresher = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "task-cache-refresh-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.staleServed = requests(meterRegistry, "stale");
+        this.refreshFailures = Counter.builder("taskmaster.taskcache.refresh.failures")
+                .description("Background task list refreshes that failed")
+                .register(meterRegistry);
+        Gauge.builder("taskmaster.taskcache.bytes", this, TaskListCache::totalBytes)
+                .description("Estimated size of the cached task lists")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("taskmaster.taskcache.entries", this, TaskListCache::size)
+                .description("Cached task lists")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca a listagem no cache, carregando-a com o loader quando necessário
+     *
+     * @param key Usuário e filtros da listagem
+     * @param loader Consulta ao banco
+     * @return Tarefas e, se a cópia servida estiver desatualizada, a idade dela
+     */
+    public Lookup get(Key key, Supplier<List<Task>> loader) {
+        if (!enabled) {
+            return new Lookup(loader.get(), false, 0);
+        }
+
+        long now = System.nanoTime();
+        Entry cached = lookup(key);
+        if (cached != null && isFresh(key, cached, now)) {
+            hits.increment();
+            return cached.toLookup(false, now);
+        }
+        if (cached == null || now - cached.loadedAt > maxStaleNanos) {
+            // Sem cópia utilizável: a requisição espera o banco como faria sem o cache
+            misses.increment();
+            return load(key, loader).toLookup(false, System.nanoTime());
+        }
+
+        if (!circuitBreaker.isCallPermitted()) {
+            pendingRefresh.put(key, loader);
+            return serveStale(cached, now);
+        }
+
+        try {
+            Entry refreshed = refresh(key, loader).get(deadlineNanos, TimeUnit.NANOSECONDS);
+            misses.increment();
+            return refreshed.toLookup(false, System.nanoTime());
+        } catch (TimeoutException e) {
+            // A recarga continua em segundo plano e atualiza a cópia quando terminar
+            return serveStale(cached, now);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return serveStale(cached, now);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (isUnavailable(cause)) {
+                pendingRefresh.put(key, loader);
+                return serveStale(cached, now);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Marca todas as listagens do usuário como desatualizadas, mantendo-as como fallback
+     *
+     * @param userId ID do usuário
+     */
+    public void invalidateUser(Long userId) {
+        userGenerations.merge(userId, 1L, Long::sum);
+    }
+
+    /**
+     * Invalida as listagens do dono da tarefa após o commit da alteração
+     *
+     * @param event Evento de alteração
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangeEvent event) {
+        invalidateUser(event.getUserId());
+    }
+
+    /**
+     * Alterações de outros nós podem ter sido perdidas: todas as listagens passam a ser desatualizadas
+     *
+     * @param event Evento de ressincronização do cluster
+     */
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        globalGeneration.incrementAndGet();
+    }
+
+    /**
+     * Recarrega as listagens servidas desatualizadas enquanto o circuito estava aberto,
+     * assim que ele voltar a aceitar chamadas
+     */
+    @Scheduled(fixedDelayString = "${app.task-cache.refresh-interval-ms:1000}")
+    public void refreshPending() {
+        if (pendingRefresh.isEmpty() || !circuitBreaker.isCallPermitted()) {
+            return;
+        }
+        int started = 0;
+        Iterator<Map.Entry<Key, Supplier<List<Task>>>> pending = pendingRefresh.entrySet().iterator();
+        while (pending.hasNext() && started < refreshBatchSize) {
+            Map.Entry<Key, Supplier<List<Task>>> next = pending.next();
+            pending.remove();
+            Key key = next.getKey();
+            Supplier<List<Task>> loader = next.getValue();
+            refresh(key, loader).whenComplete((entry, error) -> {
+                if (error == null) {
+                    return;
+                }
+                refreshFailures.increment();
+                if (isUnavailable(error) && contains(key)) {
+                    pendingRefresh.putIfAbsent(key, loader);
+                } else {
+                    log.warn("Background refresh of task list for user {} failed: {}", key.userId(), error.toString());
+                }
+            });
+            started++;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Inicia (ou reaproveita) a recarga da listagem no pool do cache
+     */
+    private CompletableFuture<Entry> refresh(Key key, Supplier<List<Task>> loader) {
+        CompletableFuture<Entry> running = inFlight.get(key);
+        if (running != null) {
+            return running;
+        }
+        CompletableFuture<Entry> future = new CompletableFuture<>();
+        running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return running;
+        }
+
+        // As recargas usam a cota de conexões de leitura, como as requisições que as originaram
+        Callable<Entry> task = TrafficClass.READ.bind(() -> load(key, loader));
+        try {
+            refresher.execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch (Throwable error) {
+                    future.completeExceptionally(error);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(new ServiceOverloadedException("Task list refresh", 1));
+        }
+        return future;
+    }
+
+    /**
+     * Consulta o banco e guarda o resultado com as gerações lidas antes da consulta, de modo que uma
+     * alteração concluída durante a carga deixa a cópia desatualizada
+     */
+    private Entry load(Key key, Supplier<List<Task>> loader) {
+        long userGeneration = userGenerations.getOrDefault(key.userId(), 0L);
+        long generation = globalGeneration.get();
+        long startedAt = System.nanoTime();
+        List<Task> tasks = List.copyOf(loader.get());
+        Entry entry = new Entry(tasks, startedAt, userGeneration, generation, estimateBytes(tasks));
+        store(key, entry);
+        return entry;
+    }
+
+    private Lookup serveStale(Entry cached, long now) {
+        staleServed.increment();
+        return cached.toLookup(true, now);
+    }
+
+    private boolean isFresh(Key key, Entry entry, long now) {
+        return now - entry.loadedAt < freshNanos
+                && entry.globalGeneration == globalGeneration.get()
+                && entry.userGeneration == userGenerations.getOrDefault(key.userId(), 0L);
+    }
+
+    private synchronized Entry lookup(Key key) {
+        return entries.get(key);
+    }
+
+    private synchronized boolean contains(Key key) {
+        return entries.containsKey(key);
+    }
+
+    private synchronized void store(Key key, Entry entry) {
+        if (entry.bytes > maxBytes) {
+            return;
+        }
+        Entry previous = entries.get(key);
+        if (previous != null && previous.loadedAt > entry.loadedAt) {
+            // Uma carga iniciada depois já gravou a listagem
+            return;
+        }
+        entries.put(key, entry);
+        totalBytes += entry.bytes - (previous == null ? 0 : previous.bytes);
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().bytes;
+            eldest.remove();
+        }
+    }
+
+    private synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Estimativa conservadora do espaço ocupado pela lista (strings contadas com 2 bytes por caractere)
+     */
+    private static long estimateBytes(List<Task> tasks) {
+        long bytes = LIST_OVERHEAD_BYTES + 8L * tasks.size();
+        for (Task task : tasks) {
+            bytes += TASK_OVERHEAD_BYTES + 2L * length(task.getTitle()) + 2L * length(task.getDescription());
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * Falhas em que vale servir a cópia antiga: circuito aberto, cotas esgotadas ou banco indisponível
+     */
+    private static boolean isUnavailable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        return cause instanceof DependencyUnavailableException
+                || cause instanceof ServiceOverloadedException
+                || cause instanceof DataAccessException
+                || cause instanceof TransactionException;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("taskmaster.taskcache.requests")
+                .description("Task list requests by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Usuário, combinação de filtros e atributos carregados de uma listagem
+     * (filtros ausentes são null; fields null indica a tarefa completa)
+     */
+    public record Key(Long userId, TaskStatus status, TaskPriority priority, Set<TaskField> fields) {
+
+        public Key {
+            fields = fields == null ? null : Set.copyOf(fields);
+        }
+    }
+
+    /**
+     * Resultado de uma busca no cache
+     *
+     * @param tasks Tarefas (lista imutável)
+     * @param stale Se a cópia servida está desatualizada
+     * @param ageSeconds Idade da cópia servida, em segundos
+     */
+    public record Lookup(List<Task> tasks, boolean stale, long ageSeconds) {
+    }
+
+    private record Entry(List<Task> tasks, long loadedAt, long userGeneration, long globalGeneration, long bytes) {
+
+        Lookup toLookup(boolean stale, long now) {
+            return new Lookup(tasks, stale, TimeUnit.NANOSECONDS.toSeconds(Math.max(0, now - loadedAt)));
+        }
+    }
+}
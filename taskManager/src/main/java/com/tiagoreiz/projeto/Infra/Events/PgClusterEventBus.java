@@ -0,0 +1,366 @@
+package com.tiagoreiz.projeto.Infra.Events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Events.ClusterResyncEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import com.tiagoreiz.projeto.Core.Events.UserChangeEvent;
+import com.tiagoreiz.projeto.Core.Repositories.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Barramento de eventos entre nós do cluster usando LISTEN/NOTIFY do PostgreSQL.
+ * 
+ * Eventos locais de tarefas e usuários são coletados após o commit, agrupados e
+ * coalescidos por entidade (apenas a última alteração de cada tarefa na janela é enviada)
+ * e publicados com pg_notify em lotes que respeitam o limite de 8000 bytes do payload.
+ * Uma conexão dedicada, fora do pool, escuta o canal e republica localmente os eventos
+ * dos outros nós marcados como remotos. Se a conexão cair, ela é refeita com backoff
+ * exponencial e um ClusterResyncEvent é emitido para que os assinantes locais
+ * descartem o estado que pode ter perdido notificações.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.events.enabled", havingValue = "true")
+@Slf4j
+public class PgClusterEventBus {
+    
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final String KIND_TASK = "task";
+    private static final String KIND_USER = "user";
+    private static final String KIND_IMPORT = "import";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final String channel;
+    private final long flushIntervalMillis;
+    private final int maxPendingEvents;
+    private final long pollTimeoutMillis;
+    private final long maxReconnectDelayMillis;
+    
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, ClusterEntry> pending = new LinkedHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private ScheduledExecutorService flusher;
+    private Thread listener;
+    private volatile boolean running;
+    
+    public PgClusterEventBus(JdbcTemplate jdbcTemplate,
+                             DataSourceProperties dataSourceProperties,
+                             TaskRepository taskRepository,
+                             ApplicationEventPublisher applicationEventPublisher,
+                             ObjectMapper objectMapper,
+                             Clock clock,
+                             @Value("${app.cluster.events.channel:taskmaster_events}") String channel,
+                             @Value("${app.cluster.events.flush-interval-ms:50}") long flushIntervalMillis,
+                             @Value("${app.cluster.events.max-pending:500}") int maxPendingEvents,
+                             @Value("${app.cluster.events.poll-timeout-ms:5000}") long pollTimeoutMillis,
+                             @Value("${app.cluster.events.max-reconnect-delay-ms:30000}") long maxReconnectDelayMillis) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cluster event channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.taskRepository = taskRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.channel = channel;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPendingEvents = maxPendingEvents;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.maxReconnectDelayMillis = maxReconnectDelayMillis;
+    }
+    
+    @PostConstruct
+    void start() {
+        running = true;
+        
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-events-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        
+        listener = new Thread(this::listenLoop, "cluster-events-listener");
+        listener.setDaemon(true);
+        listener.start();
+        
+        log.info("Cluster event bus started on channel {} (node {})", channel, nodeId);
+    }
+    
+    @PreDestroy
+    void stop() {
+        running = false;
+        listener.interrupt();
+        flusher.shutdown();
+        flush();
+    }
+    
+    /**
+     * Coleta alterações locais de tarefas após o commit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangeEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        if (event.getType() == TaskChangeType.IMPORTED) {
+            // Importações não têm taskId: coalescidas por usuário
+            enqueue(new ClusterEntry(KIND_IMPORT, event.getType().name(), event.getUserId(), event.getUserId()));
+        } else {
+            enqueue(new ClusterEntry(KIND_TASK, event.getType().name(), event.getTaskId(), event.getUserId()));
+        }
+    }
+    
+    /**
+     * Coleta alterações locais de usuários após o commit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangeEvent event) {
+        if (!event.isRemote()) {
+            enqueue(new ClusterEntry(KIND_USER, event.getType().name(), event.getUserId(), event.getUserId()));
+        }
+    }
+    
+    /**
+     * Adiciona uma alteração ao lote pendente, substituindo alterações anteriores da mesma entidade
+     */
+    private void enqueue(ClusterEntry entry) {
+        int size;
+        synchronized (pending) {
+            String key = entry.kind() + ":" + entry.id();
+            // Remove antes de inserir para que a entrada vá para o fim da ordem de envio
+            pending.remove(key);
+            pending.put(key, entry);
+            size = pending.size();
+        }
+        
+        if (size >= maxPendingEvents && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+    
+    /**
+     * Envia as alterações pendentes em um ou mais NOTIFY
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        
+        List<ClusterEntry> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        
+        try {
+            for (String payload : buildPayloads(batch)) {
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, channel, payload);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} cluster events, will retry: {}", batch.size(), e.getMessage());
+            synchronized (pending) {
+                for (ClusterEntry entry : batch) {
+                    pending.putIfAbsent(entry.kind() + ":" + entry.id(), entry);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Divide o lote em payloads JSON abaixo do limite do NOTIFY
+     */
+    private List<String> buildPayloads(List<ClusterEntry> batch) {
+        String prefix = "{\"node\":\"" + nodeId + "\",\"events\":[";
+        String suffix = "]}";
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(prefix);
+        boolean empty = true;
+        
+        for (ClusterEntry entry : batch) {
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(entry);
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize cluster event {}", entry, e);
+                continue;
+            }
+            
+            if (!empty && payload.length() + json.length() + 1 + suffix.length() > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.append(suffix).toString());
+                payload.setLength(0);
+                payload.append(prefix);
+                empty = true;
+            }
+            
+            if (!empty) {
+                payload.append(',');
+            }
+            payload.append(json);
+            empty = false;
+        }
+        
+        if (!empty) {
+            payloads.add(payload.append(suffix).toString());
+        }
+        return payloads;
+    }
+    
+    /**
+     * Laço da conexão dedicada de LISTEN, com reconexão e backoff exponencial
+     */
+    private void listenLoop() {
+        long reconnectDelay = 1000;
+        boolean connectedBefore = false;
+        
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for cluster events on channel {}", channel);
+                
+                // Notificações enviadas enquanto a conexão estava fora foram perdidas
+                if (connectedBefore) {
+                    applicationEventPublisher.publishEvent(new ClusterResyncEvent(TimeProvider.now(clock)));
+                }
+                connectedBefore = true;
+                reconnectDelay = 1000;
+                
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeoutMillis);
+                    if (notifications == null || notifications.length == 0) {
+                        // Detecta conexões mortas que não geram erro de leitura
+                        if (!connection.isValid(2)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster event listener disconnected, reconnecting in {} ms: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, maxReconnectDelayMillis);
+            }
+        }
+    }
+    
+    /**
+     * Republica localmente os eventos recebidos de outros nós
+     */
+    private void handle(String payload) {
+        ClusterMessage message;
+        try {
+            message = objectMapper.readValue(payload, ClusterMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cluster event payload: {}", e.getOriginalMessage());
+            return;
+        }
+        
+        if (nodeId.equals(message.node()) || message.events() == null) {
+            return;
+        }
+        
+        for (ClusterEntry entry : message.events()) {
+            try {
+                if (KIND_TASK.equals(entry.kind())) {
+                    applicationEventPublisher.publishEvent(toTaskEvent(entry));
+                } else if (KIND_IMPORT.equals(entry.kind())) {
+                    applicationEventPublisher.publishEvent(new TaskChangeEvent(
+                            TaskChangeType.IMPORTED, null, entry.userId(), null, TimeProvider.now(clock), true));
+                } else if (KIND_USER.equals(entry.kind())) {
+                    applicationEventPublisher.publishEvent(new UserChangeEvent(
+                            UserChangeEvent.Type.valueOf(entry.type()), entry.id(), TimeProvider.now(clock), true));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to handle cluster event {}: {}", entry, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Recarrega a tarefa para que os assinantes locais recebam o estado atual
+     */
+    private TaskChangeEvent toTaskEvent(ClusterEntry entry) {
+        TaskChangeType type = TaskChangeType.valueOf(entry.type());
+        if (type != TaskChangeType.DELETED) {
+            Optional<Task> task = taskRepository.findById(entry.id());
+            if (task.isPresent()) {
+                return new TaskChangeEvent(type, entry.id(), entry.userId(), task.get(), TimeProvider.now(clock), true);
+            }
+        }
+        return new TaskChangeEvent(TaskChangeType.DELETED, entry.id(), entry.userId(), null, TimeProvider.now(clock), true);
+    }
+    
+    /**
+     * Alteração enviada entre nós
+     */
+    record ClusterEntry(String kind, String type, Long id, Long userId) {
+    }
+    
+    /**
+     * Payload de um NOTIFY
+     */
+    record ClusterMessage(String node, List<ClusterEntry> events) {
+    }
+}
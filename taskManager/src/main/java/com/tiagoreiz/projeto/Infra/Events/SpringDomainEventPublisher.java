@@ -0,0 +1,32 @@
+package com.tiagoreiz.projeto.Infra.Events;
+
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskEventPublisher;
+import com.tiagoreiz.projeto.Core.Events.UserChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.UserEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementação dos publicadores de eventos de domínio usando o barramento de eventos do Spring.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SpringDomainEventPublisher implements TaskEventPublisher, UserEventPublisher {
+    
+    private final ApplicationEventPublisher applicationEventPublisher;
+    
+    @Override
+    public void publish(TaskChangeEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+    
+    @Override
+    public void publish(UserChangeEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,227 @@
+package com.tiagoreiz.projeto.Infra.Idempotency;
+
+import com.tiagoreiz.projeto.Core.Exceptions.IdempotencyKeyConflictException;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Executa operações protegidas por Idempotency-Key.
+ * 
+ * A primeira requisição com uma chave reserva a chave no IdempotencyStore antes de executar
+ * a operação; a reserva é atômica também entre nós quando o armazenamento é o banco. A resposta
+ * (apenas 2xx) é gravada na mesma transação da operação, então uma tarefa criada nunca fica
+ * sem a resposta correspondente, mesmo se o nó cair logo após o commit. Falhas liberam a chave.
+ * 
+ * Repetições com o mesmo conteúdo recebem a resposta armazenada; com conteúdo diferente, 422.
+ * Requisições concorrentes com a mesma chave no mesmo nó aguardam a primeira (single-flight);
+ * em outro nó, consultam o armazenamento a cada app.idempotency.poll-interval-ms até a resposta
+ * ser gravada ou a espera esgotar (409). Uma reserva abandonada por um nó que caiu expira após
+ * app.idempotency.lease, que deve ser maior que o tempo da operação.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class IdempotencyService {
+    
+    private static final int MAX_KEY_LENGTH = 255;
+    
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration lease;
+    private final long waitTimeoutMillis;
+    private final long pollIntervalMillis;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+    
+    public IdempotencyService(IdempotencyStore idempotencyStore,
+                              TransactionTemplate transactionTemplate,
+                              Clock clock,
+                              @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${app.idempotency.lease:PT30S}") Duration lease,
+                              @Value("${app.idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis,
+                              @Value("${app.idempotency.poll-interval-ms:100}") long pollIntervalMillis) {
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+    
+    /**
+     * Resposta produzida pela operação protegida
+     */
+    public record Response(int status, String etag, String body) {
+    }
+    
+    /**
+     * Resultado da execução idempotente
+     * 
+     * @param response Resposta a ser enviada ao cliente
+     * @param replayed true se a resposta foi reaproveitada de uma execução anterior
+     */
+    public record Outcome(IdempotentResponse response, boolean replayed) {
+    }
+    
+    /**
+     * Executa a operação uma única vez por chave
+     * 
+     * @param userId ID do usuário (as chaves são isoladas por usuário)
+     * @param idempotencyKey Valor do cabeçalho Idempotency-Key
+     * @param requestBody Corpo da requisição, usado para detectar reutilização da chave
+     * @param operation Operação a ser executada
+     * @return Resposta original ou armazenada
+     */
+    public Outcome execute(Long userId, String idempotencyKey, byte[] requestBody, Supplier<Response> operation) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new TaskValidationException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        
+        String key = userId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(requestBody);
+        
+        Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+        if (stored.isPresent() && !stored.get().isPending()) {
+            return replay(stored.get(), fingerprint);
+        }
+        
+        CompletableFuture<IdempotentResponse> flight = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return replay(await(leader), fingerprint);
+        }
+        
+        try {
+            Outcome outcome = executeReserved(key, fingerprint, operation);
+            flight.complete(outcome.response());
+            return outcome;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    /**
+     * Reserva a chave, executa a operação e grava a resposta na mesma transação
+     */
+    private Outcome executeReserved(String key, String fingerprint, Supplier<Response> operation) {
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        
+        // Outro nó pode estar processando a mesma chave: aguarda a resposta dele ou o fim da reserva
+        while (!idempotencyStore.reserve(key, token, IdempotentResponse.pending(fingerprint, clock.instant().plus(lease)))) {
+            Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+            if (stored.isPresent()) {
+                Outcome replayed = replay(stored.get(), fingerprint);
+                if (!stored.get().isPending()) {
+                    return replayed;
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                throw stillProcessing();
+            }
+            pause();
+        }
+        
+        IdempotentResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                Response result = operation.get();
+                IdempotentResponse completed = new IdempotentResponse(
+                        fingerprint, result.status(), result.etag(), result.body(), clock.instant().plus(ttl));
+                if (isSuccess(completed) && !idempotencyStore.complete(key, token, completed)) {
+                    // A reserva expirou e foi assumida por outra requisição: desfaz esta operação
+                    throw new IdempotencyKeyConflictException(
+                            "Idempotency-Key reservation expired while the request was processed", HttpStatus.CONFLICT);
+                }
+                return completed;
+            });
+        } catch (RuntimeException e) {
+            idempotencyStore.release(key, token);
+            throw e;
+        }
+        
+        if (!isSuccess(response)) {
+            idempotencyStore.release(key, token);
+        }
+        return new Outcome(response, false);
+    }
+    
+    private static boolean isSuccess(IdempotentResponse response) {
+        return response.status() >= 200 && response.status() < 300;
+    }
+    
+    private void pause() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillProcessing();
+        }
+    }
+    
+    private static IdempotencyKeyConflictException stillProcessing() {
+        return new IdempotencyKeyConflictException(
+                "A request with this Idempotency-Key is still being processed", HttpStatus.CONFLICT);
+    }
+    
+    private Outcome replay(IdempotentResponse response, String fingerprint) {
+        if (!response.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyConflictException(
+                    "Idempotency-Key was already used with a different request body", HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        return new Outcome(response, true);
+    }
+    
+    /**
+     * Aguarda a conclusão da requisição líder com a mesma chave
+     */
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> leader) {
+        try {
+            return leader.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw stillProcessing();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillProcessing();
+        }
+    }
+    
+    private static String fingerprint(byte[] requestBody) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(requestBody));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.tiagoreiz.projeto.Infra.Idempotency;
+
+import java.util.Optional;
+
+/**
+ * Armazenamento das respostas associadas a Idempotency-Keys.
+ * 
+ * Uma chave é primeiro reservada (reserve), de forma atômica entre todos os usuários do
+ * armazenamento, e depois concluída com a resposta (complete) ou liberada (release).
+ * As três operações são condicionadas ao token da reserva, de modo que uma requisição
+ * cuja reserva expirou e foi assumida por outra não grava nem remove a chave alheia.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public interface IdempotencyStore {
+    
+    /**
+     * Busca a resposta armazenada para a chave, ignorando respostas e reservas expiradas
+     * 
+     * @param key Chave (já qualificada pelo usuário)
+     * @return Optional contendo a resposta, ou a reserva pendente, se encontrada
+     */
+    Optional<IdempotentResponse> find(String key);
+    
+    /**
+     * Reserva a chave se ela não existe ou expirou
+     * 
+     * @param key Chave (já qualificada pelo usuário)
+     * @param token Identificador da reserva
+     * @param reservation Reserva pendente (IdempotentResponse.pending)
+     * @return true se a chave foi reservada por esta chamada
+     */
+    boolean reserve(String key, String token, IdempotentResponse reservation);
+    
+    /**
+     * Grava a resposta na chave reservada. Participa da transação corrente, se houver,
+     * para que a resposta só seja gravada junto com o efeito da operação.
+     * 
+     * @param key Chave (já qualificada pelo usuário)
+     * @param token Identificador da reserva
+     * @param response Resposta a ser armazenada
+     * @return false se a reserva não pertence mais a este token
+     */
+    boolean complete(String key, String token, IdempotentResponse response);
+    
+    /**
+     * Remove a reserva para que uma nova requisição com a chave seja executada
+     * 
+     * @param key Chave (já qualificada pelo usuário)
+     * @param token Identificador da reserva
+     */
+    void release(String key, String token);
+}
@@ -0,0 +1,51 @@
+package com.tiagoreiz.projeto.Infra.Idempotency;
+
+import java.time.Instant;
+
+/**
+ * Resposta armazenada para uma Idempotency-Key.
+ * 
+ * Enquanto a requisição original está em processamento a chave fica reservada com
+ * status PENDING_STATUS e sem corpo; expiresAt é então o fim da reserva.
+ * 
+ * @param fingerprint Hash do corpo da requisição original
+ * @param status Status HTTP da resposta original (PENDING_STATUS enquanto reservada)
+ * @param etag ETag da resposta original (pode ser null)
+ * @param body Corpo da resposta serializado em JSON
+ * @param expiresAt Momento a partir do qual a chave pode ser reutilizada
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public record IdempotentResponse(String fingerprint, int status, String etag, String body, Instant expiresAt) {
+    
+    /**
+     * Status de uma chave reservada cuja resposta ainda não foi gravada
+     */
+    public static final int PENDING_STATUS = 0;
+    
+    /**
+     * Cria a reserva de uma chave
+     * 
+     * @param fingerprint Hash do corpo da requisição
+     * @param leaseExpiresAt Fim da reserva; depois dele outra requisição pode assumir a chave
+     * @return Resposta pendente
+     */
+    public static IdempotentResponse pending(String fingerprint, Instant leaseExpiresAt) {
+        return new IdempotentResponse(fingerprint, PENDING_STATUS, null, "", leaseExpiresAt);
+    }
+    
+    /**
+     * Verifica se a chave está reservada por uma requisição ainda em processamento
+     */
+    public boolean isPending() {
+        return status == PENDING_STATUS;
+    }
+    
+    /**
+     * Verifica se a resposta já expirou
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,108 @@
+package com.tiagoreiz.projeto.Infra.Idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Armazenamento em memória das respostas idempotentes, limitado por número de entradas (LRU).
+ * Adequado para um único nó; em múltiplos nós use app.idempotency.store=jdbc.
+ * 
+ * Dentro de uma transação, a resposta só substitui a reserva após o commit: se o commit
+ * falhar, a reserva continua com o token e o release do IdempotencyService a remove.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    
+    private final Map<String, Entry> entries;
+    private final Clock clock;
+    
+    public InMemoryIdempotencyStore(Clock clock,
+                                    @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+    
+    @Override
+    public synchronized Optional<IdempotentResponse> find(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.response().isExpired(clock.instant())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.response());
+    }
+    
+    @Override
+    public synchronized boolean reserve(String key, String token, IdempotentResponse reservation) {
+        Entry existing = entries.get(key);
+        if (existing != null && !existing.response().isExpired(clock.instant())) {
+            return false;
+        }
+        entries.put(key, new Entry(reservation, token));
+        return true;
+    }
+    
+    @Override
+    public synchronized boolean complete(String key, String token, IdempotentResponse response) {
+        if (!isReservedBy(key, token)) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.put(key, new Entry(response, null));
+            return true;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                store(key, token, response);
+            }
+        });
+        return true;
+    }
+    
+    private synchronized void store(String key, String token, IdempotentResponse response) {
+        // A reserva pode ter expirado e sido assumida por outra requisição durante o commit
+        if (isReservedBy(key, token)) {
+            entries.put(key, new Entry(response, null));
+        }
+    }
+    
+    private boolean isReservedBy(String key, String token) {
+        Entry existing = entries.get(key);
+        return existing != null && token.equals(existing.token());
+    }
+    
+    @Override
+    public synchronized void release(String key, String token) {
+        if (isReservedBy(key, token)) {
+            entries.remove(key);
+        }
+    }
+    
+    /**
+     * Resposta ou reserva, com o token da reserva ainda não concluída
+     */
+    private record Entry(IdempotentResponse response, String token) {
+    }
+}
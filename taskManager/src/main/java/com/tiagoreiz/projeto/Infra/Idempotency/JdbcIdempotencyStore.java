@@ -0,0 +1,73 @@
+package com.tiagoreiz.projeto.Infra.Idempotency;
+
+import com.tiagoreiz.projeto.Infra.Persistence.SpringData.IdempotencyKeyJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Armazenamento das respostas idempotentes no banco, compartilhado entre os nós.
+ * A reserva é um INSERT ... ON CONFLICT DO UPDATE ... WHERE expirada, atômico entre os nós;
+ * complete participa da transação da operação protegida. Entradas expiradas são removidas
+ * periodicamente.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    
+    private final IdempotencyKeyJpaRepository idempotencyKeyJpaRepository;
+    private final Clock clock;
+    
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        Instant now = clock.instant();
+        return idempotencyKeyJpaRepository.findById(key)
+                .map(entry -> new IdempotentResponse(
+                        entry.getFingerprint(), entry.getStatus(), entry.getEtag(), entry.getBody(), entry.getExpiresAt()))
+                .filter(response -> !response.isExpired(now));
+    }
+    
+    @Override
+    @Transactional
+    public boolean reserve(String key, String token, IdempotentResponse reservation) {
+        return idempotencyKeyJpaRepository.reserve(key, token, reservation.fingerprint(), reservation.status(),
+                reservation.body(), reservation.expiresAt()) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public boolean complete(String key, String token, IdempotentResponse response) {
+        return idempotencyKeyJpaRepository.complete(key, token, response.status(),
+                response.etag(), response.body(), response.expiresAt()) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public void release(String key, String token) {
+        idempotencyKeyJpaRepository.release(key, token);
+    }
+    
+    /**
+     * Remove periodicamente as respostas expiradas
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:600000}")
+    @Transactional
+    public void deleteExpired() {
+        int removed = idempotencyKeyJpaRepository.deleteExpired(clock.instant());
+        if (removed > 0) {
+            log.debug("Removed {} expired idempotency keys", removed);
+        }
+    }
+}
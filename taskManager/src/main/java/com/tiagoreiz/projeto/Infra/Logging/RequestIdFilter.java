@@ -0,0 +1,81 @@
+package com.tiagoreiz.projeto.Infra.Logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Associa um ID a cada requisição e o publica no MDC (campo requestId do log JSON)
+ * e no cabeçalho X-Request-ID da resposta. Um X-Request-ID recebido do proxy é reaproveitado
+ * quando tem formato seguro; caso contrário é gerado um ID de 16 dígitos hexadecimais,
+ * sem o custo do SecureRandom usado por UUID.randomUUID().
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-ID";
+    public static final String MDC_KEY = "requestId";
+
+    private static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
+    private static final int MAX_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Dispatches assíncronos (SSE) reaproveitam o ID da requisição original
+        String requestId = (String) request.getAttribute(REQUEST_ID_ATTRIBUTE);
+        if (requestId == null) {
+            requestId = resolve(request.getHeader(REQUEST_ID_HEADER));
+            request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+            response.setHeader(REQUEST_ID_HEADER, requestId);
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private static String resolve(String incoming) {
+        if (incoming != null && isSafe(incoming)) {
+            return incoming;
+        }
+        // Bit mais alto ligado garante sempre 16 dígitos
+        return Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+    }
+
+    private static boolean isSafe(String value) {
+        if (value.isEmpty() || value.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
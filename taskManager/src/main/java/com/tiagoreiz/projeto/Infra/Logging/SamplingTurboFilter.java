@@ -0,0 +1,69 @@
+package com.tiagoreiz.projeto.Infra.Logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Amostra as linhas INFO/DEBUG dos loggers configurados, mantendo em média uma a cada N.
+ * Roda antes da formatação da mensagem e da criação do evento, então as linhas descartadas
+ * não alocam nada. WARN e ERROR nunca são amostrados.
+ *
+ * <pre>
+ * &lt;turboFilter class="com.tiagoreiz.projeto.Infra.Logging.SamplingTurboFilter"&gt;
+ *     &lt;loggers&gt;com.tiagoreiz.projeto.Adapters.Controllers.TaskController&lt;/loggers&gt;
+ *     &lt;sampleEvery&gt;10&lt;/sampleEvery&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggers = "";
+    private int sampleEvery = 1;
+    private Set<String> sampledLoggers = Set.of();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format nulo corresponde a isInfoEnabled()/isDebugEnabled(), que não devem ser amostrados
+        if (sampleEvery <= 1 || format == null || level == null || level.levelInt > Level.INFO_INT) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!sampledLoggers.contains(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleEvery) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        sampledLoggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        super.start();
+    }
+
+    /**
+     * @param loggers Nomes dos loggers amostrados, separados por vírgula
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = loggers == null ? "" : loggers;
+    }
+
+    /**
+     * @param sampleEvery Mantém em média uma linha a cada N; 1 desliga a amostragem
+     */
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = sampleEvery;
+    }
+}
@@ -0,0 +1,228 @@
+package com.tiagoreiz.projeto.Infra.Metrics;
+
+import com.tiagoreiz.projeto.Core.Common.Result;
+import com.tiagoreiz.projeto.Core.Exceptions.BusinessException;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import com.tiagoreiz.projeto.Core.Validation.Violation;
+import com.tiagoreiz.projeto.Infra.Profiling.OperationEvent;
+import com.tiagoreiz.projeto.Infra.Profiling.ProfilingContext;
+import com.tiagoreiz.projeto.Infra.Profiling.RepositoryEvent;
+import com.tiagoreiz.projeto.Infra.Profiling.UseCaseEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas de todos os casos de uso e repositórios do domínio.
+ *
+ * <ul>
+ *   <li>taskmaster.usecase / taskmaster.repository: timers por classe, método e resultado
+ *       (success, rejected, business_error, error)</li>
+ *   <li>taskmaster.usecase.result.size: quantidade de itens devolvidos por chamada</li>
+ *   <li>taskmaster.validation.rejects: violações de validação por caso de uso e campo</li>
+ * </ul>
+ *
+ * Os buckets de SLO e histogramas de percentis são configurados em
+ * management.metrics.distribution.* no application.properties.
+ * Executa antes do @Transactional, de modo que o tempo medido inclui o commit.
+ * Cada chamada também gera um evento JFR (taskmaster.UseCase / taskmaster.Repository)
+ * com o usuário da requisição e o tamanho do resultado.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class OperationMetricsAspect {
+
+    static final String USE_CASE_TIMER = "taskmaster.usecase";
+    static final String REPOSITORY_TIMER = "taskmaster.repository";
+    static final String RESULT_SIZE = "taskmaster.usecase.result.size";
+    static final String VALIDATION_REJECTS = "taskmaster.validation.rejects";
+
+    private static final String REPOSITORIES_PACKAGE = "com.tiagoreiz.projeto.Core.Repositories";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    public OperationMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.tiagoreiz.projeto.Application.UseCases..*.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperationMeters operation = meters.computeIfAbsent(method(joinPoint),
+                method -> new OperationMeters(USE_CASE_TIMER, "usecase", joinPoint.getTarget().getClass().getSimpleName(), method));
+        return proceed(joinPoint, operation, true);
+    }
+
+    @Around("execution(public * com.tiagoreiz.projeto.Core.Repositories.*.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperationMeters operation = meters.computeIfAbsent(method(joinPoint),
+                method -> new OperationMeters(REPOSITORY_TIMER, "repository", repositoryName(joinPoint.getTarget().getClass()), method));
+        return proceed(joinPoint, operation, false);
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, OperationMeters operation, boolean useCase) throws Throwable {
+        OperationEvent event = useCase ? new UseCaseEvent() : new RepositoryEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Object returned;
+        try {
+            returned = joinPoint.proceed();
+        } catch (Throwable error) {
+            operation.record(System.nanoTime() - start, error);
+            if (useCase) {
+                countRejects(operation, error);
+            }
+            commit(event, operation, error, null);
+            throw error;
+        }
+
+        Object value = returned;
+        Object error = null;
+        if (returned instanceof Result<?, ?> result) {
+            value = result.isSuccess() ? result.getValue().orElse(null) : null;
+            error = result.isFailure() ? result.getError().orElse(null) : null;
+        }
+        operation.record(System.nanoTime() - start, error);
+
+        if (useCase) {
+            countRejects(operation, error);
+            if (value instanceof Collection<?> collection) {
+                operation.resultSize().record(collection.size());
+            }
+        }
+        commit(event, operation, error, value);
+        return returned;
+    }
+
+    private static void commit(OperationEvent event, OperationMeters operation, Object error, Object value) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        int resultSize = value instanceof Collection<?> collection ? collection.size() : -1;
+        event.set(operation.typeName, operation.methodName, outcome(error), ProfilingContext.currentUserId(), resultSize);
+        event.commit();
+    }
+
+    private void countRejects(OperationMeters operation, Object error) {
+        if (!(error instanceof TaskValidationException validation)) {
+            return;
+        }
+        if (validation.getViolations().isEmpty()) {
+            operation.rejects("none").increment();
+            return;
+        }
+        for (Violation violation : validation.getViolations()) {
+            operation.rejects(violation.field() == null ? "none" : violation.field()).increment();
+        }
+    }
+
+    private static Method method(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+
+    /**
+     * Nome da interface de repositório do domínio implementada pelo bean
+     */
+    private static String repositoryName(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> contract : current.getInterfaces()) {
+                if (contract.getPackageName().equals(REPOSITORIES_PACKAGE)) {
+                    return contract.getSimpleName();
+                }
+            }
+        }
+        return type.getSimpleName();
+    }
+
+    /**
+     * Classifica o resultado de uma operação para a tag outcome
+     */
+    static String outcome(Object error) {
+        if (error == null) {
+            return "success";
+        }
+        if (error instanceof TaskValidationException || error instanceof IllegalArgumentException) {
+            return "rejected";
+        }
+        if (error instanceof BusinessException) {
+            return "business_error";
+        }
+        return "error";
+    }
+
+    /**
+     * Medidores de um método, criados sob demanda e reutilizados entre chamadas
+     */
+    private final class OperationMeters {
+        private final String timerName;
+        private final String typeName;
+        private final String methodName;
+        private final Tags tags;
+        private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+        private final Map<String, Counter> rejects = new ConcurrentHashMap<>();
+        private final Timer success;
+        private DistributionSummary resultSize;
+
+        OperationMeters(String timerName, String typeTag, String typeName, Method method) {
+            this.timerName = timerName;
+            this.typeName = typeName;
+            this.methodName = method.getName();
+            this.tags = Tags.of(typeTag, typeName, "method", method.getName());
+            this.success = timer("success", "none");
+        }
+
+        void record(long elapsedNanos, Object error) {
+            Timer timer = error == null
+                    ? success
+                    : timers.computeIfAbsent(error.getClass(), type -> timer(outcome(error), type.getSimpleName()));
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        DistributionSummary resultSize() {
+            DistributionSummary summary = resultSize;
+            if (summary == null) {
+                summary = DistributionSummary.builder(RESULT_SIZE)
+                        .description("Number of items returned by a use case call")
+                        .tags(tags)
+                        .register(meterRegistry);
+                resultSize = summary;
+            }
+            return summary;
+        }
+
+        Counter rejects(String field) {
+            return rejects.computeIfAbsent(field, name -> Counter.builder(VALIDATION_REJECTS)
+                    .description("Validation violations rejected by a use case")
+                    .tags(tags)
+                    .tag("field", name)
+                    .register(meterRegistry));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(timerName)
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
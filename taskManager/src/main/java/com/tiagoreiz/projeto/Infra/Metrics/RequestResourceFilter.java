@@ -0,0 +1,107 @@
+package com.tiagoreiz.projeto.Infra.Metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mede os bytes alocados e o tempo de CPU da thread de cada requisição amostrada
+ * usando com.sun.management.ThreadMXBean, e agrega por rota em RouteResourceStats.
+ * Apenas a fração configurada em app.resource-accounting.sample-rate é medida;
+ * as demais requisições custam uma única chamada ao gerador aleatório.
+ * Em requisições assíncronas (SSE) só a parte executada na thread original é contabilizada,
+ * por isso elas são ignoradas.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "app.resource-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestResourceFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final RouteResourceStats routeResourceStats;
+    private final double sampleRate;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final boolean allocationSupported;
+    private final boolean cpuSupported;
+
+    public RequestResourceFilter(RouteResourceStats routeResourceStats,
+                                 @Value("${app.resource-accounting.sample-rate:0.05}") double sampleRate) {
+        this.routeResourceStats = routeResourceStats;
+        this.sampleRate = sampleRate;
+        this.threadMXBean = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+        this.allocationSupported = threadMXBean != null && enableAllocation(threadMXBean);
+        this.cpuSupported = threadMXBean != null && enableCpuTime(threadMXBean);
+        if (!allocationSupported && !cpuSupported) {
+            log.warn("Thread allocation and CPU time measurement are not supported by this JVM, resource accounting is disabled");
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!(allocationSupported || cpuSupported) || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long allocatedBefore = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() : 0L;
+        long cpuBefore = cpuSupported ? threadMXBean.getCurrentThreadCpuTime() : 0L;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                long allocated = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore : -1L;
+                long cpu = cpuSupported ? threadMXBean.getCurrentThreadCpuTime() - cpuBefore : -1L;
+                routeResourceStats.record(request.getMethod(), uriTemplate(request), allocated, cpu);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    private static boolean enableAllocation(com.sun.management.ThreadMXBean bean) {
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+
+    private static boolean enableCpuTime(com.sun.management.ThreadMXBean bean) {
+        if (!bean.isCurrentThreadCpuTimeSupported()) {
+            return false;
+        }
+        if (!bean.isThreadCpuTimeEnabled()) {
+            bean.setThreadCpuTimeEnabled(true);
+        }
+        return true;
+    }
+}
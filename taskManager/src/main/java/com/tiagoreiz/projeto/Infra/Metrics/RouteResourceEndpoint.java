@@ -0,0 +1,60 @@
+package com.tiagoreiz.projeto.Infra.Metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Endpoint do actuator (/actuator/allocations) com as rotas que mais alocam memória
+ * ou consomem CPU entre as requisições amostradas.
+ * Use ?sort=cpu para ordenar por tempo de CPU e ?limit=N para o tamanho da lista.
+ * Os totais estimados (das rotas listadas) dividem os valores amostrados pela taxa de amostragem.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "allocations")
+public class RouteResourceEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final RouteResourceStats routeResourceStats;
+    private final double sampleRate;
+
+    public RouteResourceEndpoint(RouteResourceStats routeResourceStats,
+                                 @Value("${app.resource-accounting.sample-rate:0.05}") double sampleRate) {
+        this.routeResourceStats = routeResourceStats;
+        this.sampleRate = sampleRate;
+    }
+
+    @ReadOperation
+    public TopRoutesReport top(@Nullable Integer limit, @Nullable String sort) {
+        boolean byCpu = "cpu".equalsIgnoreCase(sort);
+        List<RouteResourceStats.RouteReport> routes = routeResourceStats.top(
+                limit != null && limit > 0 ? limit : DEFAULT_LIMIT, byCpu);
+        long allocatedBytes = routes.stream().mapToLong(RouteResourceStats.RouteReport::totalAllocatedBytes).sum();
+        long cpuNanos = routes.stream().mapToLong(RouteResourceStats.RouteReport::totalCpuNanos).sum();
+        return new TopRoutesReport(byCpu ? "cpu" : "allocated", sampleRate,
+                estimate(allocatedBytes), estimate(cpuNanos), routes);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        routeResourceStats.reset();
+    }
+
+    private long estimate(long sampled) {
+        return sampleRate > 0 ? Math.round(sampled / Math.min(sampleRate, 1.0)) : 0L;
+    }
+
+    public record TopRoutesReport(String sortedBy, double sampleRate,
+                                  long estimatedAllocatedBytes, long estimatedCpuNanos,
+                                  List<RouteResourceStats.RouteReport> routes) {
+    }
+}
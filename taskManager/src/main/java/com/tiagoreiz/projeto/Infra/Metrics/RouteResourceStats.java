@@ -0,0 +1,133 @@
+package com.tiagoreiz.projeto.Infra.Metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula bytes alocados e tempo de CPU das requisições amostradas, por método e rota.
+ * Alimenta as distribution summaries do Micrometer e a visão top-N do endpoint /actuator/allocations.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+public class RouteResourceStats {
+
+    static final String ALLOCATED_BYTES = "taskmaster.http.allocated.bytes";
+    static final String CPU_TIME = "taskmaster.http.cpu.time";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+    public RouteResourceStats(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registra uma requisição amostrada
+     *
+     * @param method Método HTTP
+     * @param uri Padrão da rota
+     * @param allocatedBytes Bytes alocados pela thread da requisição, ou -1 se indisponível
+     * @param cpuNanos Tempo de CPU da thread da requisição, ou -1 se indisponível
+     */
+    public void record(String method, String uri, long allocatedBytes, long cpuNanos) {
+        RouteStats stats = routes.computeIfAbsent(method + " " + uri, key -> new RouteStats(method, uri));
+        stats.samples.increment();
+        if (allocatedBytes >= 0) {
+            stats.allocatedBytes.add(allocatedBytes);
+            stats.maxAllocatedBytes.accumulate(allocatedBytes);
+            stats.allocatedSummary.record(allocatedBytes);
+        }
+        if (cpuNanos >= 0) {
+            stats.cpuNanos.add(cpuNanos);
+            stats.maxCpuNanos.accumulate(cpuNanos);
+            stats.cpuSummary.record(cpuNanos);
+        }
+    }
+
+    /**
+     * Rotas ordenadas pelo custo total amostrado
+     *
+     * @param limit Quantidade máxima de rotas
+     * @param byCpu Ordena por tempo de CPU em vez de bytes alocados
+     * @return Relatório das rotas mais custosas
+     */
+    public List<RouteReport> top(int limit, boolean byCpu) {
+        Comparator<RouteReport> order = byCpu
+                ? Comparator.comparingLong(RouteReport::totalCpuNanos)
+                : Comparator.comparingLong(RouteReport::totalAllocatedBytes);
+        return routes.values().stream()
+                .map(RouteStats::report)
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Zera os acumulados da visão top-N; as métricas do Micrometer não são afetadas
+     */
+    public void reset() {
+        routes.values().forEach(RouteStats::reset);
+    }
+
+    public record RouteReport(String method, String uri, long samples,
+                              long totalAllocatedBytes, long avgAllocatedBytes, long maxAllocatedBytes,
+                              long totalCpuNanos, long avgCpuNanos, long maxCpuNanos) {
+    }
+
+    private final class RouteStats {
+        private final String method;
+        private final String uri;
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAccumulator maxAllocatedBytes = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxCpuNanos = new LongAccumulator(Math::max, 0);
+        private final DistributionSummary allocatedSummary;
+        private final DistributionSummary cpuSummary;
+
+        RouteStats(String method, String uri) {
+            this.method = method;
+            this.uri = uri;
+            this.allocatedSummary = DistributionSummary.builder(ALLOCATED_BYTES)
+                    .description("Bytes allocated by the request thread, sampled")
+                    .baseUnit("bytes")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry);
+            this.cpuSummary = DistributionSummary.builder(CPU_TIME)
+                    .description("CPU time consumed by the request thread, sampled")
+                    .baseUnit("seconds")
+                    .scale(1e-9)
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry);
+        }
+
+        RouteReport report() {
+            long count = samples.sum();
+            long allocated = allocatedBytes.sum();
+            long cpu = cpuNanos.sum();
+            return new RouteReport(method, uri, count,
+                    allocated, count == 0 ? 0 : allocated / count, maxAllocatedBytes.get(),
+                    cpu, count == 0 ? 0 : cpu / count, maxCpuNanos.get());
+        }
+
+        void reset() {
+            samples.reset();
+            allocatedBytes.reset();
+            cpuNanos.reset();
+            maxAllocatedBytes.reset();
+            maxCpuNanos.reset();
+        }
+    }
+}
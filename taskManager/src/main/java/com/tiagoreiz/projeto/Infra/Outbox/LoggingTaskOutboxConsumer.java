@@ -0,0 +1,21 @@
+package com.tiagoreiz.projeto.Infra.Outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumidor padrão do outbox que apenas registra os eventos entregues.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class LoggingTaskOutboxConsumer implements TaskOutboxConsumer {
+    
+    @Override
+    public void consume(TaskOutboxMessage message) {
+        log.debug("Outbox event {} delivered: {} task {} for user {}",
+                message.id(), message.type(), message.taskId(), message.userId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.tiagoreiz.projeto.Infra.Outbox;
+
+/**
+ * Consumidor de eventos do outbox de tarefas (analytics, notificações etc.).
+ * Todo bean que implementa esta interface recebe os eventos na ordem de cada tarefa.
+ * Se algum consumidor falhar, o evento é reenviado a todos os consumidores.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public interface TaskOutboxConsumer {
+    
+    /**
+     * Processa um evento do outbox
+     * 
+     * @param message Evento a ser processado
+     * @throws Exception Se o processamento falhar (o evento será reenviado)
+     */
+    void consume(TaskOutboxMessage message) throws Exception;
+}
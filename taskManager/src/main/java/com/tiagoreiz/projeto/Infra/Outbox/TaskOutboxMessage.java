@@ -0,0 +1,24 @@
+package com.tiagoreiz.projeto.Infra.Outbox;
+
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento lido do outbox e entregue aos consumidores.
+ * A entrega é at-least-once: consumidores devem ser idempotentes usando o id.
+ * 
+ * @param id ID do registro no outbox (crescente por tarefa)
+ * @param taskId ID da tarefa
+ * @param userId ID do usuário proprietário
+ * @param type Tipo da alteração
+ * @param payload Evento serializado em JSON
+ * @param createdAt Data e hora da alteração
+ * @param attempts Tentativas de entrega anteriores
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public record TaskOutboxMessage(Long id, Long taskId, Long userId, TaskChangeType type,
+                                String payload, LocalDateTime createdAt, int attempts) {
+}
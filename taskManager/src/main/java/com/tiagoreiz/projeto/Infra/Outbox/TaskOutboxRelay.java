@@ -0,0 +1,299 @@
+package com.tiagoreiz.projeto.Infra.Outbox;
+
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay do outbox de tarefas: entrega em lotes os eventos pendentes aos consumidores.
+ * 
+ * Cada lote é travado com FOR UPDATE SKIP LOCKED, permitindo vários nós drenando o
+ * outbox em paralelo sem disputa. Apenas o evento mais antigo de cada tarefa é elegível,
+ * garantindo a ordem por tarefa. Eventos só são removidos depois que todos os consumidores
+ * confirmam (at-least-once); falhas são reenviadas com backoff e, após o limite de
+ * tentativas, marcadas como dead letter.
+ * 
+ * Um dead letter continua bloqueando os eventos seguintes da mesma tarefa, para que nenhum
+ * consumidor receba UPDATED ou DELETED sem o evento anterior. Ele é resolvido removendo a
+ * linha (descartar) ou reabrindo-a para nova entrega:
+ * UPDATE task_outbox SET dead_lettered_at = NULL, attempts = 0 WHERE id = ?
+ * 
+ * Os eventos CREATED da importação em massa são gravados sem payload; o relay o monta a partir
+ * da linha atual da tarefa com o mesmo serializador do TaskOutboxWriter. Se a tarefa já foi
+ * excluída, o CREATED é descartado sem entrega e os consumidores recebem apenas o DELETED.
+ * Métricas para alerta: taskmaster.outbox.dead_letters e taskmaster.outbox.blocked
+ * (eventos retidos atrás de um dead letter).
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class TaskOutboxRelay {
+    
+    static final String SELECT_BATCH =
+            "SELECT o.id, o.task_id, o.user_id, o.event_type, o.payload, o.created_at, o.attempts, " +
+            "t.id AS task_row_id, t.title, t.description, t.status, t.priority, t.created_at AS task_created_at, " +
+            "t.updated_at, t.due_date, t.completed_at, t.version " +
+            "FROM task_outbox o " +
+            "LEFT JOIN tasks t ON o.payload = '' AND t.id = o.task_id " +
+            "WHERE o.dead_lettered_at IS NULL AND o.available_at <= ? " +
+            "AND NOT EXISTS (SELECT 1 FROM task_outbox p WHERE p.task_id = o.task_id AND p.id < o.id) " +
+            "ORDER BY o.id " +
+            "LIMIT ? " +
+            "FOR UPDATE OF o SKIP LOCKED";
+    
+    static final String DELETE_DELIVERED = "DELETE FROM task_outbox WHERE id = ?";
+    
+    static final String RESCHEDULE_FAILED =
+            "UPDATE task_outbox SET attempts = ?, last_error = ?, available_at = ?, dead_lettered_at = ? WHERE id = ?";
+    
+    private static final String SELECT_BACKLOG =
+            "SELECT count(*) FILTER (WHERE dead_lettered_at IS NULL) AS pending, " +
+            "min(created_at) FILTER (WHERE dead_lettered_at IS NULL) AS oldest, " +
+            "count(*) FILTER (WHERE dead_lettered_at IS NOT NULL) AS dead_letters, " +
+            "count(*) FILTER (WHERE dead_lettered_at IS NULL AND EXISTS (SELECT 1 FROM task_outbox d " +
+            "WHERE d.task_id = o.task_id AND d.id < o.id AND d.dead_lettered_at IS NOT NULL)) AS blocked " +
+            "FROM task_outbox o";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<TaskOutboxConsumer> consumers;
+    private final TaskOutboxWriter taskOutboxWriter;
+    private final RowMapper<TaskOutboxMessage> messageMapper = this::mapMessage;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final AtomicLong blockedEvents = new AtomicLong();
+    private final Timer deliveryLag;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter deadLettered;
+    
+    public TaskOutboxRelay(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           List<TaskOutboxConsumer> consumers,
+                           TaskOutboxWriter taskOutboxWriter,
+                           MeterRegistry meterRegistry,
+                           Clock clock,
+                           @Value("${app.outbox.batch-size:100}") int batchSize,
+                           @Value("${app.outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+                           @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                           @Value("${app.outbox.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.consumers = consumers;
+        this.taskOutboxWriter = taskOutboxWriter;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        
+        Gauge.builder("taskmaster.outbox.pending", pendingEvents, AtomicLong::get)
+                .description("Outbox events waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("taskmaster.outbox.lag", oldestPendingAgeMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest undelivered outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("taskmaster.outbox.dead_letters", deadLetters, AtomicLong::get)
+                .description("Outbox events that exhausted their delivery attempts")
+                .register(meterRegistry);
+        Gauge.builder("taskmaster.outbox.blocked", blockedEvents, AtomicLong::get)
+                .description("Outbox events held back by an unresolved dead letter of the same task")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("taskmaster.outbox.delivery.lag")
+                .description("Time between the task change and its delivery to the consumers")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.delivered = Counter.builder("taskmaster.outbox.delivered").register(meterRegistry);
+        this.failed = Counter.builder("taskmaster.outbox.failed").register(meterRegistry);
+        this.deadLettered = Counter.builder("taskmaster.outbox.dead_lettered").register(meterRegistry);
+    }
+    
+    /**
+     * Drena o outbox em lotes até esvaziá-lo ou atingir o limite de lotes por execução
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer processed = transactionTemplate.execute(status -> relayBatch());
+                if (processed == null || processed < batchSize) {
+                    break;
+                }
+            }
+            refreshBacklog();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay run failed", e);
+        }
+    }
+    
+    /**
+     * Processa um lote dentro de uma transação que mantém as linhas travadas
+     * 
+     * @return Número de eventos lidos
+     */
+    private int relayBatch() {
+        LocalDateTime now = TimeProvider.now(clock);
+        List<TaskOutboxMessage> batch = jdbcTemplate.query(SELECT_BATCH, messageMapper, Timestamp.valueOf(now), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        List<Object[]> deliveredIds = new ArrayList<>();
+        List<Object[]> failures = new ArrayList<>();
+        int skipped = 0;
+        
+        for (TaskOutboxMessage message : batch) {
+            if (message.payload() == null) {
+                // CREATED importado de uma tarefa já excluída: o DELETED seguinte basta aos consumidores
+                log.debug("Outbox event {} skipped: imported task {} no longer exists", message.id(), message.taskId());
+                deliveredIds.add(new Object[] {message.id()});
+                skipped++;
+                continue;
+            }
+            try {
+                for (TaskOutboxConsumer consumer : consumers) {
+                    consumer.consume(message);
+                }
+                deliveredIds.add(new Object[] {message.id()});
+                deliveryLag.record(Duration.between(message.createdAt(), TimeProvider.now(clock)));
+            } catch (Exception e) {
+                failures.add(toFailure(message, e, now));
+            }
+        }
+        
+        if (!deliveredIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_DELIVERED, deliveredIds);
+            delivered.increment(deliveredIds.size() - skipped);
+        }
+        if (!failures.isEmpty()) {
+            jdbcTemplate.batchUpdate(RESCHEDULE_FAILED, failures);
+            failed.increment(failures.size());
+        }
+        return batch.size();
+    }
+    
+    /**
+     * Converte a linha do lote em mensagem, montando o payload dos eventos importados
+     * 
+     * @return Mensagem; payload null se o evento é de uma tarefa importada que já foi excluída
+     */
+    private TaskOutboxMessage mapMessage(ResultSet rs, int rowNum) throws SQLException {
+        TaskChangeType type = TaskChangeType.valueOf(rs.getString("event_type"));
+        LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+        String payload = rs.getString("payload");
+        if (payload.isEmpty()) {
+            Task task = mapTask(rs);
+            payload = task == null ? null : taskOutboxWriter.serialize(TaskChangeEvent.of(type, task, createdAt));
+        }
+        
+        return new TaskOutboxMessage(
+                rs.getLong("id"),
+                rs.getLong("task_id"),
+                rs.getLong("user_id"),
+                type,
+                payload,
+                createdAt,
+                rs.getInt("attempts")
+        );
+    }
+    
+    /**
+     * Lê a tarefa trazida pelo LEFT JOIN; null se ela não existe mais
+     */
+    private static Task mapTask(ResultSet rs) throws SQLException {
+        long id = rs.getLong("task_row_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+        return new Task(
+                id,
+                rs.getString("title"),
+                rs.getString("description"),
+                TaskStatus.valueOf(rs.getString("status")),
+                TaskPriority.valueOf(rs.getString("priority")),
+                toLocalDateTime(rs.getTimestamp("task_created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                toLocalDateTime(rs.getTimestamp("due_date")),
+                toLocalDateTime(rs.getTimestamp("completed_at")),
+                rs.getLong("user_id"),
+                rs.getLong("version")
+        );
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+    
+    /**
+     * Calcula a nova tentativa com backoff exponencial ou marca o evento como dead letter
+     */
+    private Object[] toFailure(TaskOutboxMessage message, Exception error, LocalDateTime now) {
+        int attempts = message.attempts() + 1;
+        String lastError = error.getClass().getSimpleName() + ": " + error.getMessage();
+        if (lastError.length() > 1000) {
+            lastError = lastError.substring(0, 1000);
+        }
+        
+        Timestamp deadLetteredAt = null;
+        if (attempts >= maxAttempts) {
+            log.error("Outbox event {} for task {} dead-lettered after {} attempts; later events for this task "
+                    + "are held until it is resolved: {}", message.id(), message.taskId(), attempts, lastError);
+            deadLettered.increment();
+            deadLetteredAt = Timestamp.valueOf(now);
+        } else {
+            log.warn("Outbox event {} for task {} failed (attempt {}): {}",
+                    message.id(), message.taskId(), attempts, lastError);
+        }
+        
+        long backoff = retryBackoffMillis << Math.min(attempts - 1, 10);
+        return new Object[] {attempts, lastError, Timestamp.valueOf(now.plusNanos(backoff * 1_000_000)), deadLetteredAt, message.id()};
+    }
+    
+    /**
+     * Atualiza as métricas de backlog do outbox
+     */
+    private void refreshBacklog() {
+        jdbcTemplate.query(SELECT_BACKLOG, rs -> {
+            pendingEvents.set(rs.getLong("pending"));
+            deadLetters.set(rs.getLong("dead_letters"));
+            blockedEvents.set(rs.getLong("blocked"));
+            Timestamp oldest = rs.getTimestamp("oldest");
+            oldestPendingAgeMillis.set(oldest == null ? 0
+                    : Math.max(0, Duration.between(oldest.toLocalDateTime(), TimeProvider.now(clock)).toMillis()));
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.tiagoreiz.projeto.Infra.Outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import com.tiagoreiz.projeto.Infra.Persistence.Entities.TaskOutboxPersistence;
+import com.tiagoreiz.projeto.Infra.Persistence.SpringData.TaskOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grava os eventos de tarefas no outbox de forma síncrona, dentro da transação
+ * do caso de uso que alterou a tarefa. Se a transação for desfeita, o evento também é.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskOutboxWriter {
+    
+    private final TaskOutboxJpaRepository taskOutboxJpaRepository;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Registra o evento no outbox
+     * 
+     * @param event Evento de alteração de tarefa
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangeEvent event) {
+        // Eventos de outros nós já foram gravados no outbox pelo nó de origem, e a importação
+        // em massa grava um evento CREATED por tarefa no próprio INSERT ... SELECT
+        if (event.isRemote() || event.getType() == TaskChangeType.IMPORTED) {
+            return;
+        }
+        
+        taskOutboxJpaRepository.save(new TaskOutboxPersistence(
+                event.getTaskId(), event.getUserId(), event.getType(), serialize(event), event.getOccurredAt()));
+    }
+    
+    /**
+     * Serializa o evento no formato do payload do outbox.
+     * Também usado pelo relay para os eventos da importação em massa, gravados sem payload
+     * 
+     * @param event Evento de alteração de tarefa
+     * @return Evento em JSON
+     */
+    public String serialize(TaskChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event for task " + event.getTaskId(), e);
+        }
+    }
+}
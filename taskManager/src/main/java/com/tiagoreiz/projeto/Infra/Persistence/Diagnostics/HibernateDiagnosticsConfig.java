@@ -0,0 +1,21 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Diagnostics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra o contador de comandos SQL como StatementInspector do Hibernate.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Configuration
+public class HibernateDiagnosticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+}
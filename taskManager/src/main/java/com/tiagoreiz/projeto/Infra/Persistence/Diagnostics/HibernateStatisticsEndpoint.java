@@ -0,0 +1,119 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Endpoint do actuator (/actuator/hibernate) com as estatísticas do Hibernate por consulta,
+ * entidade e coleção. Contagens de fetch altas em entidades ou coleções indicam
+ * carregamento lazy em laço (N+1).
+ * Requer spring.jpa.properties.hibernate.generate_statistics=true.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @ReadOperation
+    public StatisticsReport statistics() {
+        Statistics statistics = hibernateStatistics();
+
+        List<QueryReport> queries = new ArrayList<>();
+        for (String query : statistics.getQueries()) {
+            QueryStatistics stats = statistics.getQueryStatistics(query);
+            queries.add(new QueryReport(
+                    query,
+                    stats.getExecutionCount(),
+                    stats.getExecutionAvgTime(),
+                    stats.getExecutionMaxTime(),
+                    stats.getExecutionMinTime(),
+                    stats.getExecutionAvgTime() * stats.getExecutionCount(),
+                    stats.getExecutionRowCount()));
+        }
+        queries.sort(Comparator.comparingLong(QueryReport::totalTimeMs).reversed());
+
+        List<EntityReport> entities = new ArrayList<>();
+        for (String entity : statistics.getEntityNames()) {
+            EntityStatistics stats = statistics.getEntityStatistics(entity);
+            entities.add(new EntityReport(entity, stats.getLoadCount(), stats.getFetchCount(),
+                    stats.getInsertCount(), stats.getUpdateCount(), stats.getDeleteCount()));
+        }
+        entities.sort(Comparator.comparingLong(EntityReport::fetchCount).reversed());
+
+        List<CollectionReport> collections = new ArrayList<>();
+        for (String role : statistics.getCollectionRoleNames()) {
+            CollectionStatistics stats = statistics.getCollectionStatistics(role);
+            collections.add(new CollectionReport(role, stats.getLoadCount(), stats.getFetchCount()));
+        }
+        collections.sort(Comparator.comparingLong(CollectionReport::fetchCount).reversed());
+
+        Summary summary = new Summary(
+                statistics.isStatisticsEnabled(),
+                statistics.getStart(),
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getCollectionLoadCount(),
+                statistics.getCollectionFetchCount(),
+                statistics.getTransactionCount(),
+                statistics.getSessionOpenCount());
+
+        return new StatisticsReport(summary, queries, entities, collections);
+    }
+
+    /**
+     * Zera as estatísticas, útil para medir um cenário isolado
+     */
+    @DeleteOperation
+    public void reset() {
+        hibernateStatistics().clear();
+    }
+
+    private Statistics hibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record StatisticsReport(Summary summary, List<QueryReport> queries,
+                                   List<EntityReport> entities, List<CollectionReport> collections) {
+    }
+
+    public record Summary(boolean enabled, Instant since, long preparedStatements, long queryExecutions,
+                          long queryExecutionMaxTimeMs, String slowestQuery, long entityLoads, long entityFetches,
+                          long collectionLoads, long collectionFetches, long transactions, long sessionsOpened) {
+    }
+
+    public record QueryReport(String query, long executionCount, long avgTimeMs, long maxTimeMs, long minTimeMs,
+                              long totalTimeMs, long rows) {
+    }
+
+    public record EntityReport(String entity, long loadCount, long fetchCount, long insertCount,
+                               long updateCount, long deleteCount) {
+    }
+
+    public record CollectionReport(String role, long loadCount, long fetchCount) {
+    }
+}
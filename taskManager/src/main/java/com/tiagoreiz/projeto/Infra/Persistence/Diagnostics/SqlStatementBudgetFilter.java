@@ -0,0 +1,131 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Conta os comandos SQL de cada requisição e sinaliza as que excedem o orçamento configurado,
+ * o sintoma típico de consultas N+1. Requisições acima do orçamento recebem o cabeçalho
+ * X-SQL-Statement-Count, geram um log de aviso e incrementam taskmaster.http.sql.budget.exceeded.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "app.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+    public static final String STATEMENT_BUDGET_HEADER = "X-SQL-Statement-Budget";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final boolean alwaysExposeHeader;
+
+    public SqlStatementBudgetFilter(SqlStatementCounter sqlStatementCounter,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.sql-budget.max-statements:10}") int maxStatements,
+                                    @Value("${app.sql-budget.always-expose-header:false}") boolean alwaysExposeHeader) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.alwaysExposeHeader = alwaysExposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementCounter.begin();
+        BudgetHeaderResponse budgetResponse = new BudgetHeaderResponse(response);
+        try {
+            filterChain.doFilter(request, budgetResponse);
+        } finally {
+            int statements = sqlStatementCounter.end();
+            if (!response.isCommitted()) {
+                budgetResponse.writeHeaders(statements);
+            }
+            if (!request.isAsyncStarted()) {
+                record(request, statements);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        String uri = uriTemplate(request);
+        DistributionSummary.builder("taskmaster.http.sql.statements")
+                .description("SQL statements executed by Hibernate per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > maxStatements) {
+            Counter.builder("taskmaster.http.sql.budget.exceeded")
+                    .description("HTTP requests that exceeded the SQL statement budget")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Request {} {} executed {} SQL statements, budget is {}",
+                    request.getMethod(), request.getRequestURI(), statements, maxStatements);
+        }
+    }
+
+    /**
+     * Usa o padrão da rota (ex.: /api/tasks/{taskId}) para manter a cardinalidade das tags limitada
+     */
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    /**
+     * Escreve os cabeçalhos imediatamente antes de a resposta ser confirmada,
+     * quando a contagem já inclui os comandos do controller
+     */
+    private final class BudgetHeaderResponse extends OnCommittedResponseWrapper {
+
+        private boolean headersWritten;
+
+        BudgetHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders(sqlStatementCounter.current());
+        }
+
+        void writeHeaders(int statements) {
+            if (headersWritten) {
+                return;
+            }
+            headersWritten = true;
+            if (alwaysExposeHeader || statements > maxStatements) {
+                setHeader(STATEMENT_COUNT_HEADER, String.valueOf(statements));
+                setHeader(STATEMENT_BUDGET_HEADER, String.valueOf(maxStatements));
+            }
+        }
+    }
+}
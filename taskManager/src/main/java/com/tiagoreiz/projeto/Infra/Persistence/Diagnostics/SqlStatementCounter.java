@@ -0,0 +1,51 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread corrente.
+ * A contagem só é feita entre begin() e end(), isto é, dentro de uma requisição HTTP.
+ * Comandos executados via JdbcTemplate não passam pelo Hibernate e não são contados.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> counter = new ThreadLocal<>();
+
+    /**
+     * Inicia a contagem na thread corrente
+     */
+    public void begin() {
+        counter.set(new int[1]);
+    }
+
+    /**
+     * Quantidade de comandos contados até agora na thread corrente
+     */
+    public int current() {
+        int[] count = counter.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Encerra a contagem e devolve o total
+     */
+    public int end() {
+        int total = current();
+        counter.remove();
+        return total;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counter.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
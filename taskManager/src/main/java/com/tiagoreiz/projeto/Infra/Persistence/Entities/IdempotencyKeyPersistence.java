@@ -0,0 +1,48 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Entidade JPA que representa uma resposta idempotente compartilhada entre os nós.
+ * Enquanto a requisição original está em processamento a linha é uma reserva
+ * (status 0) identificada por reservationToken.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyPersistence {
+    
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    private String key;
+    
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+    
+    @Column(name = "status", nullable = false)
+    private int status;
+    
+    @Column(name = "etag", length = 100)
+    private String etag;
+    
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+    
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+    
+    @Column(name = "reservation_token", length = 36)
+    private String reservationToken;
+}
@@ -0,0 +1,80 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Entities;
+
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA que representa um evento de tarefa pendente de entrega (transactional outbox).
+ * Gravada na mesma transação da alteração da tarefa e removida após a entrega.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Entity
+@Table(name = "task_outbox", indexes = {
+    @Index(name = "idx_task_outbox_task_id", columnList = "task_id, id"),
+    @Index(name = "idx_task_outbox_available_at", columnList = "available_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOutboxPersistence {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private TaskChangeType eventType;
+    
+    /**
+     * Evento em JSON; vazio nos eventos CREATED da importação em massa, montados pelo relay
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+    
+    /**
+     * Construtor para registro de um novo evento
+     * 
+     * @param taskId ID da tarefa
+     * @param userId ID do usuário proprietário
+     * @param eventType Tipo da alteração
+     * @param payload Evento serializado em JSON
+     * @param createdAt Data e hora da alteração
+     */
+    public TaskOutboxPersistence(Long taskId, Long userId, TaskChangeType eventType, String payload, LocalDateTime createdAt) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.availableAt = createdAt;
+    }
+}
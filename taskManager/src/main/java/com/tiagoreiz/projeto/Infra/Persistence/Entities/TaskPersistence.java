@@ -6,7 +6,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "tasks")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -61,6 +64,11 @@ public class TaskPersistence {
     @JoinColumn(name = "user_id", nullable = false)
     private UserPersistence user;
     
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     /**
      * Construtor para criação de uma nova tarefa
      * 
@@ -82,10 +90,12 @@ public class TaskPersistence {
     
     /**
      * Marca a tarefa como concluída
+     * 
+     * @param now Data e hora da conclusão
      */
-    public void complete() {
+    public void complete(LocalDateTime now) {
         this.status = TaskStatus.COMPLETED;
-        this.completedAt = LocalDateTime.now();
+        this.completedAt = now;
     }
     
     /**
@@ -47,6 +47,7 @@ public interface TaskPersistenceMapper {
     @Mapping(target = "updatedAt", source = "task.updatedAt")
     @Mapping(target = "dueDate", source = "task.dueDate")
     @Mapping(target = "completedAt", source = "task.completedAt")
+    @Mapping(target = "version", source = "task.version")
     TaskPersistence toEntityWithUser(Task task, UserPersistence user);
     
     /**
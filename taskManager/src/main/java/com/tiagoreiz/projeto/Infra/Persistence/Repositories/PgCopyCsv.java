@@ -0,0 +1,38 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Formatação de campos no CSV aceito pelo COPY ... WITH (FORMAT csv) do PostgreSQL.
+ * Compartilhada entre a importação em massa e o gerador de dados sintéticos.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class PgCopyCsv {
+
+    private PgCopyCsv() {
+    }
+
+    /**
+     * Escreve um texto entre aspas; null é representado por campo vazio sem aspas (NULL no COPY)
+     */
+    public static StringBuilder appendQuoted(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    public static StringBuilder appendTimestamp(StringBuilder line, LocalDateTime value) {
+        return value == null ? line : line.append(value);
+    }
+}
@@ -0,0 +1,131 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Repositories;
+
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Repositories.TaskBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
+/**
+ * Implementação da carga em massa de tarefas usando COPY do PostgreSQL.
+ * As linhas são enviadas via COPY FROM STDIN para uma tabela temporária
+ * e depois incorporadas à tabela tasks com um único INSERT ... SELECT.
+ *
+ * O mesmo comando grava no outbox um evento CREATED por tarefa importada, na mesma
+ * transação das tarefas. O payload fica vazio: o TaskOutboxRelay o monta a partir da
+ * linha da tarefa com o serializador do TaskOutboxWriter, mantendo um único formato.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkRepositoryImpl implements TaskBulkRepository {
+
+    private static final String CREATE_STAGING_TABLE =
+            "CREATE TEMP TABLE IF NOT EXISTS tasks_import_staging (" +
+            "title VARCHAR(200) NOT NULL, " +
+            "description TEXT, " +
+            "status VARCHAR(20) NOT NULL, " +
+            "priority VARCHAR(20) NOT NULL, " +
+            "due_date TIMESTAMP, " +
+            "created_at TIMESTAMP NOT NULL, " +
+            "updated_at TIMESTAMP NOT NULL, " +
+            "user_id BIGINT NOT NULL" +
+            ") ON COMMIT DROP";
+
+    private static final String COPY_INTO_STAGING =
+            "COPY tasks_import_staging (title, description, status, priority, due_date, created_at, updated_at, user_id) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_INTO_TASKS =
+            "WITH imported AS (" +
+            "INSERT INTO tasks (title, description, status, priority, due_date, created_at, updated_at, user_id) " +
+            "SELECT title, description, status, priority, due_date, created_at, updated_at, user_id " +
+            "FROM tasks_import_staging " +
+            "RETURNING id, user_id, created_at) " +
+            "INSERT INTO task_outbox (task_id, user_id, event_type, payload, created_at, available_at, attempts) " +
+            "SELECT id, user_id, 'CREATED', '', created_at, created_at, 0 " +
+            "FROM imported";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    @Override
+    @Transactional
+    public long bulkInsert(Iterator<Task> tasks) {
+        // Usa a conexão da transação corrente para que a tabela temporária e o INSERT final
+        // sejam descartados juntos em caso de erro
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLE);
+            }
+
+            PGCopyOutputStream copyStream = new PGCopyOutputStream(
+                    connection.unwrap(PGConnection.class), COPY_INTO_STAGING, COPY_BUFFER_SIZE);
+            try {
+                writeRows(copyStream, tasks);
+                copyStream.endCopy();
+            } finally {
+                if (copyStream.isActive()) {
+                    copyStream.cancelCopy();
+                }
+            }
+
+            // Conta as linhas gravadas no outbox: uma por tarefa inserida
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(MERGE_INTO_TASKS);
+            }
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("Bulk task import failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Serializa as tarefas no formato CSV aceito pelo COPY
+     *
+     * @param copyStream Stream do COPY em andamento
+     * @param tasks Fluxo de tarefas
+     * @throws IOException Se ocorrer erro de escrita
+     */
+    private void writeRows(PGCopyOutputStream copyStream, Iterator<Task> tasks) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+        StringBuilder line = new StringBuilder(256);
+        while (tasks.hasNext()) {
+            appendCsvRow(line, tasks.next());
+            writer.append(line);
+            line.setLength(0);
+        }
+        writer.flush();
+    }
+
+    private static void appendCsvRow(StringBuilder line, Task task) {
+        PgCopyCsv.appendQuoted(line, task.getTitle()).append(',');
+        PgCopyCsv.appendQuoted(line, task.getDescription()).append(',');
+        line.append(task.getStatus().name()).append(',');
+        line.append(task.getPriority().name()).append(',');
+        PgCopyCsv.appendTimestamp(line, task.getDueDate()).append(',');
+        PgCopyCsv.appendTimestamp(line, task.getCreatedAt()).append(',');
+        PgCopyCsv.appendTimestamp(line, task.getUpdatedAt()).append(',');
+        line.append(task.getUserId()).append('\n');
+    }
+}
@@ -1,6 +1,9 @@
 package com.tiagoreiz.projeto.Infra.Persistence.Repositories;
 
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
 import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskField;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
 import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
 import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
 import com.tiagoreiz.projeto.Core.Exceptions.ResourceNotFoundException;
@@ -10,12 +13,20 @@ import com.tiagoreiz.projeto.Infra.Persistence.Entities.UserPersistence;
 import com.tiagoreiz.projeto.Infra.Persistence.Mappers.TaskPersistenceMapper;
 import com.tiagoreiz.projeto.Infra.Persistence.SpringData.TaskJpaRepository;
 import com.tiagoreiz.projeto.Infra.Persistence.SpringData.UserJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementação do repositório de tarefas usando Spring Data JPA.
@@ -31,6 +42,8 @@ public class TaskRepositoryImpl implements TaskRepository {
     private final TaskJpaRepository taskJpaRepository;
     private final UserJpaRepository userJpaRepository;
     private final TaskPersistenceMapper taskMapper;
+    private final EntityManager entityManager;
+    private final Clock clock;
     
     @Override
     public Task save(Task task) {
@@ -38,7 +51,8 @@ public class TaskRepositoryImpl implements TaskRepository {
                 .orElseThrow(() -> new ResourceNotFoundException("User", task.getUserId()));
         
         TaskPersistence taskPersistence = taskMapper.toEntityWithUser(task, user);
-        TaskPersistence savedTask = taskJpaRepository.save(taskPersistence);
+        // O flush aplica o incremento de versão antes de converter de volta para o domínio
+        TaskPersistence savedTask = taskJpaRepository.saveAndFlush(taskPersistence);
         return taskMapper.toDomain(savedTask);
     }
     
@@ -72,6 +86,66 @@ public class TaskRepositoryImpl implements TaskRepository {
         return taskMapper.toDomainList(taskPersistenceList);
     }
     
+    @Override
+    public List<Task> findByUserIdWithFields(Long userId, TaskStatus status, TaskPriority priority, Set<TaskField> fields) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one task field must be selected");
+        }
+        
+        // Seleciona apenas as colunas pedidas; sem DESCRIPTION a coluna TEXT não é lida
+        TaskField[] selected = fields.toArray(new TaskField[0]);
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < selected.length; i++) {
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            jpql.append(selected[i] == TaskField.USER_ID ? "t.user.id" : "t." + selected[i].getPropertyName());
+        }
+        jpql.append(" FROM TaskPersistence t WHERE t.user.id = :userId");
+        if (status != null) {
+            jpql.append(" AND t.status = :status");
+        }
+        if (priority != null) {
+            jpql.append(" AND t.priority = :priority");
+        }
+        
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        query.setParameter("userId", userId);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (priority != null) {
+            query.setParameter("priority", priority);
+        }
+        
+        List<Object[]> rows = query.getResultList();
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Task task = new Task();
+            for (int i = 0; i < selected.length; i++) {
+                setField(task, selected[i], row[i]);
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+    
+    private static void setField(Task task, TaskField field, Object value) {
+        switch (field) {
+            case ID -> task.setId((Long) value);
+            case TITLE -> task.setTitle((String) value);
+            case DESCRIPTION -> task.setDescription((String) value);
+            case STATUS -> task.setStatus((TaskStatus) value);
+            case PRIORITY -> task.setPriority((TaskPriority) value);
+            case CREATED_AT -> task.setCreatedAt((LocalDateTime) value);
+            case UPDATED_AT -> task.setUpdatedAt((LocalDateTime) value);
+            case DUE_DATE -> task.setDueDate((LocalDateTime) value);
+            case COMPLETED_AT -> task.setCompletedAt((LocalDateTime) value);
+            case USER_ID -> task.setUserId((Long) value);
+            case VERSION -> task.setVersion((Long) value);
+        }
+    }
+    
     @Override
     public List<Task> findByUserIdAndDueDateBefore(Long userId, LocalDateTime dueDate) {
         List<TaskPersistence> taskPersistenceList = taskJpaRepository.findByUserIdAndDueDateBefore(userId, dueDate);
@@ -80,7 +154,7 @@ public class TaskRepositoryImpl implements TaskRepository {
     
     @Override
     public List<Task> findOverdueTasksByUserId(Long userId) {
-        LocalDateTime currentDateTime = LocalDateTime.now();
+        LocalDateTime currentDateTime = TimeProvider.now(clock);
         List<TaskPersistence> taskPersistenceList = taskJpaRepository.findOverdueTasksByUserId(userId, currentDateTime);
         return taskMapper.toDomainList(taskPersistenceList);
     }
@@ -115,10 +189,58 @@ public class TaskRepositoryImpl implements TaskRepository {
                 .orElseThrow(() -> new ResourceNotFoundException("User", task.getUserId()));
         
         TaskPersistence taskPersistence = taskMapper.toEntityWithUser(task, user);
-        TaskPersistence updatedTask = taskJpaRepository.save(taskPersistence);
+        TaskPersistence updatedTask = taskJpaRepository.saveAndFlush(taskPersistence);
         return taskMapper.toDomain(updatedTask);
     }
     
+    @Override
+    @Transactional
+    public Task patch(Task task, TaskPatch patch) {
+        if (task.getId() == null || task.getVersion() == null) {
+            throw new IllegalArgumentException("Task ID and version cannot be null for patch operation");
+        }
+        
+        // Monta um UPDATE apenas com as colunas informadas, evitando reescrever a descrição (TEXT)
+        StringBuilder jpql = new StringBuilder("UPDATE TaskPersistence t SET ");
+        if (patch.isTitleSet()) {
+            jpql.append("t.title = :title, ");
+        }
+        if (patch.isDescriptionSet()) {
+            jpql.append("t.description = :description, ");
+        }
+        if (patch.isPrioritySet()) {
+            jpql.append("t.priority = :priority, ");
+        }
+        if (patch.isDueDateSet()) {
+            jpql.append("t.dueDate = :dueDate, ");
+        }
+        jpql.append("t.updatedAt = :updatedAt, t.version = t.version + 1 WHERE t.id = :id AND t.version = :version");
+        
+        Query query = entityManager.createQuery(jpql.toString());
+        if (patch.isTitleSet()) {
+            query.setParameter("title", patch.getTitle());
+        }
+        if (patch.isDescriptionSet()) {
+            query.setParameter("description", patch.getDescription());
+        }
+        if (patch.isPrioritySet()) {
+            query.setParameter("priority", patch.getPriority());
+        }
+        if (patch.isDueDateSet()) {
+            query.setParameter("dueDate", patch.getDueDate());
+        }
+        query.setParameter("updatedAt", task.getUpdatedAt());
+        query.setParameter("id", task.getId());
+        query.setParameter("version", task.getVersion());
+        
+        if (query.executeUpdate() == 0) {
+            throw new ObjectOptimisticLockingFailureException(TaskPersistence.class, task.getId());
+        }
+        
+        task.setVersion(task.getVersion() + 1);
+        return task;
+    }
+    
     @Override
     public List<Task> findAll() {
         List<TaskPersistence> taskPersistenceList = taskJpaRepository.findAll();
@@ -0,0 +1,72 @@
+package com.tiagoreiz.projeto.Infra.Persistence.SpringData;
+
+import com.tiagoreiz.projeto.Infra.Persistence.Entities.IdempotencyKeyPersistence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repositório JPA para as respostas idempotentes.
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyPersistence, String> {
+    
+    /**
+     * Reserva a chave, assumindo apenas uma entrada expirada (resposta ou reserva abandonada)
+     * 
+     * @return Número de linhas gravadas (0 se a chave já está reservada ou tem resposta válida)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, fingerprint, status, etag, body, expires_at, reservation_token) " +
+            "VALUES (:key, :fingerprint, :status, NULL, :body, :expiresAt, :token) " +
+            "ON CONFLICT (idempotency_key) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, status = EXCLUDED.status, " +
+            "etag = NULL, body = EXCLUDED.body, expires_at = EXCLUDED.expires_at, reservation_token = EXCLUDED.reservation_token " +
+            "WHERE idempotency_keys.expires_at <= now()", nativeQuery = true)
+    int reserve(@Param("key") String key,
+                @Param("token") String token,
+                @Param("fingerprint") String fingerprint,
+                @Param("status") int status,
+                @Param("body") String body,
+                @Param("expiresAt") Instant expiresAt);
+    
+    /**
+     * Grava a resposta na reserva identificada pelo token
+     * 
+     * @return Número de linhas alteradas (0 se a reserva foi assumida por outra requisição)
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyKeyPersistence k SET k.status = :status, k.etag = :etag, k.body = :body, " +
+            "k.expiresAt = :expiresAt, k.reservationToken = NULL WHERE k.key = :key AND k.reservationToken = :token")
+    int complete(@Param("key") String key,
+                 @Param("token") String token,
+                 @Param("status") int status,
+                 @Param("etag") String etag,
+                 @Param("body") String body,
+                 @Param("expiresAt") Instant expiresAt);
+    
+    /**
+     * Remove a reserva identificada pelo token
+     * 
+     * @return Número de linhas removidas
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyPersistence k WHERE k.key = :key AND k.reservationToken = :token")
+    int release(@Param("key") String key, @Param("token") String token);
+    
+    /**
+     * Remove as respostas expiradas
+     * 
+     * @param now Momento atual
+     * @return Número de linhas removidas
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyPersistence k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
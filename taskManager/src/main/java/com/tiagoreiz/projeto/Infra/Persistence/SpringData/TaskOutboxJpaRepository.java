@@ -0,0 +1,16 @@
+package com.tiagoreiz.projeto.Infra.Persistence.SpringData;
+
+import com.tiagoreiz.projeto.Infra.Persistence.Entities.TaskOutboxPersistence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JPA para gravação de eventos no outbox de tarefas.
+ * A leitura pelo relay é feita com SQL nativo (FOR UPDATE SKIP LOCKED).
+ * 
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Repository
+public interface TaskOutboxJpaRepository extends JpaRepository<TaskOutboxPersistence, Long> {
+}
@@ -0,0 +1,193 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoint do actuator (/actuator/jfr) para gravações sob demanda do JDK Flight Recorder.
+ *
+ * <ul>
+ *   <li>GET /actuator/jfr: lista as gravações</li>
+ *   <li>POST /actuator/jfr: inicia uma gravação ({"name", "settings", "maxAgeSeconds", "durationSeconds"})</li>
+ *   <li>POST /actuator/jfr/{id}: encerra a gravação</li>
+ *   <li>GET /actuator/jfr/{id}: baixa o arquivo .jfr (em andamento ou encerrada)</li>
+ *   <li>DELETE /actuator/jfr/{id}: descarta a gravação</li>
+ * </ul>
+ *
+ * As gravações incluem os eventos taskmaster.* junto com GC, locks e I/O da JVM,
+ * o que permite correlacionar requisições lentas com pausas e tempo de SQL no JDK Mission Control.
+ * O acesso é restrito aos administradores configurados em app.management.admin-emails.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "profile";
+    private static final List<String> APPLICATION_EVENTS = List.of(
+            "taskmaster.HttpRequest", "taskmaster.UseCase", "taskmaster.Repository", "taskmaster.JwtVerification");
+
+    private final Clock clock;
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(RecordingDescriptor::of)
+                .toList();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingDescriptor> start(@Nullable String name, @Nullable String settings,
+                                                          @Nullable Long maxAgeSeconds, @Nullable Long durationSeconds) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : DEFAULT_SETTINGS);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        Recording recording = new Recording(configuration);
+        recording.setName(name != null ? name : "taskmaster-" + clock.instant().getEpochSecond());
+        recording.setToDisk(true);
+        if (maxAgeSeconds != null) {
+            recording.setMaxAge(Duration.ofSeconds(maxAgeSeconds));
+        }
+        if (durationSeconds != null) {
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+        }
+        APPLICATION_EVENTS.forEach(event -> recording.enable(event).withoutStackTrace());
+        recording.start();
+        log.info("Started flight recording {} ({}) with settings {}", recording.getId(), recording.getName(), configuration.getName());
+        return new WebEndpointResponse<>(RecordingDescriptor.of(recording));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingDescriptor> stop(@Selector long id) {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.get().getState() == RecordingState.RUNNING) {
+            recording.get().stop();
+            log.info("Stopped flight recording {}", id);
+        }
+        return new WebEndpointResponse<>(RecordingDescriptor.of(recording.get()));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) throws IOException {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty() || recording.get().getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("taskmaster-" + id + "-", ".jfr");
+        try {
+            recording.get().dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file.toFile()));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> discard(@Selector long id) {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.get().close();
+        log.info("Discarded flight recording {}", id);
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    private static Optional<Recording> find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst();
+    }
+
+    public record RecordingDescriptor(long id, String name, String state, Instant startTime, Instant stopTime,
+                                      Long maxAgeSeconds, Long durationSeconds, long size) {
+
+        static RecordingDescriptor of(Recording recording) {
+            return new RecordingDescriptor(
+                    recording.getId(),
+                    recording.getName(),
+                    recording.getState().name(),
+                    recording.getStartTime(),
+                    recording.getStopTime(),
+                    recording.getMaxAge() != null ? recording.getMaxAge().toSeconds() : null,
+                    recording.getDuration() != null ? recording.getDuration().toSeconds() : null,
+                    recording.getSize());
+        }
+    }
+
+    /**
+     * Arquivo temporário removido assim que o conteúdo é enviado ao cliente
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(File file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Channels.newChannel(getInputStream());
+        }
+
+        @Override
+        public boolean isFile() {
+            // Força a leitura pelo InputStream para que o arquivo seja removido ao final
+            return false;
+        }
+    }
+}
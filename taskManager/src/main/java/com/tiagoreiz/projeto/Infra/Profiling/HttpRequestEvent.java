@@ -0,0 +1,41 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de uma requisição atendida pelos controllers da API
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Name("taskmaster.HttpRequest")
+@Label("HTTP Request")
+@Category({"TaskMaster", "HTTP"})
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Controller")
+    public String controller;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("HTTP Method")
+    public String httpMethod;
+
+    @Label("URI Template")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("SQL Statements")
+    public int sqlStatements;
+}
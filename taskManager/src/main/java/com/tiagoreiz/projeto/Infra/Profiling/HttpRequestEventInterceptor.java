@@ -0,0 +1,67 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import com.tiagoreiz.projeto.Adapters.Controllers.AuthController;
+import com.tiagoreiz.projeto.Adapters.Controllers.TaskController;
+import com.tiagoreiz.projeto.Infra.Persistence.Diagnostics.SqlStatementCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Gera um evento JFR taskmaster.HttpRequest para cada requisição atendida
+ * pelo TaskController ou AuthController. O evento cobre a execução do handler,
+ * de modo que pausas de GC, contenção de locks e eventos de caso de uso e
+ * repositório na mesma thread aparecem dentro do seu intervalo.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRequestEventInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = HttpRequestEventInterceptor.class.getName() + ".event";
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && isProfiled(handlerMethod.getBeanType())) {
+            HttpRequestEvent event = new HttpRequestEvent();
+            if (event.isEnabled()) {
+                event.controller = handlerMethod.getBeanType().getSimpleName();
+                event.handler = handlerMethod.getMethod().getName();
+                event.begin();
+                request.setAttribute(EVENT_ATTRIBUTE, event);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof HttpRequestEvent event)) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        event.httpMethod = request.getMethod();
+        event.uri = pattern != null ? pattern.toString() : request.getRequestURI();
+        event.status = response.getStatus();
+        event.userId = ProfilingContext.currentUserId();
+        event.sqlStatements = sqlStatementCounter.current();
+        event.commit();
+    }
+
+    private static boolean isProfiled(Class<?> controller) {
+        return TaskController.class.isAssignableFrom(controller) || AuthController.class.isAssignableFrom(controller);
+    }
+}
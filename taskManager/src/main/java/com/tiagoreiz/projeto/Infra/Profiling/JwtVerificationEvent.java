@@ -0,0 +1,29 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de verificação de assinatura e leitura das claims de um token JWT
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Name("taskmaster.JwtVerification")
+@Label("JWT Verification")
+@Category({"TaskMaster", "Security"})
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Failure")
+    public String failure;
+}
@@ -0,0 +1,41 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Campos comuns aos eventos JFR de casos de uso e repositórios.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public abstract class OperationEvent extends Event {
+
+    @Label("Component")
+    @Description("Use case or repository class")
+    String component;
+
+    @Label("Method")
+    String method;
+
+    @Label("Outcome")
+    @Description("success, rejected, business_error or error")
+    String outcome;
+
+    @Label("User ID")
+    @Description("Authenticated user of the current request, 0 when unknown")
+    long userId;
+
+    @Label("Result Size")
+    @Description("Number of items returned, -1 when the result is not a collection")
+    int resultSize;
+
+    public void set(String component, String method, String outcome, long userId, int resultSize) {
+        this.component = component;
+        this.method = method;
+        this.outcome = outcome;
+        this.userId = userId;
+        this.resultSize = resultSize;
+    }
+}
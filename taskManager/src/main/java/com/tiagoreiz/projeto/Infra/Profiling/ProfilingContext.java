@@ -0,0 +1,45 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Guarda no escopo da requisição corrente o ID do usuário autenticado,
+ * lido das claims do JWT no momento da verificação, para que os eventos JFR
+ * de requisição, caso de uso e repositório possam ser correlacionados por usuário
+ * sem interpretar o token novamente.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public final class ProfilingContext {
+
+    static final String USER_ID_ATTRIBUTE = ProfilingContext.class.getName() + ".userId";
+
+    private ProfilingContext() {
+    }
+
+    /**
+     * Registra o usuário da requisição corrente; ignorado fora de uma requisição
+     *
+     * @param userId ID do usuário extraído do token
+     */
+    public static void recordUserId(Long userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && userId != null) {
+            attributes.setAttribute(USER_ID_ATTRIBUTE, userId, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * @return ID do usuário da requisição corrente ou 0 quando desconhecido
+     */
+    public static long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return 0L;
+        }
+        Object userId = attributes.getAttribute(USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return userId instanceof Long id ? id : 0L;
+    }
+}
@@ -0,0 +1,24 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra o interceptor que gera os eventos JFR das requisições da API
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ProfilingWebConfig implements WebMvcConfigurer {
+
+    private final HttpRequestEventInterceptor httpRequestEventInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(httpRequestEventInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,19 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de chamada a um repositório do domínio, que delimita o tempo gasto em SQL
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Name("taskmaster.Repository")
+@Label("Repository Call")
+@Category({"TaskMaster", "Persistence"})
+@StackTrace(false)
+public class RepositoryEvent extends OperationEvent {
+}
@@ -0,0 +1,19 @@
+package com.tiagoreiz.projeto.Infra.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de execução de um caso de uso
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Name("taskmaster.UseCase")
+@Label("Use Case Execution")
+@Category({"TaskMaster", "Application"})
+@StackTrace(false)
+public class UseCaseEvent extends OperationEvent {
+}
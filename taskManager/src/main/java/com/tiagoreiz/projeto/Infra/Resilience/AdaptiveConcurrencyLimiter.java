@@ -0,0 +1,134 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de concorrência adaptativo baseado no gradiente de latência (estilo Gradient2/Vegas).
+ *
+ * A latência curta é a média de uma janela de SHORT_WINDOW requisições concluídas, de modo
+ * que uma requisição isolada mais lenta não derruba o limite. Ao fechar cada janela ela é
+ * comparada com uma média móvel exponencial de longo prazo. Enquanto as duas se mantêm
+ * próximas o limite cresce devagar (+sqrt(limite) por janela); quando a latência curta sobe,
+ * por exemplo com o Postgres lento, o limite é reduzido proporcionalmente e o excedente é
+ * rejeitado em vez de enfileirado.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int SHORT_WINDOW = 10;
+    /** Em janelas curtas (cerca de 600 requisições) */
+    private static final int LONG_WINDOW = 60;
+    private static final double LONG_ALPHA = 2.0 / (LONG_WINDOW + 1);
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+    private long windowRttNanos;
+    private int windowSamples;
+    private int windowMaxInflight;
+
+    /**
+     * @param name Nome do orçamento, usado nas métricas
+     * @param initialLimit Limite inicial
+     * @param minLimit Limite mínimo
+     * @param maxLimit Limite máximo
+     * @param tolerance Quanto a latência curta pode exceder a longa antes de reduzir o limite (ex.: 1.5)
+     * @param smoothing Peso do novo limite calculado a cada amostra (0..1)
+     */
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds for " + name + ": " + minLimit + ".." + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Reserva uma vaga se houver folga no limite corrente
+     *
+     * @return false se a requisição deve ser rejeitada
+     */
+    public boolean tryAcquire() {
+        if (inflight.incrementAndGet() > (int) limit) {
+            inflight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Libera a vaga reservada em tryAcquire
+     *
+     * @param rttNanos Duração da requisição
+     * @param sample Se a duração deve ajustar o limite (falso para erros e requisições assíncronas)
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        if (sample && rttNanos > 0) {
+            onSample(rttNanos, inflightAtCompletion);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtCompletion) {
+        windowRttNanos += rttNanos;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtCompletion);
+        if (++windowSamples < SHORT_WINDOW) {
+            return;
+        }
+        double shortRtt = (double) windowRttNanos / windowSamples;
+        int peakInflight = windowMaxInflight;
+        windowRttNanos = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += LONG_ALPHA * (shortRtt - longRttNanos);
+        }
+
+        // Após um período longo de latência alta a média de longo prazo fica inflada;
+        // decai para que o limite possa voltar a crescer quando a latência normalizar
+        if (longRttNanos / shortRtt > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        // Com menos da metade do limite em uso a latência não diz nada sobre a capacidade
+        if (peakInflight < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double queueSize = Math.sqrt(current);
+        double newLimit = current * gradient + queueSize;
+        newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
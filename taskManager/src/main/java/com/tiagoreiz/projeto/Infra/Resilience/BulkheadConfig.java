@@ -0,0 +1,65 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Bulkheads que isolam autenticação, leitura e escrita de tarefas:
+ *
+ * <ul>
+ *   <li>pool de threads próprio para BCrypt (app.bulkhead.auth.*)</li>
+ *   <li>cotas de conexões do pool do banco por classe de tráfego (app.bulkhead.connections.*)</li>
+ * </ul>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public ExecutorBulkhead authExecutorBulkhead(
+            @Value("${app.bulkhead.auth.threads:0}") int threads,
+            @Value("${app.bulkhead.auth.queue-capacity:100}") int queueCapacity,
+            @Value("${app.bulkhead.auth.timeout:5s}") Duration timeout,
+            @Value("${app.bulkhead.retry-after-seconds:1}") long retryAfterSeconds) {
+        // Por padrão metade dos núcleos, para que logins nunca ocupem toda a CPU
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new ExecutorBulkhead("auth", poolSize, queueCapacity, timeout.toNanos(), retryAfterSeconds);
+    }
+
+    @Bean
+    public static ConnectionQuotas connectionQuotas(
+            @Value("${app.bulkhead.connections.auth:2}") int authConnections,
+            @Value("${app.bulkhead.connections.read:5}") int readConnections,
+            @Value("${app.bulkhead.connections.write:3}") int writeConnections,
+            @Value("${app.bulkhead.connections.max-wait:500ms}") Duration maxWait,
+            @Value("${app.bulkhead.retry-after-seconds:1}") long retryAfterSeconds) {
+        return new ConnectionQuotas(authConnections, readConnections, writeConnections,
+                maxWait.toNanos(), retryAfterSeconds);
+    }
+
+    /**
+     * Envolve o DataSource da aplicação no ConnectionQuotaDataSource
+     */
+    @Bean
+    public static BeanPostProcessor connectionQuotaDataSourcePostProcessor(
+            @Value("${app.bulkhead.connections.enabled:true}") boolean enabled,
+            ObjectProvider<ConnectionQuotas> connectionQuotas) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ConnectionQuotaDataSource)) {
+                    return new ConnectionQuotaDataSource(dataSource, connectionQuotas.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
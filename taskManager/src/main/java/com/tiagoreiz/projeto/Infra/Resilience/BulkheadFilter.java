@@ -0,0 +1,52 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Associa a thread da requisição à sua classe de tráfego (auth, read, write),
+ * usada pelas cotas de conexão do ConnectionQuotaDataSource
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PREFIX = "/api/auth/";
+    private static final String TASKS_PREFIX = "/api/tasks";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith(AUTH_PREFIX) && !path.startsWith(TASKS_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TrafficClass.set(classify(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TrafficClass.clear();
+        }
+    }
+
+    private static TrafficClass classify(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(AUTH_PREFIX)) {
+            return TrafficClass.AUTH;
+        }
+        String method = request.getMethod();
+        return method.equals("GET") || method.equals("HEAD") ? TrafficClass.READ : TrafficClass.WRITE;
+    }
+}
@@ -0,0 +1,35 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder que executa encode e matches (BCrypt) no bulkhead de autenticação
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorBulkhead bulkhead;
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate, ExecutorBulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return bulkhead.call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return bulkhead.call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,173 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import com.tiagoreiz.projeto.Core.Exceptions.DependencyUnavailableException;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker por contagem de chamadas.
+ *
+ * <ul>
+ *   <li>CLOSED: as chamadas passam; as últimas {@code windowSize} são registradas e, com pelo menos
+ *       {@code minimumCalls} no período, uma taxa de falhas (erros ou chamadas lentas) acima de
+ *       {@code failureRateThreshold} abre o circuito</li>
+ *   <li>OPEN: as chamadas são recusadas com DependencyUnavailableException até openDuration passar</li>
+ *   <li>HALF_OPEN: até {@code halfOpenCalls} chamadas de teste; se todas tiverem sucesso o circuito fecha,
+ *       qualquer falha reabre</li>
+ * </ul>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private final boolean[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          long slowCallNanos, long openDurationNanos, int halfOpenCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * Verifica se a chamada pode ser feita
+     *
+     * @throws DependencyUnavailableException Se o circuito estiver aberto
+     */
+    public void acquirePermission() {
+        if (!tryAcquirePermission()) {
+            throw new DependencyUnavailableException(name, retryAfterSeconds());
+        }
+    }
+
+    /**
+     * @return true se a chamada pode ser feita agora
+     */
+    public boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionToHalfOpen();
+        }
+        return state == State.CLOSED || halfOpenPermits.getAndDecrement() > 0;
+    }
+
+    /**
+     * Indica, sem consumir permissões de teste, se o circuito aceitaria chamadas agora
+     */
+    public boolean isCallPermitted() {
+        return state != State.OPEN || System.nanoTime() - openedAt >= openDurationNanos;
+    }
+
+    /**
+     * Registra o resultado de uma chamada permitida
+     *
+     * @param elapsedNanos Duração da chamada
+     * @param error Se a chamada falhou
+     */
+    public void record(long elapsedNanos, boolean error) {
+        boolean failure = error || elapsedNanos > slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            recordHalfOpen(failure);
+        } else {
+            recordClosed(failure);
+        }
+    }
+
+    /**
+     * Quanto tempo, em segundos, até o circuito aberto aceitar chamadas de teste
+     */
+    public long retryAfterSeconds() {
+        long remaining = openDurationNanos - (System.nanoTime() - openedAt);
+        return Math.max(1L, (remaining + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private synchronized void recordClosed(boolean failure) {
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == windowSize && outcomes[position]) {
+            failures--;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % windowSize;
+        recorded = Math.min(recorded + 1, windowSize);
+
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    private synchronized void recordHalfOpen(boolean failure) {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        if (failure) {
+            open();
+        } else if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+            close();
+        }
+    }
+
+    private synchronized void transitionToHalfOpen() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            halfOpenPermits.set(halfOpenCalls);
+            halfOpenSuccesses.set(0);
+            state = State.HALF_OPEN;
+        }
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        state = State.OPEN;
+    }
+
+    private void close() {
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        Arrays.fill(outcomes, false);
+        state = State.CLOSED;
+    }
+}
@@ -0,0 +1,150 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.DTOs.ErrorResponse;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+
+/**
+ * Aplica limites de concorrência adaptativos às rotas da API, com orçamentos separados
+ * para /api/auth/** (BCrypt, limitado por CPU) e /api/tasks/** (limitado pelo banco).
+ * Executa antes da autenticação JWT, de modo que requisições excedentes são rejeitadas
+ * com 503 e Retry-After sem consumir CPU nem conexões do pool.
+ *
+ * A importação em massa e os streams SSE ocupam uma vaga do orçamento de /api/tasks/**, mas
+ * a duração deles não entra na amostra de latência: ela mede o tamanho do arquivo ou da
+ * conexão, não a capacidade do banco, e reduziria o limite das requisições curtas.
+ *
+ * Métricas: taskmaster.concurrency.limit, taskmaster.concurrency.inflight e
+ * taskmaster.concurrency.rejected, todas com a tag budget.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PREFIX = "/api/auth/";
+    private static final String TASKS_PREFIX = "/api/tasks";
+
+    private final AdaptiveConcurrencyLimiter authLimiter;
+    private final AdaptiveConcurrencyLimiter tasksLimiter;
+    private final Counter authRejected;
+    private final Counter tasksRejected;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper,
+                                  Clock clock,
+                                  @Value("${app.concurrency-limit.auth.initial-limit:20}") int authInitialLimit,
+                                  @Value("${app.concurrency-limit.auth.min-limit:4}") int authMinLimit,
+                                  @Value("${app.concurrency-limit.auth.max-limit:100}") int authMaxLimit,
+                                  @Value("${app.concurrency-limit.tasks.initial-limit:40}") int tasksInitialLimit,
+                                  @Value("${app.concurrency-limit.tasks.min-limit:10}") int tasksMinLimit,
+                                  @Value("${app.concurrency-limit.tasks.max-limit:400}") int tasksMaxLimit,
+                                  @Value("${app.concurrency-limit.tolerance:1.5}") double tolerance,
+                                  @Value("${app.concurrency-limit.smoothing:0.2}") double smoothing,
+                                  @Value("${app.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        this.authLimiter = new AdaptiveConcurrencyLimiter("auth", authInitialLimit, authMinLimit, authMaxLimit, tolerance, smoothing);
+        this.tasksLimiter = new AdaptiveConcurrencyLimiter("tasks", tasksInitialLimit, tasksMinLimit, tasksMaxLimit, tolerance, smoothing);
+        this.authRejected = registerMeters(meterRegistry, authLimiter);
+        this.tasksRejected = registerMeters(meterRegistry, tasksLimiter);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith(AUTH_PREFIX) && !path.startsWith(TASKS_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean auth = request.getRequestURI().startsWith(AUTH_PREFIX);
+        AdaptiveConcurrencyLimiter limiter = auth ? authLimiter : tasksLimiter;
+
+        if (!limiter.tryAcquire()) {
+            (auth ? authRejected : tasksRejected).increment();
+            reject(request, response, limiter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // Streams SSE liberam a vaga ao final do dispatch inicial
+            boolean sample = completed && !request.isAsyncStarted() && response.getStatus() < 500
+                    && (auth || isLatencySample(request));
+            limiter.release(System.nanoTime() - start, sample);
+        }
+    }
+
+    /**
+     * Importação e abertura de stream não representam a latência das rotas de /api/tasks/**
+     */
+    private static boolean isLatencySample(HttpServletRequest request) {
+        RateLimitRoute route = RateLimitRoute.of(request.getMethod(), request.getRequestURI());
+        return route != RateLimitRoute.IMPORT && route != RateLimitRoute.STREAM;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, AdaptiveConcurrencyLimiter limiter)
+            throws IOException {
+        log.debug("Rejected {} {}: {} budget at limit {}", request.getMethod(), request.getRequestURI(),
+                limiter.getName(), (int) limiter.getLimit());
+        ErrorResponse body = new ErrorResponse(
+                "Server is overloaded, retry later",
+                "SERVICE_OVERLOADED",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                request.getRequestURI(),
+                TimeProvider.now(clock));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static Counter registerMeters(MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("taskmaster.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("budget", limiter.getName())
+                .register(meterRegistry);
+        Gauge.builder("taskmaster.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Requests currently holding a concurrency permit")
+                .tag("budget", limiter.getName())
+                .register(meterRegistry);
+        return Counter.builder("taskmaster.concurrency.rejected")
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("budget", limiter.getName())
+                .register(meterRegistry);
+    }
+}
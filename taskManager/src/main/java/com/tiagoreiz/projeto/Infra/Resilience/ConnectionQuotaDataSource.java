@@ -0,0 +1,90 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que aplica a cota de conexões da classe de tráfego da requisição corrente.
+ * A permissão é obtida antes de pedir a conexão ao pool e devolvida quando a conexão é fechada.
+ * Conexões obtidas fora de requisições da API (outbox, seed, tarefas agendadas) não têm cota.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class ConnectionQuotaDataSource extends DelegatingDataSource {
+
+    private final ConnectionQuotas quotas;
+
+    public ConnectionQuotaDataSource(DataSource targetDataSource, ConnectionQuotas quotas) {
+        super(targetDataSource);
+        this.quotas = quotas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        SemaphoreBulkhead quota = quotas.quota(TrafficClass.current());
+        if (quota == null) {
+            return super.getConnection();
+        }
+        quota.acquire();
+        try {
+            return releasing(super.getConnection(), quota);
+        } catch (SQLException | RuntimeException e) {
+            quota.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        SemaphoreBulkhead quota = quotas.quota(TrafficClass.current());
+        if (quota == null) {
+            return super.getConnection(username, password);
+        }
+        quota.acquire();
+        try {
+            return releasing(super.getConnection(username, password), quota);
+        } catch (SQLException | RuntimeException e) {
+            quota.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Envolve a conexão para devolver a permissão uma única vez, no primeiro close()
+     */
+    private static Connection releasing(Connection target, SemaphoreBulkhead quota) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionQuotaDataSource.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "getTargetConnection":
+                            return target;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            quota.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,69 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Cotas de conexões do pool por classe de tráfego. A soma das cotas deve ficar
+ * no tamanho do pool do Hikari, de modo que uma classe saturada não consuma
+ * as conexões reservadas às outras.
+ *
+ * Métricas (tag bulkhead = connections.&lt;classe&gt;): taskmaster.bulkhead.active,
+ * taskmaster.bulkhead.max, taskmaster.bulkhead.queued, taskmaster.bulkhead.rejected
+ * e taskmaster.bulkhead.wait (segundos acumulados esperando vaga).
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class ConnectionQuotas implements MeterBinder {
+
+    private final Map<TrafficClass, SemaphoreBulkhead> quotas = new EnumMap<>(TrafficClass.class);
+
+    public ConnectionQuotas(int authConnections, int readConnections, int writeConnections,
+                            long maxWaitNanos, long retryAfterSeconds) {
+        quotas.put(TrafficClass.AUTH, new SemaphoreBulkhead("connections.auth", authConnections, maxWaitNanos, retryAfterSeconds));
+        quotas.put(TrafficClass.READ, new SemaphoreBulkhead("connections.read", readConnections, maxWaitNanos, retryAfterSeconds));
+        quotas.put(TrafficClass.WRITE, new SemaphoreBulkhead("connections.write", writeConnections, maxWaitNanos, retryAfterSeconds));
+    }
+
+    /**
+     * Cota da classe de tráfego, ou null para conexões obtidas fora de uma requisição da API
+     */
+    public SemaphoreBulkhead quota(TrafficClass trafficClass) {
+        return trafficClass == null ? null : quotas.get(trafficClass);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        quotas.values().forEach(bulkhead -> bindBulkhead(registry, bulkhead));
+    }
+
+    static void bindBulkhead(MeterRegistry registry, SemaphoreBulkhead bulkhead) {
+        Gauge.builder("taskmaster.bulkhead.active", bulkhead, SemaphoreBulkhead::getActive)
+                .description("Permits currently held in the bulkhead")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+        Gauge.builder("taskmaster.bulkhead.max", bulkhead, SemaphoreBulkhead::getMaxConcurrent)
+                .description("Maximum permits of the bulkhead")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+        Gauge.builder("taskmaster.bulkhead.queued", bulkhead, SemaphoreBulkhead::getQueued)
+                .description("Threads waiting for a bulkhead permit")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+        FunctionCounter.builder("taskmaster.bulkhead.rejected", bulkhead, SemaphoreBulkhead::getRejected)
+                .description("Operations rejected because the bulkhead was saturated")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+        FunctionCounter.builder("taskmaster.bulkhead.wait", bulkhead, SemaphoreBulkhead::getWaitSeconds)
+                .description("Total time spent waiting for a bulkhead permit")
+                .baseUnit("seconds")
+                .tag("bulkhead", bulkhead.getName())
+                .register(registry);
+    }
+}
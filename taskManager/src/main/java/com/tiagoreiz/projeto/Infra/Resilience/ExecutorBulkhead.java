@@ -0,0 +1,122 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import com.tiagoreiz.projeto.Core.Exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead com pool de threads próprio para trabalho intensivo em CPU (BCrypt).
+ * A thread do Tomcat entrega a tarefa ao pool e espera o resultado; com o pool e a fila
+ * cheios, ou se a espera exceder o timeout, a operação é recusada com ServiceOverloadedException.
+ * Assim uma rajada de logins usa no máximo {@code threads} núcleos e as leituras mantêm CPU livre.
+ *
+ * Métricas (tag bulkhead): taskmaster.bulkhead.active, taskmaster.bulkhead.max,
+ * taskmaster.bulkhead.queued e taskmaster.bulkhead.rejected.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class ExecutorBulkhead implements MeterBinder, DisposableBean {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final long retryAfterSeconds;
+    private final LongAdder rejected = new LongAdder();
+
+    public ExecutorBulkhead(String name, int threads, int queueCapacity, long timeoutNanos, long retryAfterSeconds) {
+        this.name = name;
+        this.timeoutNanos = timeoutNanos;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(name), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Executa a tarefa no pool do bulkhead e espera o resultado
+     *
+     * @param task Tarefa
+     * @param <T> Tipo do resultado
+     * @return Resultado da tarefa
+     * @throws ServiceOverloadedException Se o pool estiver saturado ou a espera exceder o timeout
+     */
+    public <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException(name, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceOverloadedException(name, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(name, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("taskmaster.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Permits currently held in the bulkhead")
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder("taskmaster.bulkhead.max", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                .description("Maximum permits of the bulkhead")
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder("taskmaster.bulkhead.queued", executor, pool -> pool.getQueue().size())
+                .description("Threads waiting for a bulkhead permit")
+                .tag("bulkhead", name)
+                .register(registry);
+        FunctionCounter.builder("taskmaster.bulkhead.rejected", rejected, LongAdder::sum)
+                .description("Operations rejected because the bulkhead was saturated")
+                .tag("bulkhead", name)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
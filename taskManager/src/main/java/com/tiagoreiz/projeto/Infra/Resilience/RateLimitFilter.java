@@ -0,0 +1,133 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.DTOs.ErrorResponse;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Infra.Security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Limita a taxa de requisições de cada usuário em /api/tasks/**, com limites por classe de rota
+ * (RateLimitRoute). Registrado na cadeia do Spring Security logo após o JwtAuthenticationFilter,
+ * de onde vem o userId; requisições sem usuário autenticado seguem e são barradas pela segurança.
+ *
+ * Toda resposta limitada recebe RateLimit-Limit, RateLimit-Remaining, RateLimit-Reset e RateLimit-Policy;
+ * o excesso recebe 429 com Retry-After.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+    public static final String POLICY_HEADER = "RateLimit-Policy";
+
+    private static final String TASKS_PREFIX = "/api/tasks";
+
+    private final boolean enabled;
+    private final Map<RateLimitRoute, UserRateLimiter> limiters = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, String> policies = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, String> limits = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, Counter> rejected = new EnumMap<>(RateLimitRoute.class);
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper,
+                           Clock clock,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.stripes:16}") int stripes,
+                           @Value("${app.rate-limit.idle-ttl:5m}") Duration idleTtl,
+                           @Value("${app.rate-limit.read.capacity:100}") int readCapacity,
+                           @Value("${app.rate-limit.read.refill-per-second:50}") double readRefill,
+                           @Value("${app.rate-limit.write.capacity:50}") int writeCapacity,
+                           @Value("${app.rate-limit.write.refill-per-second:20}") double writeRefill,
+                           @Value("${app.rate-limit.import.capacity:3}") int importCapacity,
+                           @Value("${app.rate-limit.import.refill-per-second:0.05}") double importRefill,
+                           @Value("${app.rate-limit.stream.capacity:5}") int streamCapacity,
+                           @Value("${app.rate-limit.stream.refill-per-second:0.2}") double streamRefill) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.enabled = enabled;
+        long idleTtlNanos = idleTtl.toNanos();
+        register(meterRegistry, RateLimitRoute.READ, new UserRateLimiter(readCapacity, readRefill, stripes, idleTtlNanos));
+        register(meterRegistry, RateLimitRoute.WRITE, new UserRateLimiter(writeCapacity, writeRefill, stripes, idleTtlNanos));
+        register(meterRegistry, RateLimitRoute.IMPORT, new UserRateLimiter(importCapacity, importRefill, stripes, idleTtlNanos));
+        register(meterRegistry, RateLimitRoute.STREAM, new UserRateLimiter(streamCapacity, streamRefill, stripes, idleTtlNanos));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(TASKS_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!(request.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTRIBUTE) instanceof Long userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitRoute route = RateLimitRoute.of(request.getMethod(), request.getRequestURI());
+        UserRateLimiter.Decision decision = limiters.get(route).tryAcquire(userId);
+
+        response.setHeader(LIMIT_HEADER, limits.get(route));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(UserRateLimiter.ceilSeconds(decision.resetNanos())));
+        response.setHeader(POLICY_HEADER, policies.get(route));
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(route).increment();
+        ErrorResponse body = new ErrorResponse(
+                "Rate limit exceeded, retry later",
+                "RATE_LIMITED",
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                request.getRequestURI(),
+                TimeProvider.now(clock));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1L, UserRateLimiter.ceilSeconds(decision.retryAfterNanos()))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private void register(MeterRegistry meterRegistry, RateLimitRoute route, UserRateLimiter limiter) {
+        limiters.put(route, limiter);
+        limits.put(route, String.valueOf(limiter.getCapacity()));
+        policies.put(route, limiter.getCapacity() + ";w=" + limiter.windowSeconds());
+        rejected.put(route, Counter.builder("taskmaster.ratelimit.rejected")
+                .description("Requests rejected by the per-user rate limit")
+                .tag("route", route.propertyName())
+                .register(meterRegistry));
+        Gauge.builder("taskmaster.ratelimit.buckets", limiter, UserRateLimiter::size)
+                .description("Live per-user rate limit buckets")
+                .tag("route", route.propertyName())
+                .register(meterRegistry);
+    }
+}
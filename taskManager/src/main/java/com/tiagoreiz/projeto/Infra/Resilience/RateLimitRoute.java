@@ -0,0 +1,45 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+/**
+ * Classes de rota com limites de taxa independentes por usuário.
+ * Cada classe é configurada em app.rate-limit.&lt;classe&gt;.capacity e refill-per-second.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public enum RateLimitRoute {
+
+    /** GET /api/tasks/** (listagens e consultas) */
+    READ,
+
+    /** POST, PUT, PATCH e DELETE em /api/tasks/** */
+    WRITE,
+
+    /** POST /api/tasks/import */
+    IMPORT,
+
+    /** GET /api/tasks/events (abertura de stream SSE) */
+    STREAM;
+
+    private static final String TASKS_PREFIX = "/api/tasks";
+
+    /**
+     * Classifica uma requisição para /api/tasks/**
+     *
+     * @param method Método HTTP
+     * @param path URI da requisição
+     * @return Classe da rota
+     */
+    public static RateLimitRoute of(String method, String path) {
+        String relative = path.substring(TASKS_PREFIX.length());
+        boolean read = method.equals("GET") || method.equals("HEAD");
+        if (read) {
+            return relative.equals("/events") ? STREAM : READ;
+        }
+        return relative.equals("/import") ? IMPORT : WRITE;
+    }
+
+    public String propertyName() {
+        return name().toLowerCase();
+    }
+}
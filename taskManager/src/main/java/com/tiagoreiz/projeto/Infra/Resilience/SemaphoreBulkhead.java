@@ -0,0 +1,88 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import com.tiagoreiz.projeto.Core.Exceptions.ServiceOverloadedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead por semáforo: no máximo maxConcurrent permissões simultâneas, com espera limitada.
+ * Quando não há vaga dentro de maxWait a operação é recusada com ServiceOverloadedException.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class SemaphoreBulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final long retryAfterSeconds;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public SemaphoreBulkhead(String name, int maxConcurrent, long maxWaitNanos, long retryAfterSeconds) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Bulkhead " + name + " needs at least one permit");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWaitNanos;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Obtém uma permissão, esperando no máximo maxWait
+     *
+     * @throws ServiceOverloadedException Se não houver vaga no tempo limite
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitNanos.add(System.nanoTime() - start);
+        if (!acquired) {
+            rejected.increment();
+            throw new ServiceOverloadedException(name, retryAfterSeconds);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public double getWaitSeconds() {
+        return waitNanos.sum() / 1e9;
+    }
+}
@@ -0,0 +1,105 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import com.tiagoreiz.projeto.Core.Exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Circuit breaker em volta das leituras do TaskRepository (find*, count*, exists*).
+ * Erros de acesso a dados e chamadas mais lentas que app.task-circuit-breaker.slow-call
+ * contam como falha; com o circuito aberto as leituras falham imediatamente com
+ * DependencyUnavailableException, e o cache de listagens passa a servir dados antigos.
+ *
+ * Executa dentro do aspecto de métricas, de modo que as recusas aparecem em taskmaster.repository.
+ * Métrica: taskmaster.circuit.state (0 = fechado, 1 = semiaberto, 2 = aberto).
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+public class TaskRepositoryCircuitBreakerAspect {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public TaskRepositoryCircuitBreakerAspect(MeterRegistry meterRegistry,
+                                              @Value("${app.task-circuit-breaker.window-size:20}") int windowSize,
+                                              @Value("${app.task-circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                              @Value("${app.task-circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                                              @Value("${app.task-circuit-breaker.slow-call:2s}") Duration slowCall,
+                                              @Value("${app.task-circuit-breaker.open-duration:10s}") Duration openDuration,
+                                              @Value("${app.task-circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        this.circuitBreaker = new CircuitBreaker("Task database", windowSize, minimumCalls, failureRateThreshold,
+                slowCall.toNanos(), openDuration.toNanos(), halfOpenCalls);
+        Gauge.builder("taskmaster.circuit.state", circuitBreaker, TaskRepositoryCircuitBreakerAspect::stateValue)
+                .description("Circuit breaker state: 0 closed, 1 half-open, 2 open")
+                .tag("circuit", "task-repository")
+                .register(meterRegistry);
+    }
+
+    @Around("execution(* com.tiagoreiz.projeto.Core.Repositories.TaskRepository.find*(..))"
+            + " || execution(* com.tiagoreiz.projeto.Core.Repositories.TaskRepository.count*(..))"
+            + " || execution(* com.tiagoreiz.projeto.Core.Repositories.TaskRepository.exists*(..))")
+    public Object guardRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        CircuitBreaker.State before = circuitBreaker.getState();
+        circuitBreaker.acquirePermission();
+
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable error) {
+            failed = isDatabaseFailure(error);
+            throw error;
+        } finally {
+            circuitBreaker.record(System.nanoTime() - start, failed);
+            CircuitBreaker.State after = circuitBreaker.getState();
+            if (after != before) {
+                log.warn("Task repository circuit breaker changed from {} to {}", before, after);
+            }
+        }
+    }
+
+    /**
+     * Circuito usado pelo cache de listagens para decidir quando servir dados antigos
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private static double stateValue(CircuitBreaker breaker) {
+        return switch (breaker.getState()) {
+            case CLOSED -> 0;
+            case HALF_OPEN -> 1;
+            case OPEN -> 2;
+        };
+    }
+
+    /**
+     * Apenas falhas do banco contam; cotas de conexão esgotadas e erros de negócio não
+     */
+    private static boolean isDatabaseFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceOverloadedException) {
+                return false;
+            }
+        }
+        return error instanceof DataAccessException || error instanceof TransactionException
+                || error instanceof SQLException;
+    }
+}
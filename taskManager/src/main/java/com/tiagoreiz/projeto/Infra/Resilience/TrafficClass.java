@@ -0,0 +1,62 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Classes de tráfego isoladas por bulkheads
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public enum TrafficClass {
+
+    /** /api/auth/** (login e registro, BCrypt) */
+    AUTH,
+
+    /** GET em /api/tasks/** */
+    READ,
+
+    /** Demais métodos em /api/tasks/** */
+    WRITE;
+
+    private static final ThreadLocal<TrafficClass> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Classe de tráfego da requisição atendida pela thread corrente, ou null fora de uma requisição da API
+     */
+    public static TrafficClass current() {
+        return CURRENT.get();
+    }
+
+    static void set(TrafficClass trafficClass) {
+        CURRENT.set(trafficClass);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Executa a tarefa com esta classe de tráfego, para trabalho feito fora da thread da requisição
+     * (por exemplo, recargas em segundo plano que usam as cotas de conexão de leitura)
+     */
+    public <T> Callable<T> bind(Callable<T> task) {
+        return () -> {
+            TrafficClass previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    public String propertyName() {
+        return name().toLowerCase();
+    }
+}
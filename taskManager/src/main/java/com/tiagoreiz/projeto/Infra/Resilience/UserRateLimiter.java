@@ -0,0 +1,148 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket por usuário, sem locks.
+ *
+ * Cada bucket é um único AtomicLong com o "tempo teórico de chegada" (GCRA), equivalente
+ * a um token bucket de capacidade {@code capacity} reabastecido a {@code refillPerSecond}:
+ * consumir um token é um compareAndSet, sem thread de reabastecimento.
+ * Os buckets ficam em mapas particionados por usuário (stripes); buckets ociosos,
+ * já cheios há mais de idleTtl, são removidos de forma preguiçosa por quem acessa
+ * a partição depois do intervalo de varredura, nunca por uma thread dedicada.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+public class UserRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final long idleTtlNanos;
+    private final long sweepIntervalNanos;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * @param capacity Tamanho do bucket (rajada máxima)
+     * @param refillPerSecond Tokens reabastecidos por segundo
+     * @param stripes Quantidade de partições, arredondada para potência de 2
+     * @param idleTtlNanos Tempo de ociosidade após o qual um bucket cheio pode ser removido
+     */
+    public UserRateLimiter(int capacity, double refillPerSecond, int stripes, long idleTtlNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.idleTtlNanos = idleTtlNanos;
+        this.sweepIntervalNanos = Math.max(NANOS_PER_SECOND, idleTtlNanos / 2);
+
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * Tenta consumir um token do bucket do usuário
+     *
+     * @param userId ID do usuário
+     * @return Decisão com os valores dos cabeçalhos RateLimit-*
+     */
+    public Decision tryAcquire(long userId) {
+        long now = System.nanoTime();
+        Stripe stripe = stripes[spread(userId) & stripeMask];
+        stripe.sweepIfDue(now);
+
+        AtomicLong bucket = stripe.buckets.get(userId);
+        if (bucket == null) {
+            bucket = stripe.buckets.computeIfAbsent(userId, id -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long backlog = newTat - now;
+            if (backlog > burstNanos) {
+                long retryAfter = backlog - burstNanos;
+                return new Decision(false, capacity, 0, Math.max(tat, now) - now, retryAfter);
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                int remaining = (int) ((burstNanos - backlog) / emissionIntervalNanos);
+                return new Decision(true, capacity, remaining, backlog, 0L);
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Janela, em segundos, em que a capacidade completa é reabastecida
+     */
+    public long windowSeconds() {
+        return Math.max(1L, ceilSeconds(burstNanos));
+    }
+
+    /**
+     * Quantidade de buckets vivos, para métricas
+     */
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.buckets.size();
+        }
+        return total;
+    }
+
+    static long ceilSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+
+    private static int spread(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Resultado da tentativa de consumo
+     *
+     * @param allowed Se a requisição pode prosseguir
+     * @param limit Capacidade do bucket
+     * @param remaining Tokens restantes após o consumo
+     * @param resetNanos Tempo até o bucket voltar a ficar cheio
+     * @param retryAfterNanos Tempo até o próximo token, quando rejeitado
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+
+    private final class Stripe {
+        private final ConcurrentHashMap<Long, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + sweepIntervalNanos);
+
+        void sweepIfDue(long now) {
+            long due = nextSweep.get();
+            if (now - due < 0 || !nextSweep.compareAndSet(due, now + sweepIntervalNanos)) {
+                return;
+            }
+            // Um bucket ocioso está cheio: se um acesso concorrente consumir do bucket removido,
+            // no máximo um token é concedido a mais
+            buckets.forEach((userId, bucket) -> {
+                long tat = bucket.get();
+                if (now - tat > idleTtlNanos) {
+                    buckets.remove(userId, bucket);
+                }
+            });
+        }
+    }
+}
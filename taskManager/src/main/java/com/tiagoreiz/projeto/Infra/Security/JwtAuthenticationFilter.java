@@ -1,5 +1,6 @@
 package com.tiagoreiz.projeto.Infra.Security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +30,11 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    /**
+     * Atributo da requisição com o ID do usuário autenticado (claim userId), usado pelos filtros seguintes
+     */
+    public static final String AUTHENTICATED_USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".userId";
+    
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
     
@@ -62,8 +68,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            // Extrai o email do usuário do token
-            userEmail = jwtService.extractUsername(jwt);
+            // Verifica a assinatura uma única vez e extrai o email do usuário
+            Claims claims = jwtService.extractAllClaims(jwt);
+            userEmail = claims.getSubject();
             
             // Se o email foi extraído e o usuário não está autenticado no contexto
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -72,7 +79,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
                 
                 // Valida o token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(claims, userDetails)) {
                     
                     // Cria o token de autenticação
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -87,6 +94,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // Define a autenticação no contexto de segurança
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     
+                    Long userId = JwtService.userIdClaim(claims);
+                    if (userId != null) {
+                        request.setAttribute(AUTHENTICATED_USER_ID_ATTRIBUTE, userId);
+                    }
+                    
                     log.debug("User '{}' authenticated successfully with JWT token", userEmail);
                 } else {
                     log.warn("Invalid JWT token for user '{}'", userEmail);
@@ -110,11 +122,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
         
-        // Não aplica o filtro para endpoints públicos
+        // Não aplica o filtro para endpoints públicos; os demais endpoints do actuator exigem token
         return path.startsWith("/api/auth/") ||
                path.startsWith("/swagger-ui/") ||
                path.startsWith("/api-docs/") ||
-               path.startsWith("/actuator/") ||
+               path.startsWith("/actuator/health") ||
+               path.equals("/actuator/info") ||
+               path.equals("/actuator/prometheus") ||
                path.equals("/") ||
                path.equals("/favicon.ico");
     }
@@ -1,5 +1,7 @@
 package com.tiagoreiz.projeto.Infra.Security;
 
+import com.tiagoreiz.projeto.Infra.Profiling.JwtVerificationEvent;
+import com.tiagoreiz.projeto.Infra.Profiling.ProfilingContext;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -8,6 +10,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
@@ -18,6 +21,7 @@ import java.util.function.Function;
 /**
  * Serviço responsável pela geração, validação e manipulação de tokens JWT.
  * Utiliza a biblioteca JJWT para operações com JSON Web Tokens.
+ * Emissão e expiração seguem o Clock da aplicação, inclusive na verificação feita pelo JJWT.
  * 
  * @author Tiago Reiz
  * @version 1.0
@@ -31,6 +35,12 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
     
+    private final Clock clock;
+    
+    public JwtService(Clock clock) {
+        this.clock = clock;
+    }
+    
     /**
      * Extrai o username (email) do token JWT
      * 
@@ -72,11 +82,12 @@ public class JwtService {
      * @return Token JWT gerado
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        Instant now = clock.instant();
         return Jwts.builder()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
-                .issuedAt(Date.from(Instant.now()))
-                .expiration(Date.from(Instant.now().plus(jwtExpiration, ChronoUnit.MILLIS)))
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(jwtExpiration, ChronoUnit.MILLIS)))
                 .signWith(getSignInKey())
                 .compact();
     }
@@ -93,6 +104,20 @@ public class JwtService {
         return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
     }
     
+    /**
+     * Verifica se claims já extraídas do token são válidas para o usuário,
+     * sem verificar a assinatura novamente
+     * 
+     * @param claims Claims obtidas por extractAllClaims
+     * @param userDetails Detalhes do usuário
+     * @return true se o token é válido
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject())
+                && claims.getExpiration() != null
+                && claims.getExpiration().after(Date.from(clock.instant()));
+    }
+    
     /**
      * Verifica se o token JWT está expirado
      * 
@@ -100,7 +125,7 @@ public class JwtService {
      * @return true se o token está expirado
      */
     private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return extractExpiration(token).before(Date.from(clock.instant()));
     }
     
     /**
@@ -114,17 +139,34 @@ public class JwtService {
     }
     
     /**
-     * Extrai todas as claims do token JWT
+     * Extrai todas as claims do token JWT.
+     * Cada verificação gera um evento JFR taskmaster.JwtVerification e registra
+     * o ID do usuário na requisição corrente para os demais eventos.
      * 
      * @param token Token JWT
      * @return Claims do token
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims extractAllClaims(String token) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        try {
+            Claims claims = Jwts.parser()
+                    .clock(() -> Date.from(clock.instant()))
+                    .verifyWith(getSignInKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            Long userId = userIdClaim(claims);
+            ProfilingContext.recordUserId(userId);
+            event.valid = true;
+            event.userId = userId != null ? userId : 0L;
+            return claims;
+        } catch (RuntimeException e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
+        }
     }
     
     /**
@@ -144,10 +186,18 @@ public class JwtService {
      * @return ID do usuário ou null se não disponível
      */
     public Long extractUserId(String token) {
-        return extractClaim(token, claims -> {
-            Object userId = claims.get("userId");
-            return userId != null ? Long.valueOf(userId.toString()) : null;
-        });
+        return extractClaim(token, JwtService::userIdClaim);
+    }
+
+    /**
+     * Lê o ID do usuário de claims já extraídas
+     * 
+     * @param claims Claims do token
+     * @return ID do usuário ou null se não disponível
+     */
+    public static Long userIdClaim(Claims claims) {
+        Object userId = claims.get("userId");
+        return userId != null ? Long.valueOf(userId.toString()) : null;
     }
     
     /**
@@ -1,10 +1,18 @@
 package com.tiagoreiz.projeto.Infra.Security;
 
+import com.tiagoreiz.projeto.Infra.Resilience.BulkheadPasswordEncoder;
+import com.tiagoreiz.projeto.Infra.Resilience.ExecutorBulkhead;
+import com.tiagoreiz.projeto.Infra.Resilience.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -12,10 +20,12 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -23,6 +33,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Configuração de segurança da aplicação usando Spring Security.
@@ -38,8 +51,13 @@ import java.util.List;
 public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ExecutorBulkhead authExecutorBulkhead;
     private final UserDetailsService userDetailsService;
     
+    @Value("${app.management.admin-emails:}")
+    private String[] managementAdminEmails;
+    
     /**
      * Configura a cadeia de filtros de segurança
      * 
@@ -53,6 +71,17 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authz -> authz
+                        // Dispatches assíncronos (streams SSE) já foram autorizados na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // Health, info e métricas do actuator são públicos para probes e scraping
+                        .requestMatchers(
+                                "/actuator/health",
+                                "/actuator/health/**",
+                                "/actuator/info",
+                                "/actuator/prometheus"
+                        ).permitAll()
+                        // Demais endpoints do actuator (jfr, hibernate, metrics) apenas para administradores
+                        .requestMatchers("/actuator/**").access(managementAccess())
                         // Endpoints públicos
                         .requestMatchers(
                                 "/api/auth/**",
@@ -60,7 +89,6 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/api-docs/**",
                                 "/v3/api-docs/**",
-                                "/actuator/**",
                                 "/",
                                 "/favicon.ico"
                         ).permitAll()
@@ -71,11 +99,36 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // O limite por usuário depende do userId resolvido pelo filtro JWT
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
     
+    /**
+     * Autoriza o acesso aos endpoints de gestão do actuator apenas para usuários
+     * autenticados cujo email esteja em app.management.admin-emails.
+     * Sem emails configurados, os endpoints ficam inacessíveis.
+     * 
+     * @return AuthorizationManager dos endpoints de gestão
+     */
+    private AuthorizationManager<RequestAuthorizationContext> managementAccess() {
+        Set<String> admins = Arrays.stream(managementAdminEmails)
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        return (authentication, context) -> {
+            Authentication current = authentication.get();
+            boolean allowed = current != null
+                    && current.isAuthenticated()
+                    && !(current instanceof AnonymousAuthenticationToken)
+                    && admins.contains(current.getName().toLowerCase(Locale.ROOT));
+            return new AuthorizationDecision(allowed);
+        };
+    }
+    
     /**
      * Configura o provedor de autenticação
      * 
@@ -102,13 +155,14 @@ public class SecurityConfig {
     }
     
     /**
-     * Configura o encoder de senhas
+     * Configura o encoder de senhas. O BCrypt roda no bulkhead de autenticação,
+     * para que rajadas de login não disputem CPU com as demais requisições.
      * 
      * @return PasswordEncoder configurado
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BulkheadPasswordEncoder(new BCryptPasswordEncoder(), authExecutorBulkhead);
     }
     
     /**
@@ -133,7 +187,10 @@ public class SecurityConfig {
         configuration.setAllowCredentials(true);
         
         // Headers expostos
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "ETag", "Idempotent-Replayed",
+                "X-SQL-Statement-Count", "X-SQL-Statement-Budget", "X-Request-ID", "Retry-After",
+                "RateLimit-Limit", "RateLimit-Remaining", "RateLimit-Reset", "RateLimit-Policy",
+                "Warning", "Age"));
         
         // Tempo de cache para requisições preflight
         configuration.setMaxAge(3600L);
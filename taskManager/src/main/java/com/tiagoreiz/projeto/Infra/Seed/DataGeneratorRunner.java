@@ -0,0 +1,311 @@
+package com.tiagoreiz.projeto.Infra.Seed;
+
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import com.tiagoreiz.projeto.Infra.Persistence.Repositories.PgCopyCsv;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de dados sintéticos para testes de volume, ativado pelo perfil "seed".
+ * Insere usuários e tarefas via COPY em várias conexões paralelas, com distribuição
+ * de tarefas por usuário em lei de potência e status, prioridades e datas variados.
+ *
+ * <pre>
+ * java -jar taskManager.jar --spring.profiles.active=seed --app.seed.users=100000 --app.seed.tasks=10000000
+ * </pre>
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private static final String COPY_USERS =
+            "COPY users (name, email, password, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String COPY_TASKS =
+            "COPY tasks (title, description, status, priority, due_date, completed_at, created_at, updated_at, user_id, version) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String SELECT_SEEDED_USERS =
+            "SELECT id FROM users WHERE email LIKE ? ORDER BY id";
+
+    private static final int COPY_BUFFER_SIZE = 256 * 1024;
+    private static final long PROGRESS_INTERVAL_SECONDS = 5;
+
+    private static final String[] VERBS = {"Review", "Write", "Fix", "Plan", "Update", "Test", "Deploy", "Refactor", "Document", "Prepare"};
+    private static final String[] SUBJECTS = {"report", "invoice", "release notes", "login page", "database backup",
+            "sprint board", "budget", "onboarding guide", "API client", "dashboard"};
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final Clock clock;
+    private final int users;
+    private final long tasks;
+    private final int threads;
+    private final double paretoAlpha;
+    private final long rowsPerCopy;
+    private final long randomSeed;
+    private final String password;
+    private final boolean exitOnCompletion;
+
+    private final AtomicLong tasksWritten = new AtomicLong();
+
+    public DataGeneratorRunner(DataSource dataSource,
+                               PasswordEncoder passwordEncoder,
+                               ConfigurableApplicationContext context,
+                               Clock clock,
+                               @Value("${app.seed.users:10000}") int users,
+                               @Value("${app.seed.tasks:1000000}") long tasks,
+                               @Value("${app.seed.threads:0}") int threads,
+                               @Value("${app.seed.pareto-alpha:1.16}") double paretoAlpha,
+                               @Value("${app.seed.rows-per-copy:500000}") long rowsPerCopy,
+                               @Value("${app.seed.random-seed:42}") long randomSeed,
+                               @Value("${app.seed.password:seed-password}") String password,
+                               @Value("${app.seed.exit-on-completion:true}") boolean exitOnCompletion) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.clock = clock;
+        this.users = users;
+        this.tasks = tasks;
+        this.threads = threads > 0 ? threads : Math.min(8, Runtime.getRuntime().availableProcessors());
+        this.paretoAlpha = paretoAlpha;
+        this.rowsPerCopy = rowsPerCopy;
+        this.randomSeed = randomSeed;
+        this.password = password;
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Seeding {} users and {} tasks with {} threads (pareto alpha {})", users, tasks, threads, paretoAlpha);
+        long start = System.nanoTime();
+
+        // Prefixo por execução para não colidir com emails de execuções anteriores
+        String emailPrefix = "seed-" + Long.toString(System.currentTimeMillis(), 36) + "-";
+        long[] userIds = insertUsers(emailPrefix);
+        log.info("Inserted {} users in {} ms", userIds.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        long[] taskCounts = TaskCountDistribution.allocate(userIds.length, tasks, paretoAlpha, random);
+        insertTasks(userIds, taskCounts, random);
+        analyze();
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Seeding finished: {} users, {} tasks in {} s ({} rows/s)",
+                userIds.length, tasksWritten.get(), elapsedMs / 1000,
+                elapsedMs == 0 ? tasksWritten.get() : tasksWritten.get() * 1000 / elapsedMs);
+
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    /**
+     * Insere os usuários em um único COPY e devolve seus IDs na ordem de inserção
+     */
+    private long[] insertUsers(String emailPrefix) throws SQLException, IOException {
+        // BCrypt é caro; todos os usuários gerados compartilham o mesmo hash
+        String encodedPassword = passwordEncoder.encode(password);
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+        SplittableRandom random = new SplittableRandom(randomSeed ^ 0x5DEECE66DL);
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (Writer writer = copyWriter(connection, COPY_USERS)) {
+                StringBuilder line = new StringBuilder(256);
+                for (int i = 0; i < users; i++) {
+                    LocalDateTime createdAt = now.minusMinutes(random.nextLong(2 * 365L * 24 * 60));
+                    PgCopyCsv.appendQuoted(line, "Seed User " + i).append(',');
+                    PgCopyCsv.appendQuoted(line, emailPrefix + i + "@example.com").append(',');
+                    PgCopyCsv.appendQuoted(line, encodedPassword).append(',');
+                    PgCopyCsv.appendTimestamp(line, createdAt).append(',');
+                    PgCopyCsv.appendTimestamp(line, createdAt).append('\n');
+                    writer.append(line);
+                    line.setLength(0);
+                }
+            }
+
+            long[] ids = new long[users];
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_SEEDED_USERS)) {
+                statement.setString(1, emailPrefix + "%");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    int i = 0;
+                    while (resultSet.next()) {
+                        ids[i++] = resultSet.getLong(1);
+                    }
+                }
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * Divide os usuários entre as threads; cada thread usa sua própria conexão e COPY
+     */
+    private void insertTasks(long[] userIds, long[] taskCounts, SplittableRandom random) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            executor.submit(this::reportProgress);
+
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                int worker = t;
+                SplittableRandom workerRandom = random.split();
+                futures.add(executor.submit(() -> {
+                    writeTaskPartition(userIds, taskCounts, worker, workerRandom);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeTaskPartition(long[] userIds, long[] taskCounts, int worker, SplittableRandom random)
+            throws SQLException, IOException {
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+        StringBuilder line = new StringBuilder(512);
+
+        try (Connection connection = dataSource.getConnection()) {
+            Writer writer = copyWriter(connection, COPY_TASKS);
+            long rowsInCopy = 0;
+            try {
+                for (int u = worker; u < userIds.length; u += threads) {
+                    for (long n = 0; n < taskCounts[u]; n++) {
+                        appendTask(line, userIds[u], now, random);
+                        writer.append(line);
+                        line.setLength(0);
+
+                        // COPYs limitados mantêm as transações curtas e permitem acompanhar o progresso
+                        if (++rowsInCopy == rowsPerCopy) {
+                            writer.close();
+                            tasksWritten.addAndGet(rowsInCopy);
+                            rowsInCopy = 0;
+                            writer = copyWriter(connection, COPY_TASKS);
+                        }
+                    }
+                }
+            } finally {
+                writer.close();
+            }
+            tasksWritten.addAndGet(rowsInCopy);
+        }
+    }
+
+    /**
+     * Gera uma tarefa: 60% pendentes, prioridades 30/50/20 (baixa/média/alta),
+     * 30% sem data de vencimento e as demais espalhadas em torno da criação,
+     * o que produz uma parcela de tarefas pendentes vencidas.
+     */
+    private static void appendTask(StringBuilder line, long userId, LocalDateTime now, SplittableRandom random) {
+        LocalDateTime createdAt = now.minusMinutes(random.nextLong(365L * 24 * 60));
+        long minutesSinceCreation = ChronoUnit.MINUTES.between(createdAt, now);
+        LocalDateTime updatedAt = createdAt.plusMinutes(random.nextLong(minutesSinceCreation + 1));
+
+        boolean completed = random.nextInt(100) >= 60;
+        LocalDateTime completedAt = completed ? updatedAt : null;
+
+        int priorityRoll = random.nextInt(100);
+        TaskPriority priority = priorityRoll < 30 ? TaskPriority.LOW
+                : priorityRoll < 80 ? TaskPriority.MEDIUM
+                : TaskPriority.HIGH;
+
+        LocalDateTime dueDate = null;
+        if (random.nextInt(100) >= 30) {
+            // Prazo exponencial com média de 14 dias após a criação
+            long dueInMinutes = (long) (-Math.log(1.0 - random.nextDouble()) * 14 * 24 * 60);
+            dueDate = createdAt.plusMinutes(dueInMinutes);
+        }
+
+        String verb = VERBS[random.nextInt(VERBS.length)];
+        String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        int descriptionRoll = random.nextInt(100);
+
+        PgCopyCsv.appendQuoted(line, verb + " " + subject).append(',');
+        if (descriptionRoll >= 20) {
+            PgCopyCsv.appendQuoted(line, verb + " the " + subject + " before the next review meeting").append(',');
+        } else {
+            line.append(',');
+        }
+        line.append(completed ? TaskStatus.COMPLETED.name() : TaskStatus.PENDING.name()).append(',');
+        line.append(priority.name()).append(',');
+        PgCopyCsv.appendTimestamp(line, dueDate).append(',');
+        PgCopyCsv.appendTimestamp(line, completedAt).append(',');
+        PgCopyCsv.appendTimestamp(line, createdAt).append(',');
+        PgCopyCsv.appendTimestamp(line, updatedAt).append(',');
+        line.append(userId).append(",0\n");
+    }
+
+    private void reportProgress() {
+        long last = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                TimeUnit.SECONDS.sleep(PROGRESS_INTERVAL_SECONDS);
+                long current = tasksWritten.get();
+                log.info("Seeded {} / {} tasks ({} rows/s)", current, tasks, (current - last) / PROGRESS_INTERVAL_SECONDS);
+                last = current;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Atualiza as estatísticas do planejador para que os planos reflitam o novo volume
+     */
+    private void analyze() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users");
+            statement.execute("ANALYZE tasks");
+        }
+    }
+
+    /**
+     * Abre um COPY FROM STDIN; fechar o writer conclui o COPY
+     */
+    private static Writer copyWriter(Connection connection, String sql) throws SQLException {
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, COPY_BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+    }
+}
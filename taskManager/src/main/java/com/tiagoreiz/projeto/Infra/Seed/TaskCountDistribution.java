@@ -0,0 +1,48 @@
+package com.tiagoreiz.projeto.Infra.Seed;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribui um total de tarefas entre usuários segundo uma lei de potência (Pareto):
+ * poucos usuários concentram muitas tarefas e a maioria tem poucas.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+final class TaskCountDistribution {
+
+    private TaskCountDistribution() {
+    }
+
+    /**
+     * Calcula quantas tarefas cada usuário recebe
+     *
+     * @param users Número de usuários
+     * @param totalTasks Total de tarefas a distribuir
+     * @param alpha Expoente da Pareto (menor = mais concentrado)
+     * @param random Gerador determinístico
+     * @return Quantidade de tarefas por usuário, somando exatamente totalTasks
+     */
+    static long[] allocate(int users, long totalTasks, double alpha, SplittableRandom random) {
+        double[] weights = new double[users];
+        double sum = 0;
+        for (int i = 0; i < users; i++) {
+            // Amostra Pareto com x_m = 1 pelo método da inversa
+            weights[i] = Math.pow(1.0 - random.nextDouble(), -1.0 / alpha);
+            sum += weights[i];
+        }
+
+        long[] counts = new long[users];
+        long assigned = 0;
+        for (int i = 0; i < users; i++) {
+            counts[i] = (long) Math.floor(totalTasks * (weights[i] / sum));
+            assigned += counts[i];
+        }
+
+        // O resto do arredondamento vai para usuários sorteados
+        for (long remaining = totalTasks - assigned; remaining > 0; remaining--) {
+            counts[random.nextInt(users)]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tiagoreiz.projeto.Infra.Time;
+
+import com.tiagoreiz.projeto.Core.Common.CoarseClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Relógio da aplicação, injetado nos componentes. Entidades, eventos e DTOs recebem o
+ * horário corrente de quem os cria, nunca de um relógio global.
+ *
+ * Com app.clock.coarse=true (padrão) o horário é reaproveitado dentro do mesmo
+ * milissegundo; com false cada leitura consulta o relógio do sistema.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${app.clock.coarse:true}") boolean coarse) {
+        return coarse ? new CoarseClock(Clock.systemDefaultZone()) : Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,69 @@
+package com.tiagoreiz.projeto.Adapters.Controllers;
+
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskVersionConflictException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Interpretação do cabeçalho If-Match nas alterações de tarefa
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class TaskControllerIfMatchTest {
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "   ", "*", " * "})
+    void missingHeaderOrWildcardSkipsTheVersionCheck(String ifMatch) {
+        assertThat(TaskController.parseIfMatch(ifMatch)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"3\"", " \"3\" ", "3"})
+    void strongEntityTagIsTheTaskVersion(String ifMatch) {
+        assertThat(TaskController.parseIfMatch(ifMatch)).isEqualTo(3L);
+    }
+
+    @Test
+    void entityTagSentByTheApiRoundTrips() {
+        String etag = ResponseEntity.ok().eTag(String.valueOf(42L)).build().getHeaders().getETag();
+
+        assertThat(etag).isEqualTo("\"42\"");
+        assertThat(TaskController.parseIfMatch(etag)).isEqualTo(42L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"3\"", " W/\"3\""})
+    void weakEntityTagNeverMatches(String ifMatch) {
+        assertThatThrownBy(() -> TaskController.parseIfMatch(ifMatch))
+                .isInstanceOfSatisfying(TaskVersionConflictException.class, e ->
+                        assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED))
+                .hasMessage("If-Match requires a strong entity tag");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"abc\"", "\"\"", "\"3", "\"1.5\"", "\"99999999999999999999\""})
+    void entityTagThatIsNotAVersionFailsThePrecondition(String ifMatch) {
+        assertThatThrownBy(() -> TaskController.parseIfMatch(ifMatch))
+                .isInstanceOfSatisfying(TaskVersionConflictException.class, e ->
+                        assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED))
+                .hasMessage("If-Match does not match the current task version");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"3\", \"4\"", "\"3\",W/\"4\""})
+    void listOfEntityTagsIsRejected(String ifMatch) {
+        assertThatThrownBy(() -> TaskController.parseIfMatch(ifMatch))
+                .isInstanceOf(TaskValidationException.class)
+                .hasMessage("If-Match must contain a single entity tag");
+    }
+}
@@ -0,0 +1,116 @@
+package com.tiagoreiz.projeto.Adapters.DTOs;
+
+import com.tiagoreiz.projeto.Adapters.Mappers.TaskMapper;
+import com.tiagoreiz.projeto.Core.Common.CoarseClock;
+import com.tiagoreiz.projeto.Core.Common.TimeProvider;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regras de isOverdue e daysUntilDue avaliadas com um relógio fixo
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class TaskResponseDerivedFieldsTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-10T15:00:00Z"), ZONE);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    private final TaskMapper taskMapper = TaskMapper.INSTANCE;
+
+    @Test
+    void nowFollowsTheClockZone() {
+        assertThat(TimeProvider.now(CLOCK)).isEqualTo(NOW);
+        assertThat(TimeProvider.now(new CoarseClock(CLOCK))).isEqualTo(NOW);
+    }
+
+    @Test
+    void pendingTaskPastDueIsOverdue() {
+        TaskResponse response = taskMapper.toResponse(task(TaskStatus.PENDING, NOW.minusDays(3).minusHours(1)), NOW);
+
+        assertThat(response.getIsOverdue()).isTrue();
+        assertThat(response.getDaysUntilDue()).isEqualTo(-3L);
+    }
+
+    @Test
+    void pendingTaskDueLaterCountsWholeDays() {
+        TaskResponse response = taskMapper.toResponse(task(TaskStatus.PENDING, NOW.plusHours(47)), NOW);
+
+        assertThat(response.getIsOverdue()).isFalse();
+        assertThat(response.getDaysUntilDue()).isEqualTo(1L);
+    }
+
+    @Test
+    void pendingTaskDueExactlyNowIsNotOverdue() {
+        TaskResponse response = taskMapper.toResponse(task(TaskStatus.PENDING, NOW), NOW);
+
+        assertThat(response.getIsOverdue()).isFalse();
+        assertThat(response.getDaysUntilDue()).isZero();
+    }
+
+    @Test
+    void pendingTaskLessThanOneDayLateIsOverdueWithZeroDays() {
+        TaskResponse response = taskMapper.toResponse(task(TaskStatus.PENDING, NOW.minusHours(1)), NOW);
+
+        assertThat(response.getIsOverdue()).isTrue();
+        assertThat(response.getDaysUntilDue()).isZero();
+    }
+
+    @Test
+    void completedTaskPastDueIsNotOverdue() {
+        TaskResponse response = taskMapper.toResponse(task(TaskStatus.COMPLETED, NOW.minusDays(5)), NOW);
+
+        assertThat(response.getIsOverdue()).isFalse();
+        assertThat(response.getDaysUntilDue()).isNull();
+    }
+
+    @Test
+    void taskWithoutDueDateIsNeverOverdue() {
+        TaskResponse response = taskMapper.toResponse(task(TaskStatus.PENDING, null), NOW);
+
+        assertThat(response.getIsOverdue()).isFalse();
+        assertThat(response.getDaysUntilDue()).isNull();
+    }
+
+    @Test
+    void listUsesTheSameInstantForEveryTask() {
+        List<TaskResponse> responses = taskMapper.toResponseList(List.of(
+                task(TaskStatus.PENDING, NOW.minusSeconds(1)),
+                task(TaskStatus.PENDING, NOW.plusDays(10))), NOW);
+
+        assertThat(responses).extracting(TaskResponse::getIsOverdue).containsExactly(true, false);
+        assertThat(responses).extracting(TaskResponse::getDaysUntilDue).containsExactly(0L, 10L);
+    }
+
+    @Test
+    void entityAndResponseAgreeOnOverdue() {
+        Task overdue = task(TaskStatus.PENDING, NOW.minusMinutes(1));
+        Task completed = task(TaskStatus.PENDING, NOW.minusMinutes(1));
+        completed.complete(NOW);
+
+        assertThat(overdue.isOverdue(NOW)).isTrue();
+        assertThat(completed.isOverdue(NOW)).isFalse();
+        assertThat(completed.getCompletedAt()).isEqualTo(NOW);
+        assertThat(TaskResponse.isOverdue(overdue.getStatus(), overdue.getDueDate(), NOW)).isTrue();
+        assertThat(TaskResponse.isOverdue(completed.getStatus(), completed.getDueDate(), NOW)).isFalse();
+    }
+
+    private static Task task(TaskStatus status, LocalDateTime dueDate) {
+        Task task = new Task("Relatório", null, TaskPriority.MEDIUM, dueDate, 7L, NOW.minusDays(30));
+        task.setId(1L);
+        task.setStatus(status);
+        return task;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tiagoreiz.projeto.Adapters.Mappers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Conversão de JSON Merge Patch em TaskPatch: campo ausente, campo null e documentos inválidos
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class TaskMergePatchMapperTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TaskMergePatchMapper mapper = new TaskMergePatchMapper();
+
+    @Test
+    void absentFieldIsNotSetAndNullFieldIsCleared() throws Exception {
+        TaskPatch patch = mapper.toPatch(json("{\"description\":null,\"title\":\"Novo\"}"));
+
+        assertThat(patch.isTitleSet()).isTrue();
+        assertThat(patch.getTitle()).isEqualTo("Novo");
+        assertThat(patch.isDescriptionSet()).isTrue();
+        assertThat(patch.getDescription()).isNull();
+        assertThat(patch.isPrioritySet()).isFalse();
+        assertThat(patch.isDueDateSet()).isFalse();
+    }
+
+    @Test
+    void emptyDocumentIsAnEmptyPatch() throws Exception {
+        assertThat(mapper.toPatch(json("{}")).isEmpty()).isTrue();
+    }
+
+    @Test
+    void priorityIsCaseInsensitiveAndDueDateIsIsoLocal() throws Exception {
+        TaskPatch patch = mapper.toPatch(json("{\"priority\":\"high\",\"dueDate\":\"2024-03-12T18:30:00\"}"));
+
+        assertThat(patch.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(patch.getDueDate()).isEqualTo(LocalDateTime.of(2024, 3, 12, 18, 30));
+    }
+
+    @Test
+    void documentMustBeAnObject() {
+        assertThatInvalid("[]", "Merge patch document must be a JSON object");
+        assertThatInvalid("\"title\"", "Merge patch document must be a JSON object");
+        assertThatThrownBy(() -> mapper.toPatch(null)).isInstanceOf(TaskValidationException.class);
+    }
+
+    @Test
+    void fieldsOutsideTheWhitelistAreRejected() {
+        assertThatInvalid("{\"status\":\"COMPLETED\"}", "Field 'status' cannot be patched");
+        assertThatInvalid("{\"userId\":8}", "Field 'userId' cannot be patched");
+    }
+
+    @Test
+    void invalidValuesAreRejected() {
+        assertThatInvalid("{\"title\":42}", "Field 'title' must be a string");
+        assertThatInvalid("{\"priority\":\"urgent\"}", "Invalid priority: urgent");
+        assertThatInvalid("{\"dueDate\":\"12/03/2024\"}", "Invalid due date: 12/03/2024");
+    }
+
+    private void assertThatInvalid(String document, String message) {
+        assertThatThrownBy(() -> mapper.toPatch(json(document)))
+                .isInstanceOf(TaskValidationException.class)
+                .hasMessage(message);
+    }
+
+    private JsonNode json(String document) throws Exception {
+        return objectMapper.readTree(document);
+    }
+}
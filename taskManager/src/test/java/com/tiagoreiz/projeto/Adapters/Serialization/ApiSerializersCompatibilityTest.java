@@ -0,0 +1,168 @@
+package com.tiagoreiz.projeto.Adapters.Serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tiagoreiz.projeto.Adapters.DTOs.ErrorResponse;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskResponse;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que os serializadores escritos à mão (app.jackson.tuned=true) produzem o mesmo JSON
+ * que o Jackson gera com a configuração do Spring Boot (app.jackson.tuned=false).
+ * Os dois ObjectMappers saem do JacksonAutoConfiguration, como na aplicação, e são comparados
+ * com o JSON esperado, byte a byte.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class ApiSerializersCompatibilityTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(JacksonTuningConfig.class);
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void taskResponseWithAllFields(boolean tuned) {
+        TaskResponse response = task(LocalDateTime.of(2024, 3, 5, 7, 8, 9),
+                LocalDateTime.of(2024, 3, 5, 7, 8, 9, 123_000_000),
+                LocalDateTime.of(2024, 12, 31, 23, 59, 0, 1),
+                LocalDateTime.of(2024, 3, 6, 0, 0, 0, 120_000));
+
+        assertSerializes(tuned, response, """
+                {"id":42,"title":"Relatório \\"Q1\\"","description":"linha 1\\nlinha 2","status":"PENDING",\
+                "priority":"HIGH","createdAt":"2024-03-05T07:08:09","updatedAt":"2024-03-05T07:08:09.123",\
+                "dueDate":"2024-12-31T23:59:00.000000001","completedAt":"2024-03-06T00:00:00.00012",\
+                "userId":7,"version":3,"isOverdue":false,"daysUntilDue":301}""");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void taskResponseWithYearsOutsideFastPath(boolean tuned) {
+        TaskResponse response = task(LocalDateTime.of(0, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 6, 15, 12, 30, 45),
+                LocalDateTime.of(10000, 1, 1, 0, 0, 0, 500_000_000),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999));
+
+        assertSerializes(tuned, response, """
+                {"id":42,"title":"Relatório \\"Q1\\"","description":"linha 1\\nlinha 2","status":"PENDING",\
+                "priority":"HIGH","createdAt":"0000-01-01T00:00:00","updatedAt":"-0001-06-15T12:30:45",\
+                "dueDate":"+10000-01-01T00:00:00.5","completedAt":"9999-12-31T23:59:59.999999999",\
+                "userId":7,"version":3,"isOverdue":false,"daysUntilDue":301}""");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void taskResponseWithNulls(boolean tuned) {
+        assertSerializes(tuned, new TaskResponse(), """
+                {"id":null,"title":null,"description":null,"status":null,"priority":null,"createdAt":null,\
+                "updatedAt":null,"dueDate":null,"completedAt":null,"userId":null,"version":null,\
+                "isOverdue":null,"daysUntilDue":null}""");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void taskResponseList(boolean tuned) {
+        TaskResponse completed = new TaskResponse();
+        completed.setId(1L);
+        completed.setStatus(TaskStatus.COMPLETED);
+        completed.setIsOverdue(true);
+
+        assertSerializes(tuned, List.of(completed, new TaskResponse()), """
+                [{"id":1,"title":null,"description":null,"status":"COMPLETED","priority":null,"createdAt":null,\
+                "updatedAt":null,"dueDate":null,"completedAt":null,"userId":null,"version":null,\
+                "isOverdue":true,"daysUntilDue":null},\
+                {"id":null,"title":null,"description":null,"status":null,"priority":null,"createdAt":null,\
+                "updatedAt":null,"dueDate":null,"completedAt":null,"userId":null,"version":null,\
+                "isOverdue":null,"daysUntilDue":null}]""");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void errorResponseWithValidationErrors(boolean tuned) {
+        ErrorResponse response = new ErrorResponse("Validation failed", "VALIDATION_ERROR", 400,
+                LocalDateTime.of(2024, 3, 5, 7, 8, 9, 987_654_321), "/api/tasks",
+                Arrays.asList(
+                        new ErrorResponse.ValidationError("title", "must not be blank", ""),
+                        new ErrorResponse.ValidationError("priority", "invalid value", 12),
+                        new ErrorResponse.ValidationError("dueDate", "must be in the future",
+                                LocalDateTime.of(2020, 1, 2, 3, 4, 5, 600_000_000)),
+                        new ErrorResponse.ValidationError("tags", null, List.of("a", "b")),
+                        new ErrorResponse.ValidationError(null, "unknown", null)));
+
+        assertSerializes(tuned, response, """
+                {"message":"Validation failed","errorCode":"VALIDATION_ERROR","status":400,\
+                "timestamp":"2024-03-05 07:08:09","path":"/api/tasks","validationErrors":[\
+                {"field":"title","message":"must not be blank","rejectedValue":""},\
+                {"field":"priority","message":"invalid value","rejectedValue":12},\
+                {"field":"dueDate","message":"must be in the future","rejectedValue":"2020-01-02T03:04:05.6"},\
+                {"field":"tags","message":null,"rejectedValue":["a","b"]},\
+                {"field":null,"message":"unknown","rejectedValue":null}]}""");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void errorResponseWithYearsOutsideFastPath(boolean tuned) {
+        ErrorResponse response = new ErrorResponse("Overloaded", "OVERLOADED", 503,
+                LocalDateTime.of(10000, 2, 3, 4, 5, 6), null, null);
+
+        assertSerializes(tuned, response, """
+                {"message":"Overloaded","errorCode":"OVERLOADED","status":503,\
+                "timestamp":"+10000-02-03 04:05:06","path":null,"validationErrors":null}""");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void errorResponseWithNulls(boolean tuned) {
+        assertSerializes(tuned, new ErrorResponse(), """
+                {"message":null,"errorCode":null,"status":0,"timestamp":null,"path":null,\
+                "validationErrors":null}""");
+    }
+
+    @Test
+    void tunedMapperRegistersHandWrittenSerializers() {
+        contextRunner.withPropertyValues("app.jackson.tuned=true").run(context ->
+                assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds())
+                        .contains("TaskmasterApiSerializers"));
+        contextRunner.withPropertyValues("app.jackson.tuned=false").run(context ->
+                assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds())
+                        .doesNotContain("TaskmasterApiSerializers"));
+    }
+
+    private void assertSerializes(boolean tuned, Object value, String expectedJson) {
+        contextRunner.withPropertyValues("app.jackson.tuned=" + tuned).run(context ->
+                assertThat(context.getBean(ObjectMapper.class).writeValueAsString(value))
+                        .isEqualTo(expectedJson));
+    }
+
+    private static TaskResponse task(LocalDateTime createdAt, LocalDateTime updatedAt,
+                                     LocalDateTime dueDate, LocalDateTime completedAt) {
+        TaskResponse response = new TaskResponse();
+        response.setId(42L);
+        response.setTitle("Relatório \"Q1\"");
+        response.setDescription("linha 1\nlinha 2");
+        response.setStatus(TaskStatus.PENDING);
+        response.setPriority(TaskPriority.HIGH);
+        response.setCreatedAt(createdAt);
+        response.setUpdatedAt(updatedAt);
+        response.setDueDate(dueDate);
+        response.setCompletedAt(completedAt);
+        response.setUserId(7L);
+        response.setVersion(3L);
+        response.setIsOverdue(false);
+        response.setDaysUntilDue(301L);
+        return response;
+    }
+}
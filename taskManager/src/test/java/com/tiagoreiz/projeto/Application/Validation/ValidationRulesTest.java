@@ -0,0 +1,105 @@
+package com.tiagoreiz.projeto.Application.Validation;
+
+import com.tiagoreiz.projeto.Adapters.DTOs.LoginRequest;
+import com.tiagoreiz.projeto.Adapters.DTOs.TaskRequest;
+import com.tiagoreiz.projeto.Adapters.DTOs.UserRegistrationRequest;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Validation.ValidationResult;
+import com.tiagoreiz.projeto.Core.Validation.Validator;
+import com.tiagoreiz.projeto.Core.Validation.Violation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Mensagens e limites das regras compartilhadas pelos casos de uso,
+ * que precisam permanecer iguais às respostas de erro já publicadas pela API
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class ValidationRulesTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    private final Validator<TaskRequest> taskRequest = ValidationRules.taskRequest(CLOCK);
+    private final Validator<TaskPatch> taskPatch = ValidationRules.taskPatch(CLOCK);
+
+    @Test
+    void validTaskRequestPasses() {
+        assertThat(taskRequest.validate(new TaskRequest("Relatório", "texto", TaskPriority.HIGH, NOW)).isValid()).isTrue();
+        assertThat(taskRequest.validate(new TaskRequest("abc", "d".repeat(2000), TaskPriority.LOW, null)).isValid()).isTrue();
+    }
+
+    @Test
+    void invalidTaskRequestReportsEveryFieldInOrder() {
+        ValidationResult result = taskRequest.validate(
+                new TaskRequest("ab", "d".repeat(2001), null, NOW.minusSeconds(1)));
+
+        assertThat(result.getViolations()).extracting(Violation::field, Violation::message).containsExactly(
+                tuple("title", "Title must be between 3 and 200 characters"),
+                tuple("description", "Description must not exceed 2000 characters"),
+                tuple("priority", "Priority cannot be null"),
+                tuple("dueDate", "Due date cannot be in the past"));
+    }
+
+    @Test
+    void missingTitleStopsAtTheFirstTitleRule() {
+        assertThat(taskRequest.validate(new TaskRequest(null, null, TaskPriority.LOW, null)).getViolations())
+                .extracting(Violation::message)
+                .containsExactly("Title cannot be null or empty");
+        assertThat(taskRequest.validate(null).getFirstMessage()).isEqualTo("Task request cannot be null");
+    }
+
+    @Test
+    void patchOnlyValidatesPresentFields() {
+        assertThat(taskPatch.validate(new TaskPatch()).isValid()).isTrue();
+        assertThat(taskPatch.validate(new TaskPatch().description(null).dueDate(null)).isValid()).isTrue();
+        assertThat(taskPatch.validate(new TaskPatch().title(null)).getFirstMessage())
+                .isEqualTo("Title cannot be null or empty");
+        assertThat(taskPatch.validate(new TaskPatch().priority(null)).getFirstMessage())
+                .isEqualTo("Priority cannot be null");
+        assertThat(taskPatch.validate(new TaskPatch().dueDate(NOW.minusDays(1))).getFirstMessage())
+                .isEqualTo("Due date cannot be in the past");
+    }
+
+    @Test
+    void identifiersMustBePositive() {
+        assertThat(ValidationRules.TASK_ID.validate(1L).isValid()).isTrue();
+        assertThat(ValidationRules.TASK_ID.validate(0L).getFirstMessage()).isEqualTo("Task ID must be a positive number");
+        assertThat(ValidationRules.TASK_ID.validate(null).getFirstMessage()).isEqualTo("Task ID must be a positive number");
+        assertThat(ValidationRules.USER_ID.validate(-1L).getFirstMessage()).isEqualTo("User ID must be a positive number");
+        assertThat(ValidationRules.USER_ID.validate(null).getFirstMessage()).isEqualTo("User ID cannot be null");
+    }
+
+    @Test
+    void loginRequiresWellFormedEmailAndPassword() {
+        assertThat(ValidationRules.LOGIN_REQUEST.validate(new LoginRequest("ana@example.com", "segredo")).isValid()).isTrue();
+        assertThat(ValidationRules.LOGIN_REQUEST.validate(new LoginRequest("ana@example", " ")).getViolations())
+                .extracting(Violation::message)
+                .containsExactly("Email format is invalid", "Password cannot be null or empty");
+    }
+
+    @Test
+    void registrationEnforcesLengthLimits() {
+        String longEmail = "a".repeat(140) + "@example.com";
+
+        assertThat(ValidationRules.REGISTRATION_REQUEST.validate(
+                new UserRegistrationRequest("Ana", "ana@example.com", "123456")).isValid()).isTrue();
+        assertThat(ValidationRules.REGISTRATION_REQUEST.validate(
+                new UserRegistrationRequest("A", longEmail, "12345")).getViolations())
+                .extracting(Violation::message)
+                .containsExactly(
+                        "Name must be between 2 and 100 characters",
+                        "Email must not exceed 150 characters",
+                        "Password must be between 6 and 100 characters");
+    }
+}
@@ -0,0 +1,94 @@
+package com.tiagoreiz.projeto.Core.Validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Semântica do validador declarativo: ordem das violações, parada na primeira regra
+ * violada de cada campo, campos condicionais e regras que aceitam null
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class ValidatorTest {
+
+    private record Sample(String name, String code, Long amount, boolean codeSet) {
+    }
+
+    private final Validator<Sample> validator = Validator.<Sample>builder()
+            .nullMessage("Sample cannot be null")
+            .field("name", Sample::name, f -> f
+                    .notBlank("Name is required")
+                    .length(3, 5, "Name must have 3 to 5 characters"))
+            .fieldIf("code", Sample::codeSet, Sample::code, f -> f
+                    .notNull("Code cannot be null")
+                    .matches(Pattern.compile("[A-Z]{2}"), "Code must be two capital letters"))
+            .field("amount", Sample::amount, f -> f
+                    .range(1, 10, "Amount must be between 1 and 10"))
+            .build();
+
+    @Test
+    void validObjectSharesTheSingleValidResult() {
+        ValidationResult result = validator.validate(new Sample("Ana", "BR", 5L, true));
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result).isSameAs(ValidationResult.valid());
+        assertThat(result.getFirstMessage()).isNull();
+    }
+
+    @Test
+    void nullTargetReportsTheNullMessage() {
+        ValidationResult result = validator.validate(null);
+
+        assertThat(result.getViolations()).containsExactly(new Violation(null, "Sample cannot be null", null));
+    }
+
+    @Test
+    void violationsFollowDeclarationOrderWithOnePerField() {
+        ValidationResult result = validator.validate(new Sample(" ", "br", 11L, true));
+
+        assertThat(result.getViolations()).containsExactly(
+                new Violation("name", "Name is required", " "),
+                new Violation("code", "Code must be two capital letters", "br"),
+                new Violation("amount", "Amount must be between 1 and 10", 11L));
+        assertThat(result.getFirstMessage()).isEqualTo("Name is required");
+    }
+
+    @Test
+    void lengthBoundsAreInclusive() {
+        assertThat(validator.validate(new Sample("Bia", null, null, false)).isValid()).isTrue();
+        assertThat(validator.validate(new Sample("Bruna", null, null, false)).isValid()).isTrue();
+        assertThat(validator.validate(new Sample("Jo", null, null, false)).getFirstMessage())
+                .isEqualTo("Name must have 3 to 5 characters");
+        assertThat(validator.validate(new Sample("Mariana", null, null, false)).getFirstMessage())
+                .isEqualTo("Name must have 3 to 5 characters");
+    }
+
+    @Test
+    void conditionalFieldIsOnlyCheckedWhenPresent() {
+        assertThat(validator.validate(new Sample("Ana", null, null, false)).isValid()).isTrue();
+        assertThat(validator.validate(new Sample("Ana", null, null, true)).getViolations())
+                .extracting(Violation::message)
+                .containsExactly("Code cannot be null");
+    }
+
+    @Test
+    void blankMeansOnlyControlAndSpaceCharacters() {
+        assertThat(validator.validate(new Sample("\t\n ", null, null, false)).getFirstMessage())
+                .isEqualTo("Name is required");
+        assertThat(validator.validate(new Sample(" Zé ", null, null, false)).isValid()).isTrue();
+    }
+
+    @Test
+    void resultsCombineInOrder() {
+        ValidationResult first = ValidationResult.of(new Violation("a", "first", null));
+        ValidationResult second = ValidationResult.of(new Violation("b", "second", null));
+
+        assertThat(first.and(second).getViolations()).extracting(Violation::message).containsExactly("first", "second");
+        assertThat(first.and(ValidationResult.valid())).isSameAs(first);
+        assertThat(ValidationResult.valid().and(second)).isSameAs(second);
+    }
+}
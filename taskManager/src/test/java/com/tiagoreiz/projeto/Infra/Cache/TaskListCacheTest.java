@@ -0,0 +1,222 @@
+package com.tiagoreiz.projeto.Infra.Cache;
+
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Events.ClusterResyncEvent;
+import com.tiagoreiz.projeto.Infra.Resilience.CircuitBreaker;
+import com.tiagoreiz.projeto.Infra.Resilience.TaskRepositoryCircuitBreakerAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cache stale-while-revalidate das listagens: cópia fresca, recarga dentro do prazo,
+ * cópia antiga servida quando o banco demora, falha ou está com o circuito aberto, e limite em bytes
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class TaskListCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+    private static final TaskListCache.Key KEY = new TaskListCache.Key(7L, null, null, null);
+    private static final TaskListCache.Key OTHER_USER = new TaskListCache.Key(8L, null, null, null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("TaskRepository", 1, 1, 1.0,
+            TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(200), 1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private TaskListCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.destroy();
+        }
+    }
+
+    @Test
+    void freshCopyIsServedWithoutLoading() {
+        cache = cache(true, Duration.ofHours(1), 1 << 20);
+
+        TaskListCache.Lookup first = cache.get(KEY, loader("Relatório"));
+        TaskListCache.Lookup second = cache.get(KEY, loader("Outra"));
+
+        assertThat(second.tasks()).isSameAs(first.tasks());
+        assertThat(second.stale()).isFalse();
+        assertThat(loads).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(1.0);
+        assertThat(requests("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void userChangeRefreshesOnlyThatUsersLists() {
+        cache = cache(true, Duration.ofHours(1), 1 << 20);
+        cache.get(KEY, loader("Relatório"));
+        cache.get(OTHER_USER, loader("Relatório"));
+
+        cache.invalidateUser(7L);
+
+        assertThat(titles(cache.get(KEY, loader("Atualizada")))).containsExactly("Atualizada");
+        assertThat(titles(cache.get(OTHER_USER, loader("Outra")))).containsExactly("Relatório");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void clusterResyncMakesEveryListStale() {
+        cache = cache(true, Duration.ofHours(1), 1 << 20);
+        cache.get(KEY, loader("Relatório"));
+
+        cache.onClusterResync(new ClusterResyncEvent(NOW));
+
+        assertThat(titles(cache.get(KEY, loader("Atualizada")))).containsExactly("Atualizada");
+    }
+
+    @Test
+    void slowRefreshServesTheOldCopyAndCompletesInBackground() throws Exception {
+        cache = cache(true, Duration.ofHours(1), 1 << 20);
+        cache.get(KEY, loader("Relatório"));
+        cache.invalidateUser(7L);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<Task>> slow = () -> {
+            await(release);
+            return loader("Atualizada").get();
+        };
+
+        TaskListCache.Lookup stale = cache.get(KEY, slow);
+        release.countDown();
+
+        assertThat(stale.stale()).isTrue();
+        assertThat(titles(stale)).containsExactly("Relatório");
+        assertThat(requests("stale")).isEqualTo(1.0);
+        assertThat(titles(awaitFresh())).containsExactly("Atualizada");
+    }
+
+    @Test
+    void databaseFailureDuringRefreshServesTheOldCopy() {
+        cache = cache(true, Duration.ofHours(1), 1 << 20);
+        cache.get(KEY, loader("Relatório"));
+        cache.invalidateUser(7L);
+
+        TaskListCache.Lookup lookup = cache.get(KEY, () -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        });
+
+        assertThat(lookup.stale()).isTrue();
+        assertThat(titles(lookup)).containsExactly("Relatório");
+    }
+
+    @Test
+    void unexpectedRefreshFailureIsPropagated() {
+        cache = cache(true, Duration.ofHours(1), 1 << 20);
+        cache.get(KEY, loader("Relatório"));
+        cache.invalidateUser(7L);
+
+        assertThatThrownBy(() -> cache.get(KEY, () -> {
+            throw new IllegalStateException("mapping bug");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("mapping bug");
+    }
+
+    @Test
+    void openCircuitServesTheOldCopyAndRefreshesOnceItCloses() throws Exception {
+        cache = cache(true, Duration.ofHours(1), 1 << 20);
+        cache.get(KEY, loader("Relatório"));
+        cache.invalidateUser(7L);
+        circuitBreaker.record(0, true);
+
+        TaskListCache.Lookup lookup = cache.get(KEY, loader("Atualizada"));
+
+        assertThat(lookup.stale()).isTrue();
+        assertThat(loads).hasValue(1);
+
+        cache.refreshPending();
+        assertThat(loads).hasValue(1);
+
+        TimeUnit.MILLISECONDS.sleep(250);
+        cache.refreshPending();
+        assertThat(titles(awaitFresh())).containsExactly("Atualizada");
+    }
+
+    @Test
+    void sizeIsBoundedByTheByteBudget() {
+        // Uma listagem com uma tarefa de título curto ocupa cerca de 300 bytes
+        cache = cache(true, Duration.ofHours(1), 400);
+
+        cache.get(KEY, loader("A"));
+        cache.get(OTHER_USER, loader("B"));
+        cache.get(KEY, loader("C"));
+
+        assertThat(titles(cache.get(KEY, loader("D")))).containsExactly("C");
+        assertThat(loads).hasValue(3);
+        assertThat(meterRegistry.get("taskmaster.taskcache.entries").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("taskmaster.taskcache.bytes").gauge().value()).isLessThanOrEqualTo(400.0);
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        cache = cache(false, Duration.ofHours(1), 1 << 20);
+
+        cache.get(KEY, loader("Relatório"));
+        cache.get(KEY, loader("Relatório"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private TaskListCache cache(boolean enabled, Duration freshTtl, long maxBytes) {
+        TaskRepositoryCircuitBreakerAspect aspect = mock(TaskRepositoryCircuitBreakerAspect.class);
+        when(aspect.getCircuitBreaker()).thenReturn(circuitBreaker);
+        return new TaskListCache(aspect, meterRegistry, enabled, maxBytes, freshTtl, Duration.ofMinutes(10),
+                Duration.ofMillis(100), 1, 10, 20);
+    }
+
+    private Supplier<List<Task>> loader(String title) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(new Task(title, null, TaskPriority.MEDIUM, null, 7L, NOW));
+        };
+    }
+
+    private TaskListCache.Lookup awaitFresh() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            TaskListCache.Lookup lookup = cache.get(KEY, () -> {
+                throw new DataAccessResourceFailureException("still refreshing");
+            });
+            if (!lookup.stale()) {
+                return lookup;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        throw new AssertionError("Background refresh did not complete");
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("taskmaster.taskcache.requests").tag("result", result).counter().count();
+    }
+
+    private static List<String> titles(TaskListCache.Lookup lookup) {
+        return lookup.tasks().stream().map(Task::getTitle).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.tiagoreiz.projeto.Infra.Idempotency;
+
+import com.tiagoreiz.projeto.Core.Exceptions.IdempotencyKeyConflictException;
+import com.tiagoreiz.projeto.Core.Exceptions.TaskValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Máquina de estados da Idempotency-Key (reserva, conclusão, liberação e repetição)
+ * sobre o InMemoryIdempotencyStore, com um gerenciador de transações que pode falhar no commit.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class IdempotencyServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-10T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final Long USER_ID = 7L;
+    private static final String KEY = "create-report";
+    private static final byte[] BODY = "{\"title\":\"Relatório\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final FakeTransactionManager transactionManager = new FakeTransactionManager();
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(CLOCK, 100);
+    private final IdempotencyService service = new IdempotencyService(store, new TransactionTemplate(transactionManager),
+            CLOCK, Duration.ofHours(24), Duration.ofSeconds(30), 200, 10);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void repeatedRequestIsReplayedWithoutRunningAgain() {
+        IdempotencyService.Outcome first = service.execute(USER_ID, KEY, BODY, this::created);
+        IdempotencyService.Outcome second = service.execute(USER_ID, KEY, BODY, this::created);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.response()).isEqualTo(first.response());
+        assertThat(second.response().status()).isEqualTo(201);
+        assertThat(second.response().etag()).isEqualTo("\"1\"");
+        assertThat(second.response().expiresAt()).isEqualTo(NOW.plus(Duration.ofHours(24)));
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        service.execute(USER_ID, KEY, BODY, this::created);
+
+        assertThatThrownBy(() -> service.execute(USER_ID, KEY, "{}".getBytes(StandardCharsets.UTF_8), this::created))
+                .isInstanceOfSatisfying(IdempotencyKeyConflictException.class, e ->
+                        assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void keysAreIsolatedPerUser() {
+        service.execute(USER_ID, KEY, BODY, this::created);
+        IdempotencyService.Outcome otherUser = service.execute(8L, KEY, BODY, this::created);
+
+        assertThat(otherUser.replayed()).isFalse();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void failedOperationReleasesTheKey() {
+        assertThatThrownBy(() -> service.execute(USER_ID, KEY, BODY, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.find(USER_ID + ":" + KEY)).isEmpty();
+        assertThat(service.execute(USER_ID, KEY, BODY, this::created).replayed()).isFalse();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void nonSuccessResponseIsNotStored() {
+        IdempotencyService.Outcome rejected = service.execute(USER_ID, KEY, BODY, () -> {
+            executions.incrementAndGet();
+            return new IdempotencyService.Response(400, null, "{\"message\":\"invalid\"}");
+        });
+
+        assertThat(rejected.response().status()).isEqualTo(400);
+        assertThat(store.find(USER_ID + ":" + KEY)).isEmpty();
+        assertThat(service.execute(USER_ID, KEY, BODY, this::created).response().status()).isEqualTo(201);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void failedCommitReleasesTheKeyInsteadOfStoringTheResponse() {
+        transactionManager.failCommit = true;
+
+        assertThatThrownBy(() -> service.execute(USER_ID, KEY, BODY, this::created))
+                .isInstanceOf(TransactionSystemException.class);
+        assertThat(store.find(USER_ID + ":" + KEY)).isEmpty();
+
+        transactionManager.failCommit = false;
+        IdempotencyService.Outcome retried = service.execute(USER_ID, KEY, BODY, this::created);
+        assertThat(retried.replayed()).isFalse();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void responseBecomesVisibleOnlyAfterCommit() {
+        String key = USER_ID + ":" + KEY;
+        transactionManager.beforeCommit = () ->
+                assertThat(store.find(key)).get().satisfies(stored -> assertThat(stored.isPending()).isTrue());
+
+        service.execute(USER_ID, KEY, BODY, this::created);
+
+        assertThat(store.find(key)).get().satisfies(stored -> assertThat(stored.status()).isEqualTo(201));
+    }
+
+    @Test
+    void reservationHeldElsewhereEndsWithConflictAfterWaiting() {
+        store.reserve(USER_ID + ":" + KEY, "other-node", IdempotentResponse.pending(fingerprint(BODY), NOW.plusSeconds(30)));
+
+        assertThatThrownBy(() -> service.execute(USER_ID, KEY, BODY, this::created))
+                .isInstanceOfSatisfying(IdempotencyKeyConflictException.class, e ->
+                        assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void expiredReservationIsTakenOver() {
+        store.reserve(USER_ID + ":" + KEY, "crashed-node", IdempotentResponse.pending(fingerprint(BODY), NOW));
+
+        assertThat(service.execute(USER_ID, KEY, BODY, this::created).replayed()).isFalse();
+        assertThat(store.complete(USER_ID + ":" + KEY, "crashed-node", IdempotentResponse.pending("x", NOW))).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void concurrentRequestWaitsForTheFirstAndGetsItsResponse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IdempotencyService slowService = new IdempotencyService(store, new TransactionTemplate(transactionManager),
+                CLOCK, Duration.ofHours(24), Duration.ofSeconds(30), 5000, 10);
+
+        CompletableFuture<IdempotencyService.Outcome> leader = CompletableFuture.supplyAsync(() ->
+                slowService.execute(USER_ID, KEY, BODY, () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<IdempotencyService.Outcome> follower = CompletableFuture.supplyAsync(() ->
+                slowService.execute(USER_ID, KEY, BODY, this::created));
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        assertThat(follower.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void blankOrOversizedKeyIsRejected() {
+        assertThatThrownBy(() -> service.execute(USER_ID, " ", BODY, this::created))
+                .isInstanceOf(TaskValidationException.class);
+        assertThatThrownBy(() -> service.execute(USER_ID, "k".repeat(256), BODY, this::created))
+                .isInstanceOf(TaskValidationException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    private IdempotencyService.Response created() {
+        int execution = executions.incrementAndGet();
+        return new IdempotencyService.Response(201, "\"1\"", "{\"id\":" + execution + "}");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gerenciador de transações sem recurso, com sincronizações do Spring e falha de commit opcional
+     */
+    private static class FakeTransactionManager extends AbstractPlatformTransactionManager {
+
+        private volatile boolean failCommit;
+        private volatile Runnable beforeCommit = () -> { };
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            beforeCommit.run();
+            if (failCommit) {
+                throw new TransactionSystemException("Commit failed");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
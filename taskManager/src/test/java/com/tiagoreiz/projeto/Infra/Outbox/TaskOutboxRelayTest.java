@@ -0,0 +1,291 @@
+package com.tiagoreiz.projeto.Infra.Outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeEvent;
+import com.tiagoreiz.projeto.Core.Events.TaskChangeType;
+import com.tiagoreiz.projeto.Infra.Persistence.Entities.TaskOutboxPersistence;
+import com.tiagoreiz.projeto.Infra.Persistence.SpringData.TaskOutboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Entrega do TaskOutboxRelay com o JdbcTemplate simulado: as linhas do lote passam pelo
+ * RowMapper do relay e as atualizações enviadas ao banco são verificadas.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class TaskOutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private static final int BATCH_SIZE = 100;
+
+    // Mesmas opções de data do ObjectMapper do Spring Boot
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final TaskOutboxJpaRepository outboxRepository = mock(TaskOutboxJpaRepository.class);
+    private final TaskOutboxWriter writer = new TaskOutboxWriter(outboxRepository, objectMapper);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<TaskOutboxMessage> consumed = new ArrayList<>();
+
+    private TaskOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        relay = new TaskOutboxRelay(jdbcTemplate, transactionTemplate, List.of(consumed::add), writer,
+                new SimpleMeterRegistry(), CLOCK, BATCH_SIZE, 1, 3, 1000);
+    }
+
+    @Test
+    void importedEventGetsTheSamePayloadAsTheWriter() throws Exception {
+        Task task = new Task(41L, "Relatório \"Q1\"", "linha 1\nlinha 2", TaskStatus.PENDING, TaskPriority.HIGH,
+                NOW.minusHours(2), NOW.minusHours(2), NOW.plusDays(3), null, 7L, 0L);
+        LocalDateTime importedAt = NOW.minusHours(2);
+        givenBatch(importedRow(1L, task, importedAt));
+
+        relay.relay();
+
+        // Mesma tarefa publicada pelo caminho comum: o writer grava o payload na hora
+        writer.onTaskChanged(TaskChangeEvent.of(TaskChangeType.CREATED, task, importedAt));
+        ArgumentCaptor<TaskOutboxPersistence> saved = ArgumentCaptor.forClass(TaskOutboxPersistence.class);
+        verify(outboxRepository).save(saved.capture());
+
+        assertThat(consumed).hasSize(1);
+        assertThat(objectMapper.readTree(consumed.get(0).payload()))
+                .isEqualTo(objectMapper.readTree(saved.getValue().getPayload()));
+        assertThat(objectMapper.readValue(consumed.get(0).payload(), Map.class))
+                .containsEntry("type", "CREATED")
+                .containsEntry("taskId", 41)
+                .containsEntry("occurredAt", "2024-03-10T10:00:00");
+        assertThat(deletedIds()).containsExactly(1L);
+    }
+
+    @Test
+    void importedEventOfDeletedTaskIsDroppedWithoutDelivery() {
+        givenBatch(importedRow(1L, null, NOW));
+
+        relay.relay();
+
+        assertThat(consumed).isEmpty();
+        assertThat(deletedIds()).containsExactly(1L);
+        verify(jdbcTemplate, never()).batchUpdate(eq(TaskOutboxRelay.RESCHEDULE_FAILED), anyList());
+    }
+
+    @Test
+    void writtenPayloadIsDeliveredAsIs() {
+        givenBatch(row(1L, 41L, "UPDATED", "{\"type\":\"UPDATED\"}", 0));
+
+        relay.relay();
+
+        assertThat(consumed).singleElement()
+                .satisfies(message -> {
+                    assertThat(message.type()).isEqualTo(TaskChangeType.UPDATED);
+                    assertThat(message.payload()).isEqualTo("{\"type\":\"UPDATED\"}");
+                });
+        assertThat(deletedIds()).containsExactly(1L);
+    }
+
+    @Test
+    void failedDeliveryIsRescheduledWithExponentialBackoff() {
+        failingConsumerFor(2L);
+        givenBatch(row(1L, 41L, "UPDATED", "{}", 0), row(2L, 42L, "UPDATED", "{}", 1), row(3L, 43L, "DELETED", "{}", 0));
+
+        relay.relay();
+
+        // Uma falha não impede a entrega dos demais eventos do lote
+        assertThat(consumed).extracting(TaskOutboxMessage::id).containsExactly(1L, 3L);
+        assertThat(deletedIds()).containsExactly(1L, 3L);
+        Object[] failure = singleFailure();
+        assertThat(failure[0]).isEqualTo(2);
+        assertThat(failure[1]).isEqualTo("IllegalStateException: consumer down");
+        // Segunda tentativa: 1000 ms << 1
+        assertThat(failure[2]).isEqualTo(Timestamp.valueOf(NOW.plusSeconds(2)));
+        assertThat(failure[3]).isNull();
+        assertThat(failure[4]).isEqualTo(2L);
+    }
+
+    @Test
+    void lastAttemptIsDeadLettered() {
+        failingConsumerFor(1L);
+        givenBatch(row(1L, 41L, "UPDATED", "{}", 2));
+
+        relay.relay();
+
+        Object[] failure = singleFailure();
+        assertThat(failure[0]).isEqualTo(3);
+        assertThat(failure[3]).isEqualTo(Timestamp.valueOf(NOW));
+        verify(jdbcTemplate, never()).batchUpdate(eq(TaskOutboxRelay.DELETE_DELIVERED), anyList());
+    }
+
+    @Test
+    void longErrorMessageIsTruncated() {
+        relay = new TaskOutboxRelay(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                List.of(message -> {
+                    throw new IllegalArgumentException("x".repeat(5000));
+                }), writer, new SimpleMeterRegistry(), CLOCK, BATCH_SIZE, 1, 3, 1000);
+        givenBatch(row(1L, 41L, "UPDATED", "{}", 0));
+
+        relay.relay();
+
+        assertThat((String) singleFailure()[1]).hasSize(1000).startsWith("IllegalArgumentException: xxx");
+    }
+
+    @Test
+    void everyConsumerMustAcknowledgeBeforeTheEventIsRemoved() {
+        List<TaskOutboxMessage> second = new ArrayList<>();
+        relay = new TaskOutboxRelay(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                List.of(consumed::add, message -> {
+                    throw new IllegalStateException("analytics down");
+                }, second::add), writer, new SimpleMeterRegistry(), CLOCK, BATCH_SIZE, 1, 3, 1000);
+        givenBatch(row(1L, 41L, "UPDATED", "{}", 0));
+
+        relay.relay();
+
+        // O primeiro consumidor recebe de novo na próxima tentativa (at-least-once)
+        assertThat(consumed).hasSize(1);
+        assertThat(second).isEmpty();
+        assertThat(singleFailure()[4]).isEqualTo(1L);
+        verify(jdbcTemplate, never()).batchUpdate(eq(TaskOutboxRelay.DELETE_DELIVERED), anyList());
+    }
+
+    @Test
+    void fullBatchesAreDrainedUpToTheRunLimit() {
+        relay = new TaskOutboxRelay(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                List.of(consumed::add), writer, new SimpleMeterRegistry(), CLOCK, 1, 3, 3, 1000);
+        givenBatch(row(1L, 41L, "UPDATED", "{}", 0));
+
+        relay.relay();
+
+        // Cada lote veio cheio (1 de 1): o relay só para no limite de lotes por execução
+        assertThat(consumed).hasSize(3);
+    }
+
+    private void failingConsumerFor(long messageId) {
+        relay = new TaskOutboxRelay(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                List.of(message -> {
+                    if (message.id() == messageId) {
+                        throw new IllegalStateException("consumer down");
+                    }
+                    consumed.add(message);
+                }), writer, new SimpleMeterRegistry(), CLOCK, BATCH_SIZE, 1, 3, 1000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] singleFailure() {
+        ArgumentCaptor<List<Object[]>> failures = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(TaskOutboxRelay.RESCHEDULE_FAILED), failures.capture());
+        assertThat(failures.getValue()).hasSize(1);
+        return failures.getValue().get(0);
+    }
+
+    /**
+     * Faz o SELECT do lote devolver as linhas informadas, mapeadas pelo RowMapper do relay
+     */
+    @SuppressWarnings("unchecked")
+    private void givenBatch(Map<String, Object>... rows) {
+        when(jdbcTemplate.query(eq(TaskOutboxRelay.SELECT_BATCH), any(RowMapper.class), any(), any()))
+                .thenAnswer(invocation -> {
+                    RowMapper<TaskOutboxMessage> mapper = invocation.getArgument(1);
+                    List<TaskOutboxMessage> messages = new ArrayList<>();
+                    for (int i = 0; i < rows.length; i++) {
+                        messages.add(mapper.mapRow(resultSet(rows[i]), i));
+                    }
+                    return messages;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> deletedIds() {
+        ArgumentCaptor<List<Object[]>> ids = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(TaskOutboxRelay.DELETE_DELIVERED), ids.capture());
+        return ids.getValue().stream().map(args -> (Long) args[0]).toList();
+    }
+
+    private static Map<String, Object> row(long id, long taskId, String type, String payload, int attempts) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("task_id", taskId);
+        row.put("user_id", 7L);
+        row.put("event_type", type);
+        row.put("payload", payload);
+        row.put("created_at", Timestamp.valueOf(NOW.minusMinutes(1)));
+        row.put("attempts", attempts);
+        return row;
+    }
+
+    /**
+     * Linha de um CREATED da importação em massa, com as colunas do LEFT JOIN (nulas se a tarefa não existe)
+     */
+    private static Map<String, Object> importedRow(long id, Task task, LocalDateTime importedAt) {
+        Map<String, Object> row = row(id, task != null ? task.getId() : 99L, "CREATED", "", 0);
+        row.put("created_at", Timestamp.valueOf(importedAt));
+        if (task != null) {
+            row.put("task_row_id", task.getId());
+            row.put("title", task.getTitle());
+            row.put("description", task.getDescription());
+            row.put("status", task.getStatus().name());
+            row.put("priority", task.getPriority().name());
+            row.put("task_created_at", Timestamp.valueOf(task.getCreatedAt()));
+            row.put("updated_at", Timestamp.valueOf(task.getUpdatedAt()));
+            row.put("due_date", task.getDueDate() != null ? Timestamp.valueOf(task.getDueDate()) : null);
+            row.put("completed_at", task.getCompletedAt() != null ? Timestamp.valueOf(task.getCompletedAt()) : null);
+            row.put("version", task.getVersion());
+        }
+        return row;
+    }
+
+    /**
+     * ResultSet de uma única linha, lida por nome de coluna
+     */
+    private static ResultSet resultSet(Map<String, Object> row) {
+        Object[] last = new Object[1];
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("wasNull")) {
+                        return last[0] == null;
+                    }
+                    Object value = row.get((String) args[0]);
+                    last[0] = value;
+                    return switch (method.getName()) {
+                        case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                        case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                        case "getString", "getTimestamp" -> value;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+}
@@ -0,0 +1,157 @@
+package com.tiagoreiz.projeto.Infra.Persistence.Repositories;
+
+import com.tiagoreiz.projeto.Core.Entities.Task;
+import com.tiagoreiz.projeto.Core.Entities.TaskPatch;
+import com.tiagoreiz.projeto.Core.Entities.TaskPriority;
+import com.tiagoreiz.projeto.Core.Entities.TaskStatus;
+import com.tiagoreiz.projeto.Infra.Persistence.Mappers.TaskPersistenceMapper;
+import com.tiagoreiz.projeto.Infra.Persistence.SpringData.TaskJpaRepository;
+import com.tiagoreiz.projeto.Infra.Persistence.SpringData.UserJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UPDATE dinâmico do PATCH de tarefas: apenas as colunas informadas entram no SET,
+ * sempre com o incremento de versão e a condição de versão esperada.
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class TaskRepositoryImplPatchTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+    private static final String SUFFIX =
+            "t.updatedAt = :updatedAt, t.version = t.version + 1 WHERE t.id = :id AND t.version = :version";
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private final TaskRepositoryImpl repository = new TaskRepositoryImpl(mock(TaskJpaRepository.class),
+            mock(UserJpaRepository.class), mock(TaskPersistenceMapper.class), entityManager,
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    private String jpql;
+    private int updatedRows = 1;
+
+    @BeforeEach
+    void setUp() {
+        Query query = mock(Query.class, invocation -> {
+            switch (invocation.getMethod().getName()) {
+                case "setParameter" -> {
+                    parameters.put(invocation.getArgument(0), invocation.getArgument(1));
+                    return invocation.getMock();
+                }
+                case "executeUpdate" -> {
+                    return updatedRows;
+                }
+                default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+            }
+        });
+        when(entityManager.createQuery(anyString())).thenAnswer(invocation -> {
+            jpql = invocation.getArgument(0);
+            return query;
+        });
+    }
+
+    @Test
+    void onlyThePatchedColumnIsWritten() {
+        Task task = task();
+
+        Task patched = repository.patch(task, new TaskPatch().title("Novo título"));
+
+        assertThat(jpql).isEqualTo("UPDATE TaskPersistence t SET t.title = :title, " + SUFFIX);
+        assertThat(parameters).containsExactly(
+                entry("title", "Novo título"),
+                entry("updatedAt", NOW),
+                entry("id", 41L),
+                entry("version", 3L));
+        assertThat(patched.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void everyPatchedColumnIsWrittenInDeclarationOrder() {
+        LocalDateTime dueDate = NOW.plusDays(2);
+
+        repository.patch(task(), new TaskPatch()
+                .dueDate(dueDate)
+                .priority(TaskPriority.LOW)
+                .description("detalhes")
+                .title("Título"));
+
+        assertThat(jpql).isEqualTo("UPDATE TaskPersistence t SET t.title = :title, t.description = :description, "
+                + "t.priority = :priority, t.dueDate = :dueDate, " + SUFFIX);
+        assertThat(parameters).containsExactly(
+                entry("title", "Título"),
+                entry("description", "detalhes"),
+                entry("priority", TaskPriority.LOW),
+                entry("dueDate", dueDate),
+                entry("updatedAt", NOW),
+                entry("id", 41L),
+                entry("version", 3L));
+    }
+
+    @Test
+    void nullValueClearsTheColumn() {
+        repository.patch(task(), new TaskPatch().description(null).dueDate(null));
+
+        assertThat(jpql).isEqualTo("UPDATE TaskPersistence t SET t.description = :description, t.dueDate = :dueDate, " + SUFFIX);
+        assertThat(parameters)
+                .containsEntry("description", null)
+                .containsEntry("dueDate", null)
+                .doesNotContainKeys("title", "priority");
+    }
+
+    @Test
+    void emptyPatchOnlyBumpsVersionAndTimestamp() {
+        repository.patch(task(), new TaskPatch());
+
+        assertThat(jpql).isEqualTo("UPDATE TaskPersistence t SET " + SUFFIX);
+        assertThat(parameters).containsOnlyKeys("updatedAt", "id", "version");
+    }
+
+    @Test
+    void staleVersionIsAnOptimisticLockFailure() {
+        updatedRows = 0;
+        Task task = task();
+
+        assertThatThrownBy(() -> repository.patch(task, new TaskPatch().title("Novo título")))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(task.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void taskWithoutIdOrVersionIsRejectedBeforeQuerying() {
+        Task withoutVersion = task();
+        withoutVersion.setVersion(null);
+        Task withoutId = task();
+        withoutId.setId(null);
+
+        assertThatThrownBy(() -> repository.patch(withoutVersion, new TaskPatch().title("x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repository.patch(withoutId, new TaskPatch().title("x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(entityManager, never()).createQuery(anyString());
+    }
+
+    private static Task task() {
+        return new Task(41L, "Relatório", "texto", TaskStatus.PENDING, TaskPriority.HIGH,
+                NOW.minusDays(1), NOW, null, null, 7L, 3L);
+    }
+}
@@ -0,0 +1,125 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import com.tiagoreiz.projeto.Core.Exceptions.DependencyUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Transições do circuit breaker: abertura pela taxa de falhas na janela, recusa enquanto aberto
+ * e chamadas de teste no estado semiaberto
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class CircuitBreakerTest {
+
+    private static final long SLOW_CALL = TimeUnit.SECONDS.toNanos(1);
+    private static final long LONG_OPEN = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker("TaskRepository", 4, 4, 0.5, SLOW_CALL, LONG_OPEN, 1);
+
+        breaker.record(0, false);
+        breaker.record(0, true);
+        breaker.record(0, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.record(0, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker("TaskRepository", 10, 5, 0.5, SLOW_CALL, LONG_OPEN, 1);
+
+        for (int i = 0; i < 4; i++) {
+            breaker.record(0, true);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void slowCallsCountAsFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("TaskRepository", 2, 2, 1.0, SLOW_CALL, LONG_OPEN, 1);
+
+        breaker.record(SLOW_CALL, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.record(0, false);
+        breaker.record(SLOW_CALL + 1, false);
+        breaker.record(SLOW_CALL + 1, false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        CircuitBreaker breaker = new CircuitBreaker("TaskRepository", 4, 4, 0.75, SLOW_CALL, LONG_OPEN, 1);
+
+        breaker.record(0, true);
+        breaker.record(0, true);
+        breaker.record(0, false);
+        breaker.record(0, false);
+        // A primeira falha sai da janela: 2 de 4 continuam abaixo do limite
+        breaker.record(0, true);
+        breaker.record(0, false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void openCircuitRejectsWithRetryAfter() {
+        CircuitBreaker breaker = open(LONG_OPEN, 1);
+
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThatThrownBy(breaker::acquirePermission)
+                .isInstanceOfSatisfying(DependencyUnavailableException.class, e ->
+                        assertThat(e.getRetryAfterSeconds()).isEqualTo(3600L));
+    }
+
+    @Test
+    void halfOpenLimitsTrialCallsAndClosesAfterSuccesses() {
+        CircuitBreaker breaker = open(0, 2);
+
+        assertThat(breaker.isCallPermitted()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.record(0, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.record(0, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // A janela recomeça vazia depois de fechar
+        breaker.record(0, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedTrialCallReopens() {
+        CircuitBreaker breaker = open(0, 2);
+        breaker.tryAcquirePermission();
+
+        breaker.record(0, true);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static CircuitBreaker open(long openDurationNanos, int halfOpenCalls) {
+        CircuitBreaker breaker = new CircuitBreaker("TaskRepository", 2, 2, 0.5,
+                SLOW_CALL, openDurationNanos, halfOpenCalls);
+        breaker.record(0, true);
+        breaker.record(0, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
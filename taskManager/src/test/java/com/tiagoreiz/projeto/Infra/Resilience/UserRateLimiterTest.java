@@ -0,0 +1,128 @@
+package com.tiagoreiz.projeto.Infra.Resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Token bucket GCRA por usuário: rajada, reabastecimento, valores dos cabeçalhos RateLimit-*
+ * e consumo concorrente sem conceder tokens além da capacidade
+ *
+ * @author Tiago Reiz
+ * @version 1.0
+ */
+class UserRateLimiterTest {
+
+    private static final long IDLE_TTL = TimeUnit.MINUTES.toNanos(10);
+
+    /** Um token a cada 1000 s: nenhum reabastecimento acontece durante o teste */
+    private static final double NO_REFILL = 0.001;
+
+    @Test
+    void burstUpToCapacityThenRejects() {
+        UserRateLimiter limiter = new UserRateLimiter(3, NO_REFILL, 4, IDLE_TTL);
+
+        assertThat(limiter.tryAcquire(7L).remaining()).isEqualTo(2);
+        assertThat(limiter.tryAcquire(7L).remaining()).isEqualTo(1);
+        UserRateLimiter.Decision last = limiter.tryAcquire(7L);
+        UserRateLimiter.Decision rejected = limiter.tryAcquire(7L);
+
+        assertThat(last.allowed()).isTrue();
+        assertThat(last.remaining()).isZero();
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.limit()).isEqualTo(3);
+        assertThat(rejected.remaining()).isZero();
+        assertThat(UserRateLimiter.ceilSeconds(rejected.retryAfterNanos())).isEqualTo(1000L);
+        assertThat(UserRateLimiter.ceilSeconds(rejected.resetNanos())).isEqualTo(3000L);
+    }
+
+    @Test
+    void rejectedAttemptDoesNotConsumeAToken() {
+        UserRateLimiter limiter = new UserRateLimiter(1, NO_REFILL, 4, IDLE_TTL);
+        limiter.tryAcquire(7L);
+
+        long firstRetry = limiter.tryAcquire(7L).retryAfterNanos();
+        long secondRetry = limiter.tryAcquire(7L).retryAfterNanos();
+
+        assertThat(secondRetry).isLessThanOrEqualTo(firstRetry);
+    }
+
+    @Test
+    void tokensAreRefilledOverTime() throws InterruptedException {
+        UserRateLimiter limiter = new UserRateLimiter(1, 10, 4, IDLE_TTL);
+
+        assertThat(limiter.tryAcquire(7L).allowed()).isTrue();
+        UserRateLimiter.Decision rejected = limiter.tryAcquire(7L);
+        assertThat(rejected.allowed()).isFalse();
+
+        TimeUnit.NANOSECONDS.sleep(rejected.retryAfterNanos() + TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(limiter.tryAcquire(7L).allowed()).isTrue();
+    }
+
+    @Test
+    void bucketsAreIndependentPerUser() {
+        UserRateLimiter limiter = new UserRateLimiter(1, NO_REFILL, 4, IDLE_TTL);
+
+        assertThat(limiter.tryAcquire(7L).allowed()).isTrue();
+        assertThat(limiter.tryAcquire(7L).allowed()).isFalse();
+        assertThat(limiter.tryAcquire(8L).allowed()).isTrue();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheCapacity() throws Exception {
+        int capacity = 100;
+        UserRateLimiter limiter = new UserRateLimiter(capacity, NO_REFILL, 4, IDLE_TTL);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 50; i++) {
+                        if (limiter.tryAcquire(7L).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void windowIsTheTimeToRefillTheWholeBucket() {
+        assertThat(new UserRateLimiter(10, 5, 4, IDLE_TTL).windowSeconds()).isEqualTo(2L);
+        assertThat(new UserRateLimiter(1, 1000, 4, IDLE_TTL).windowSeconds()).isEqualTo(1L);
+        assertThat(UserRateLimiter.ceilSeconds(0)).isZero();
+        assertThat(UserRateLimiter.ceilSeconds(1)).isEqualTo(1L);
+        assertThat(UserRateLimiter.ceilSeconds(1_000_000_001L)).isEqualTo(2L);
+    }
+
+    @Test
+    void capacityAndRefillMustBePositive() {
+        assertThatThrownBy(() -> new UserRateLimiter(0, 1, 4, IDLE_TTL)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new UserRateLimiter(1, 0, 4, IDLE_TTL)).isInstanceOf(IllegalArgumentException.class);
+    }
+}